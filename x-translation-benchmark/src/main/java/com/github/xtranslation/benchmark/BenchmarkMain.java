@@ -0,0 +1,28 @@
+package com.github.xtranslation.benchmark;
+
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkMain: 基准测试入口
+ * <p>
+ * 接受与JMH相同的命令行参数(例如 {@code java -jar benchmarks.jar TransBenchmark -p rows=1000})，
+ * 并始终开启GC profiler，结果中的 gc.alloc.rate.norm 即每次操作的分配字节数。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
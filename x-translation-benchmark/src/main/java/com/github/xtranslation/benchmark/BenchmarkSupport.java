@@ -0,0 +1,104 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import com.github.xtranslation.core.resolver.TransObjResolverFactory;
+import com.github.xtranslation.core.resolver.ResultResolver;
+
+import java.util.*;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BenchmarkSupport: 基准测试公共的仓库注册与执行器
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * 内存字典  key: 字典分组  value: 字典
+     */
+    private static final Map<String, Map<String, String>> DICT = new HashMap<>();
+
+    static {
+        Map<String, String> sexDict = new HashMap<>();
+        sexDict.put("1", "男");
+        sexDict.put("2", "女");
+        Map<String, String> jobDict = new HashMap<>();
+        jobDict.put("1", "学习委员");
+        jobDict.put("2", "生活委员");
+        jobDict.put("3", "宣传委员");
+        jobDict.put("4", "班长");
+        DICT.put("sexDict", sexDict);
+        DICT.put("jobDict", jobDict);
+    }
+
+    private static volatile boolean registered;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 注册core测试中的内存翻译仓库(老师、科目、字典)和包装对象解析器，只注册一次
+     */
+    public static synchronized void registerRepositories() {
+        if (registered) {
+            return;
+        }
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransRepositoryFactory.register(new DictTransRepository(group -> DICT.getOrDefault(group, Collections.emptyMap())));
+        TransObjResolverFactory.register(new ResultResolver());
+        registered = true;
+    }
+
+    /**
+     * 在提交线程中直接执行任务的执行器，用于对比"并行"与"内联"两种执行方式
+     *
+     * @return 内联执行器
+     */
+    public static ExecutorService directExecutor() {
+        return new AbstractExecutorService() {
+
+            private volatile boolean shutdown;
+
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+
+            @Override
+            public void shutdown() {
+                shutdown = true;
+            }
+
+            @Override
+            public List<Runnable> shutdownNow() {
+                shutdown = true;
+                return Collections.emptyList();
+            }
+
+            @Override
+            public boolean isShutdown() {
+                return shutdown;
+            }
+
+            @Override
+            public boolean isTerminated() {
+                return shutdown;
+            }
+
+            @Override
+            public boolean awaitTermination(long timeout, TimeUnit unit) {
+                return true;
+            }
+        };
+    }
+
+}
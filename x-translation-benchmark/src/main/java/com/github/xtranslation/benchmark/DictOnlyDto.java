@@ -0,0 +1,33 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.annotation.DictTrans;
+import lombok.Data;
+
+/**
+ * DictOnlyDto: 只有字典翻译字段的DTO
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Data
+public class DictOnlyDto {
+
+    private Long id;
+
+    private String sex;
+
+    @DictTrans(trans = "sex", group = "sexDict")
+    private String sexName;
+
+    private String job;
+
+    @DictTrans(trans = "job", group = "jobDict")
+    private String jobName;
+
+    public DictOnlyDto(Long id, String sex, String job) {
+        this.id = id;
+        this.sex = sex;
+        this.job = job;
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.dto.UserDto2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * FieldShape: 基准测试中的翻译字段形态
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public enum FieldShape {
+
+    /**
+     * 只有字典翻译
+     */
+    DICT(DictOnlyDto.class) {
+        @Override
+        Object row(long i) {
+            return new DictOnlyDto(i, String.valueOf(i % 2 + 1), String.valueOf(i % 4 + 1));
+        }
+    },
+
+    /**
+     * 链式翻译：teacherId -> (teacherName, subjectId) -> subjectName，外加两个字典字段
+     */
+    CHAINED(UserDto.class) {
+        @Override
+        Object row(long i) {
+            return new UserDto(i, "用户" + i, i % 4 + 1, String.valueOf(i % 2 + 1), String.valueOf(i % 4 + 1));
+        }
+    },
+
+    /**
+     * 多值翻译：集合类型的源字段
+     */
+    MULTI_VALUED(UserDto2.class) {
+        @Override
+        Object row(long i) {
+            return new UserDto2(i, "用户" + i, Arrays.asList(i % 4 + 1, (i + 1) % 4 + 1), Arrays.asList(String.valueOf(i % 4 + 1), String.valueOf((i + 2) % 4 + 1)));
+        }
+    };
+
+    private final Class<?> type;
+
+    FieldShape(Class<?> type) {
+        this.type = type;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * 创建第i行数据
+     */
+    abstract Object row(long i);
+
+    /**
+     * 创建指定行数的数据
+     *
+     * @param rows 行数
+     * @return 数据列表
+     */
+    public List<Object> rows(int rows) {
+        List<Object> list = new ArrayList<>(rows);
+        for (long i = 0; i < rows; i++) {
+            list.add(row(i));
+        }
+        return list;
+    }
+
+}
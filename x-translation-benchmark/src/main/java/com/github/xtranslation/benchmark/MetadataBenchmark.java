@@ -0,0 +1,51 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.core.TransClassMeta;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MetadataBenchmark: 类元数据解析(冷)与缓存命中(热)的基准测试
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataBenchmark {
+
+    @Param({"DICT", "CHAINED", "MULTI_VALUED"})
+    public FieldShape shape;
+
+    private Class<?> type;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        type = shape.type();
+        TransClassMetaCacheManager.getTransClassMeta(type);
+    }
+
+    /**
+     * 缓存未命中时的完整解析
+     */
+    @Benchmark
+    public TransClassMeta cold() {
+        return new TransClassMeta(type);
+    }
+
+    /**
+     * 缓存命中
+     */
+    @Benchmark
+    public TransClassMeta warm() {
+        return TransClassMetaCacheManager.getTransClassMeta(type);
+    }
+
+}
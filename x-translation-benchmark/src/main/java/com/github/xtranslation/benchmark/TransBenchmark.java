@@ -0,0 +1,70 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.service.TransService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransBenchmark: 翻译主路径的基准测试
+ * <p>
+ * 覆盖单对象与10/1k/100k行列表、字典/链式/多值三种字段形态、线程池并行与当前线程内联两种执行方式。
+ * 同一批数据在每次调用中被重复翻译(翻译只覆盖目标字段，不影响源字段)，测量的是稳定状态下的开销，
+ * 元数据缓存此时已经预热，冷启动的元数据解析开销见 {@link MetadataBenchmark}。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransBenchmark {
+
+    @Param({"1", "10", "1000", "100000"})
+    public int rows;
+
+    @Param({"DICT", "CHAINED", "MULTI_VALUED"})
+    public FieldShape shape;
+
+    /**
+     * parallel: 默认的缓存线程池  inline: 在调用线程中直接执行
+     */
+    @Param({"parallel", "inline"})
+    public String execution;
+
+    private TransService transService;
+
+    /**
+     * 单行时直接翻译单个对象，否则翻译列表
+     */
+    private Object target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.registerRepositories();
+        transService = new TransService();
+        if ("inline".equals(execution)) {
+            transService.setExecutor(BenchmarkSupport.directExecutor());
+        }
+        transService.init();
+        List<Object> data = shape.rows(rows);
+        target = rows == 1 ? data.get(0) : data;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transService.getExecutor().shutdownNow();
+    }
+
+    @Benchmark
+    public boolean trans() {
+        return transService.trans(target);
+    }
+
+}
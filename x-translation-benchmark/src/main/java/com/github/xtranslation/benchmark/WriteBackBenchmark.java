@@ -0,0 +1,72 @@
+package com.github.xtranslation.benchmark;
+
+
+import com.github.xtranslation.core.service.TransService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WriteBackBenchmark: 并行阈值的基准测试
+ * <p>
+ * 在当前线程内联执行仓库查询，只比较提取翻译键和回写翻译值两个CPU密集阶段顺序执行与fork-join并行执行的差异，
+ * 两条曲线的交点就是 {@link TransService#DEFAULT_PARALLEL_THRESHOLD} 的取值依据。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBackBenchmark {
+
+    @Param({"1000", "5000", "10000", "50000", "100000"})
+    public int rows;
+
+    @Param({"DICT", "CHAINED", "MULTI_VALUED"})
+    public FieldShape shape;
+
+    /**
+     * sequential: 始终顺序执行  forkjoin: 始终并行执行
+     */
+    @Param({"sequential", "forkjoin"})
+    public String writeBack;
+
+    /**
+     * fork-join线程数，0表示使用公共线程池(公共线程池只有一个并行度时不会并行)
+     */
+    @Param({"0"})
+    public int parallelism;
+
+    private TransService transService;
+
+    private List<Object> data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkSupport.registerRepositories();
+        transService = new TransService();
+        transService.setExecutor(BenchmarkSupport.directExecutor());
+        transService.setParallelThreshold("forkjoin".equals(writeBack) ? 1 : 0);
+        transService.setParallelism(parallelism);
+        transService.init();
+        data = shape.rows(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transService.shutdown();
+        transService.getExecutor().shutdownNow();
+    }
+
+    @Benchmark
+    public boolean trans() {
+        return transService.trans(data);
+    }
+
+}
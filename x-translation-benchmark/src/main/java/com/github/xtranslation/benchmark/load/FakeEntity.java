@@ -0,0 +1,31 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * FakeEntity: 模拟仓库返回的实体
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Data
+@AllArgsConstructor
+public class FakeEntity {
+
+    private Long id;
+
+    private String name;
+
+    /**
+     * 关联的其他实体ID(用于链式翻译)
+     */
+    private Long refId;
+
+    /**
+     * 填充数据，用于模拟不同大小的结果
+     */
+    private String payload;
+
+}
@@ -0,0 +1,107 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * FakeTransRepository: 注入耗时与错误的模拟翻译仓库
+ * <p>
+ * 每次调用先按耗时分布阻塞调用线程，再按错误率随机抛出异常，否则按命中率返回实体。
+ * 命中与否由ID决定(同一个ID总是命中或总是不命中)，实体大小由填充字节数控制。
+ * 注解上的仓库类型决定查询路由，因此每种模拟数据需要一个子类。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+@Setter
+public class FakeTransRepository implements TransRepository {
+
+    private volatile LatencyDistribution latency = LatencyDistribution.fixed(0);
+
+    /**
+     * 调用失败的概率 [0, 1]
+     */
+    private volatile double errorRate;
+
+    /**
+     * ID能查到实体的比例 [0, 1]
+     */
+    private volatile double hitRatio = 1.0;
+
+    /**
+     * 每个实体的填充字节数
+     */
+    private volatile int payloadBytes = 16;
+
+    /**
+     * 关联ID的取值范围(链式翻译的下一级ID为 id % refKeySpace + 1)
+     */
+    private volatile long refKeySpace = 100;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder ids = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    @Override
+    public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        calls.increment();
+        ids.add(transIdList.size());
+        long latencyNanos = latency.sampleNanos();
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            errors.increment();
+            throw new IllegalStateException("injected failure: " + getClass().getSimpleName());
+        }
+        String payload = payloadBytes > 0 ? new String(new char[payloadBytes]).replace('\0', 'x') : null;
+        Map<Object, Object> result = new HashMap<>(transIdList.size() * 2);
+        for (Object transId : transIdList) {
+            long id = ((Number) transId).longValue();
+            if (hit(id)) {
+                result.put(transId, new FakeEntity(id, getClass().getSimpleName() + id, id % refKeySpace + 1, payload));
+            }
+        }
+        return result;
+    }
+
+    private boolean hit(long id) {
+        return hitRatio >= 1.0 || (Long.hashCode(id * 0x9E3779B97F4A7C15L) & 0x7fffffff) % 10000 < hitRatio * 10000;
+    }
+
+    /**
+     * 清零调用统计
+     */
+    public void resetCounters() {
+        calls.reset();
+        ids.reset();
+        errors.reset();
+    }
+
+    /**
+     * 模拟的用户仓库
+     */
+    public static class Users extends FakeTransRepository {
+    }
+
+    /**
+     * 模拟的部门仓库
+     */
+    public static class Depts extends FakeTransRepository {
+    }
+
+}
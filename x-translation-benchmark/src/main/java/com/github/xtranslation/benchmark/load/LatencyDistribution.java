@@ -0,0 +1,86 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LatencyDistribution: 模拟仓库调用的耗时分布
+ * <p>
+ * 支持以下写法(单位毫秒)：
+ * 1. fixed:5       固定5ms
+ * 2. uniform:2-10  2~10ms均匀分布
+ * 3. exp:5         均值5ms的指数分布(长尾，接近真实数据库的耗时形态)
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public abstract class LatencyDistribution {
+
+    /**
+     * 采样一次耗时
+     *
+     * @return 耗时(纳秒)
+     */
+    public abstract long sampleNanos();
+
+    /**
+     * 解析耗时分布
+     *
+     * @param spec 分布描述，例如 exp:5
+     * @return 耗时分布
+     */
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.split(":", 2);
+        String type = parts[0];
+        String arg = parts.length > 1 ? parts[1] : "0";
+        switch (type) {
+            case "fixed":
+                return fixed(Double.parseDouble(arg));
+            case "uniform":
+                String[] range = arg.split("-", 2);
+                return uniform(Double.parseDouble(range[0]), Double.parseDouble(range[1]));
+            case "exp":
+                return exponential(Double.parseDouble(arg));
+            default:
+                throw new IllegalArgumentException("unknown latency distribution: " + spec);
+        }
+    }
+
+    public static LatencyDistribution fixed(double millis) {
+        long nanos = toNanos(millis);
+        return new LatencyDistribution() {
+            @Override
+            public long sampleNanos() {
+                return nanos;
+            }
+        };
+    }
+
+    public static LatencyDistribution uniform(double minMillis, double maxMillis) {
+        long min = toNanos(minMillis);
+        long max = toNanos(maxMillis);
+        return new LatencyDistribution() {
+            @Override
+            public long sampleNanos() {
+                return max <= min ? min : ThreadLocalRandom.current().nextLong(min, max);
+            }
+        };
+    }
+
+    public static LatencyDistribution exponential(double meanMillis) {
+        double mean = toNanos(meanMillis);
+        return new LatencyDistribution() {
+            @Override
+            public long sampleNanos() {
+                return (long) (-mean * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+            }
+        };
+    }
+
+    private static long toNanos(double millis) {
+        return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+}
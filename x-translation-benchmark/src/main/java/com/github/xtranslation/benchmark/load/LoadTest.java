@@ -0,0 +1,162 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import com.github.xtranslation.benchmark.BenchmarkSupport;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadTest: 端到端压测
+ * <p>
+ * N个调用方线程在指定时长内循环调用 {@link TransService#trans(Object)}，每次翻译一批新建的 {@link LoadTestDto}，
+ * 翻译仓库为注入耗时、错误率和结果大小的 {@link FakeTransRepository}。用于在没有真实数据库的情况下
+ * 对比不同的线程池、分批、超时和通道调度配置在并发下的吞吐、耗时百分位与线程数。
+ * </p>
+ * <p>
+ * 运行方式：{@code java -cp benchmarks.jar com.github.xtranslation.benchmark.load.LoadTest callers=32 latency=exp:5}
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class LoadTest {
+
+    private final LoadTestOptions options;
+
+    private final FakeTransRepository users = new FakeTransRepository.Users();
+
+    private final FakeTransRepository depts = new FakeTransRepository.Depts();
+
+    public LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println(new LoadTest(LoadTestOptions.parse(args)).run());
+    }
+
+    /**
+     * 执行压测(先预热，再正式计时)
+     *
+     * @return 压测结果
+     * @throws InterruptedException 被中断
+     */
+    public LoadTestReport run() throws InterruptedException {
+        BenchmarkSupport.registerRepositories();
+        configureRepository(users, options.getLatency());
+        configureRepository(depts, options.getDeptLatency() == null ? options.getLatency() : options.getDeptLatency());
+        depts.setRefKeySpace(Math.max(1, options.getKeySpace()));
+        users.setRefKeySpace(Math.max(1, options.getKeySpace() / 10));
+
+        TransService transService = new TransService();
+        transService.setExecutor(createExecutor(options.getExecutor()));
+        transService.setLaneWorkers(options.getLaneWorkers());
+        transService.init();
+        try {
+            if (options.getWarmupSeconds() > 0) {
+                drive(transService, options.getWarmupSeconds());
+            }
+            users.resetCounters();
+            depts.resetCounters();
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            threadMXBean.resetPeakThreadCount();
+
+            long start = System.nanoTime();
+            Result result = drive(transService, options.getDurationSeconds());
+            long elapsed = System.nanoTime() - start;
+
+            LoadTestReport report = new LoadTestReport(options, elapsed, result.failed, result.latencies, threadMXBean.getThreadCount(), threadMXBean.getPeakThreadCount());
+            report.addRepository(users);
+            report.addRepository(depts);
+            return report;
+        } finally {
+            transService.getExecutor().shutdownNow();
+        }
+    }
+
+    private void configureRepository(FakeTransRepository repository, String latency) {
+        repository.setLatency(LatencyDistribution.parse(latency));
+        repository.setErrorRate(options.getErrorRate());
+        repository.setHitRatio(options.getHitRatio());
+        repository.setPayloadBytes(options.getPayloadBytes());
+        TransRepositoryFactory.register(repository);
+        TransRepositoryConfig config = TransRepositoryConfig.of(repository);
+        config.setMaxBatchSize(options.getMaxBatchSize());
+        config.setBatchConcurrency(options.getBatchConcurrency());
+        config.setTimeoutMillis(options.getTimeoutMillis());
+        TransRepositoryFactory.configure(repository.getClass(), config);
+    }
+
+    private static ExecutorService createExecutor(String spec) {
+        if ("inline".equals(spec)) {
+            return BenchmarkSupport.directExecutor();
+        }
+        if (spec.startsWith("fixed:")) {
+            return Executors.newFixedThreadPool(Integer.parseInt(spec.substring("fixed:".length())));
+        }
+        if ("cached".equals(spec)) {
+            // 交给TransService按默认方式创建
+            return null;
+        }
+        throw new IllegalArgumentException("unknown executor: " + spec);
+    }
+
+    /**
+     * 所有调用方线程在指定时长内循环翻译
+     */
+    private Result drive(TransService transService, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        LongAdder failed = new LongAdder();
+        List<List<Long>> perCaller = new ArrayList<>();
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < options.getCallers(); i++) {
+            List<Long> latencies = new ArrayList<>();
+            perCaller.add(latencies);
+            Thread thread = new Thread(() -> {
+                long rowId = 0;
+                while (System.nanoTime() < deadline) {
+                    List<LoadTestDto> rows = new ArrayList<>(options.getRows());
+                    for (int r = 0; r < options.getRows(); r++) {
+                        rows.add(new LoadTestDto(rowId++, ThreadLocalRandom.current().nextLong(options.getKeySpace()) + 1));
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        transService.trans(rows);
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                    }
+                    latencies.add(System.nanoTime() - start);
+                }
+            }, "load-test-caller-" + i);
+            callers.add(thread);
+            thread.start();
+        }
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        long[] all = perCaller.stream().flatMap(List::stream).mapToLong(Long::longValue).toArray();
+        return new Result(all, failed.sum());
+    }
+
+    private static final class Result {
+
+        private final long[] latencies;
+
+        private final long failed;
+
+        Result(long[] latencies, long failed) {
+            this.latencies = latencies;
+            this.failed = failed;
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import lombok.Data;
+
+/**
+ * LoadTestDto: 压测使用的DTO(userId -> userName/deptId -> deptName 的链式翻译)
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Data
+public class LoadTestDto {
+
+    private Long id;
+
+    private Long userId;
+
+    @Trans(transKey = "userId", transField = "name", repository = FakeTransRepository.Users.class)
+    private String userName;
+
+    @Trans(transKey = "userId", transField = "refId", repository = FakeTransRepository.Users.class)
+    private Long deptId;
+
+    @Trans(transKey = "deptId", transField = "name", repository = FakeTransRepository.Depts.class)
+    private String deptName;
+
+    public LoadTestDto(Long id, Long userId) {
+        this.id = id;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,131 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * LoadTestOptions: 压测参数
+ * <p>
+ * 命令行参数使用 key=value 形式，未指定的参数使用默认值，例如：
+ * {@code callers=32 rows=200 latency=exp:5 executor=fixed:16 maxBatchSize=100 batchConcurrency=4}
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Data
+public class LoadTestOptions {
+
+    /**
+     * 并发调用方(线程)个数
+     */
+    private int callers = 16;
+
+    /**
+     * 预热时长(秒)，预热期间的结果不计入报告
+     */
+    private int warmupSeconds = 3;
+
+    /**
+     * 压测时长(秒)
+     */
+    private int durationSeconds = 10;
+
+    /**
+     * 每次翻译调用的行数
+     */
+    private int rows = 100;
+
+    /**
+     * 用户ID的取值范围，决定单次调用中的去重比例
+     */
+    private long keySpace = 10000;
+
+    /**
+     * 用户仓库的耗时分布，见 {@link LatencyDistribution#parse(String)}
+     */
+    private String latency = "exp:5";
+
+    /**
+     * 部门仓库的耗时分布，为空时与用户仓库相同
+     */
+    private String deptLatency;
+
+    /**
+     * 仓库调用失败的概率
+     */
+    private double errorRate;
+
+    /**
+     * ID能查到实体的比例
+     */
+    private double hitRatio = 1.0;
+
+    /**
+     * 每个实体的填充字节数
+     */
+    private int payloadBytes = 16;
+
+    /**
+     * 翻译线程池：cached(默认的缓存线程池)、fixed:N(固定N个线程)、inline(在调用线程中执行)
+     */
+    private String executor = "cached";
+
+    /**
+     * 仓库单次调用最多携带的ID个数，0表示不拆分
+     */
+    private int maxBatchSize;
+
+    /**
+     * 子批次并发数
+     */
+    private int batchConcurrency = 1;
+
+    /**
+     * 仓库调用超时(毫秒)，0表示不限制
+     */
+    private long timeoutMillis;
+
+    /**
+     * 通道调度的工作线程数，0表示不开启
+     */
+    private int laneWorkers;
+
+    /**
+     * 解析 key=value 形式的命令行参数
+     *
+     * @param args 命令行参数
+     * @return 压测参数
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> map = new HashMap<>();
+        for (String arg : args) {
+            int idx = arg.indexOf('=');
+            if (idx <= 0) {
+                throw new IllegalArgumentException("expected key=value but got: " + arg);
+            }
+            map.put(arg.substring(0, idx), arg.substring(idx + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions();
+        options.callers = Integer.parseInt(map.getOrDefault("callers", String.valueOf(options.callers)));
+        options.warmupSeconds = Integer.parseInt(map.getOrDefault("warmupSeconds", String.valueOf(options.warmupSeconds)));
+        options.durationSeconds = Integer.parseInt(map.getOrDefault("durationSeconds", String.valueOf(options.durationSeconds)));
+        options.rows = Integer.parseInt(map.getOrDefault("rows", String.valueOf(options.rows)));
+        options.keySpace = Long.parseLong(map.getOrDefault("keySpace", String.valueOf(options.keySpace)));
+        options.latency = map.getOrDefault("latency", options.latency);
+        options.deptLatency = map.get("deptLatency");
+        options.errorRate = Double.parseDouble(map.getOrDefault("errorRate", String.valueOf(options.errorRate)));
+        options.hitRatio = Double.parseDouble(map.getOrDefault("hitRatio", String.valueOf(options.hitRatio)));
+        options.payloadBytes = Integer.parseInt(map.getOrDefault("payloadBytes", String.valueOf(options.payloadBytes)));
+        options.executor = map.getOrDefault("executor", options.executor);
+        options.maxBatchSize = Integer.parseInt(map.getOrDefault("maxBatchSize", String.valueOf(options.maxBatchSize)));
+        options.batchConcurrency = Integer.parseInt(map.getOrDefault("batchConcurrency", String.valueOf(options.batchConcurrency)));
+        options.timeoutMillis = Long.parseLong(map.getOrDefault("timeoutMillis", String.valueOf(options.timeoutMillis)));
+        options.laneWorkers = Integer.parseInt(map.getOrDefault("laneWorkers", String.valueOf(options.laneWorkers)));
+        return options;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.github.xtranslation.benchmark.load;
+
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoadTestReport: 压测结果
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+public class LoadTestReport {
+
+    private final LoadTestOptions options;
+
+    private final long elapsedNanos;
+
+    private final long calls;
+
+    private final long failedCalls;
+
+    /**
+     * 已排序的调用耗时(纳秒)
+     */
+    private final long[] latencies;
+
+    private final int liveThreads;
+
+    private final int peakThreads;
+
+    /**
+     * 仓库统计  key: 仓库名称  value: [调用次数, ID个数, 注入的失败次数]
+     */
+    private final Map<String, long[]> repositories = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestOptions options, long elapsedNanos, long failedCalls, long[] latencies, int liveThreads, int peakThreads) {
+        this.options = options;
+        this.elapsedNanos = elapsedNanos;
+        this.calls = latencies.length;
+        this.failedCalls = failedCalls;
+        this.latencies = latencies;
+        Arrays.sort(this.latencies);
+        this.liveThreads = liveThreads;
+        this.peakThreads = peakThreads;
+    }
+
+    void addRepository(FakeTransRepository repository) {
+        repositories.put(repository.getClass().getSimpleName(), new long[]{repository.getCalls().sum(), repository.getIds().sum(), repository.getErrors().sum()});
+    }
+
+    /**
+     * @return 每秒完成的翻译调用数
+     */
+    public double throughput() {
+        return calls / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * 耗时百分位
+     *
+     * @param percentile 百分位 (0, 100]
+     * @return 耗时(纳秒)
+     */
+    public long percentile(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(idx, latencies.length - 1))];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("options: ").append(options).append(System.lineSeparator());
+        sb.append(String.format("calls=%d failed=%d throughput=%.1f calls/s (%.1f rows/s)%n", calls, failedCalls, throughput(), throughput() * options.getRows()));
+        sb.append(String.format("latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                millis(percentile(50)), millis(percentile(90)), millis(percentile(99)), millis(percentile(99.9)), millis(percentile(100))));
+        sb.append(String.format("threads live=%d peak=%d%n", liveThreads, peakThreads));
+        repositories.forEach((name, stats) -> sb.append(String.format("repository %s calls=%d ids=%d ids/call=%.1f calls/trans=%.2f injectedErrors=%d%n",
+                name, stats[0], stats[1], stats[0] == 0 ? 0.0 : (double) stats[1] / stats[0], calls == 0 ? 0.0 : (double) stats[0] / calls, stats[2])));
+        return sb.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
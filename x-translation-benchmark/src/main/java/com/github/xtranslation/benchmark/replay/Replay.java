@@ -0,0 +1,260 @@
+package com.github.xtranslation.benchmark.replay;
+
+
+import com.github.xtranslation.benchmark.BenchmarkSupport;
+import com.github.xtranslation.core.record.TransRecord;
+import com.github.xtranslation.core.record.TransRecorder;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransService;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replay: 把 {@link TransRecorder} 录制的线上调用形态回放到模拟仓库上
+ * <p>
+ * 每条记录还原为一批 {@link ReplayDto}：行数、各阶段的去重ID(使用录制的ID哈希)与录制时一致，
+ * 不依赖其他阶段的查询(按ID个数从大到小最多4个)映射到 s0~s3，依赖 s0 所在阶段的第一个查询映射到链式字段，
+ * 其余阶段无法映射，计入报告中的 unmappedStages。这样不需要业务DTO和真实数据库，
+ * 就能在真实的调用形态分布上离线对比分批、并发、线程池等配置。
+ * </p>
+ * <p>
+ * 运行方式：{@code java -cp benchmarks.jar com.github.xtranslation.benchmark.replay.Replay trans.rec callers=8 speed=0 maxBatchSize=200}
+ * 参数：callers 回放线程数；speed 回放速度(0表示尽快回放，1表示按录制时的节奏)；baseLatencyMillis 仓库每次调用的基础耗时；
+ * executor 翻译线程池(cached/fixed:N/inline)；maxBatchSize、batchConcurrency 仓库分批配置。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class Replay {
+
+    private static final int SLOTS = 4;
+
+    private final List<TransRecord> records;
+
+    private final Map<String, String> options;
+
+    private final ReplayRepository[] slots = {new ReplayRepository.Slot0(), new ReplayRepository.Slot1(), new ReplayRepository.Slot2(), new ReplayRepository.Slot3()};
+
+    private final ReplayRepository chain = new ReplayRepository.Chain0();
+
+    private int unmappedStages;
+
+    public Replay(List<TransRecord> records, Map<String, String> options) {
+        this.records = records;
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 0) {
+            System.err.println("usage: Replay <record-file> [key=value ...]");
+            return;
+        }
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            int idx = args[i].indexOf('=');
+            options.put(args[i].substring(0, idx), args[i].substring(idx + 1));
+        }
+        System.out.println(new Replay(TransRecorder.read(Paths.get(args[0])), options).run());
+    }
+
+    /**
+     * 执行回放
+     *
+     * @return 回放报告
+     * @throws InterruptedException 被中断
+     */
+    public String run() throws InterruptedException {
+        BenchmarkSupport.registerRepositories();
+        List<Mapping> mappings = new ArrayList<>(records.size());
+        for (TransRecord record : records) {
+            mappings.add(map(record));
+        }
+        configureLatency(mappings);
+
+        TransService transService = new TransService();
+        String executor = options.getOrDefault("executor", "cached");
+        if ("inline".equals(executor)) {
+            transService.setExecutor(BenchmarkSupport.directExecutor());
+        } else if (executor.startsWith("fixed:")) {
+            transService.setExecutor(Executors.newFixedThreadPool(Integer.parseInt(executor.substring("fixed:".length()))));
+        }
+        transService.init();
+
+        int callers = Integer.parseInt(options.getOrDefault("callers", "1"));
+        double speed = Double.parseDouble(options.getOrDefault("speed", "0"));
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        LongAdder failed = new LongAdder();
+        long firstTimestamp = records.isEmpty() ? 0 : records.get(0).getTimestampMillis();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                if (speed > 0) {
+                    // 按录制时的时间间隔(除以回放速度)提交
+                    long dueNanos = (long) (TimeUnit.MILLISECONDS.toNanos(records.get(i).getTimestampMillis() - firstTimestamp) / speed);
+                    long waitNanos = dueNanos - (System.nanoTime() - start);
+                    if (waitNanos > 0) {
+                        TimeUnit.NANOSECONDS.sleep(waitNanos);
+                    }
+                }
+                Mapping mapping = mappings.get(i);
+                callerPool.execute(() -> {
+                    List<ReplayDto> rows = mapping.rows();
+                    long callStart = System.nanoTime();
+                    try {
+                        transService.trans(rows);
+                    } catch (RuntimeException e) {
+                        failed.increment();
+                    }
+                    latencies.add(System.nanoTime() - callStart);
+                });
+            }
+            callerPool.shutdown();
+            callerPool.awaitTermination(1, TimeUnit.HOURS);
+        } finally {
+            callerPool.shutdownNow();
+            transService.getExecutor().shutdownNow();
+        }
+        return report(System.nanoTime() - start, latencies, failed.sum());
+    }
+
+    /**
+     * 把记录中的阶段映射到回放DTO的字段上
+     */
+    private Mapping map(TransRecord record) {
+        List<TransRecord.Stage> stages = record.getStages();
+        // 没有查询任何ID的阶段(例如仓库未注册)不参与映射
+        List<Integer> roots = new ArrayList<>();
+        int nonEmptyStages = 0;
+        for (int i = 0; i < stages.size(); i++) {
+            if (stages.get(i).getIdHashes().length == 0) {
+                continue;
+            }
+            nonEmptyStages++;
+            if (stages.get(i).getDependsOn() < 0) {
+                roots.add(i);
+            }
+        }
+        roots.sort((a, b) -> Integer.compare(stages.get(b).getIdCount(), stages.get(a).getIdCount()));
+        Mapping mapping = new Mapping(record.getRowCount());
+        for (int k = 0; k < Math.min(SLOTS, roots.size()); k++) {
+            mapping.slots[k] = stages.get(roots.get(k));
+        }
+        if (!roots.isEmpty()) {
+            int slot0Stage = roots.get(0);
+            stages.stream().filter(s -> s.getDependsOn() == slot0Stage && s.getIdHashes().length > 0).findFirst().ifPresent(s -> mapping.chain = s);
+        }
+        int mapped = Math.min(SLOTS, roots.size()) + (mapping.chain == null ? 0 : 1);
+        unmappedStages += nonEmptyStages - mapped;
+
+        // s0 的第j个ID翻译出链式字段的第j个ID
+        if (mapping.chain != null) {
+            long[] parents = mapping.slots[0].getIdHashes();
+            long[] children = mapping.chain.getIdHashes();
+            for (int j = 0; j < parents.length; j++) {
+                slots[0].getRefs().put(parents[j], children[j % children.length]);
+            }
+        }
+        return mapping;
+    }
+
+    /**
+     * 根据录制的耗时计算每个模拟仓库的单个ID耗时
+     */
+    private void configureLatency(List<Mapping> mappings) {
+        long baseNanos = (long) (Double.parseDouble(options.getOrDefault("baseLatencyMillis", "1")) * TimeUnit.MILLISECONDS.toNanos(1));
+        for (int k = 0; k <= SLOTS; k++) {
+            ReplayRepository repository = k < SLOTS ? slots[k] : chain;
+            long totalNanos = 0;
+            long totalIds = 0;
+            for (Mapping mapping : mappings) {
+                TransRecord.Stage stage = k < SLOTS ? mapping.slots[k] : mapping.chain;
+                if (stage != null) {
+                    totalNanos += Math.max(0, stage.getFetchNanos() - baseNanos);
+                    totalIds += stage.getIdCount();
+                }
+            }
+            repository.setBaseNanos(baseNanos);
+            repository.setPerIdNanos(totalIds == 0 ? 0 : totalNanos / totalIds);
+            TransRepositoryFactory.register(repository);
+            TransRepositoryConfig config = TransRepositoryConfig.of(repository);
+            config.setMaxBatchSize(Integer.parseInt(options.getOrDefault("maxBatchSize", "0")));
+            config.setBatchConcurrency(Integer.parseInt(options.getOrDefault("batchConcurrency", "1")));
+            TransRepositoryFactory.configure(repository.getClass(), config);
+        }
+    }
+
+    private String report(long elapsedNanos, Queue<Long> latencyQueue, long failed) {
+        long[] latencies = latencyQueue.stream().mapToLong(Long::longValue).sorted().toArray();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("records=%d unmappedStages=%d failed=%d elapsed=%.1fms throughput=%.1f calls/s%n",
+                records.size(), unmappedStages, failed, elapsedNanos / 1e6, latencies.length / (elapsedNanos / 1e9)));
+        sb.append(String.format("latency(ms) p50=%.2f p90=%.2f p99=%.2f max=%.2f%n",
+                percentile(latencies, 50) / 1e6, percentile(latencies, 90) / 1e6, percentile(latencies, 99) / 1e6, percentile(latencies, 100) / 1e6));
+        for (int k = 0; k <= SLOTS; k++) {
+            ReplayRepository repository = k < SLOTS ? slots[k] : chain;
+            long calls = repository.getCalls().sum();
+            long ids = repository.getIds().sum();
+            sb.append(String.format("%s calls=%d ids=%d ids/call=%.1f repeatedIds=%.1f%% perIdLatency=%dus%n",
+                    repository.getClass().getSimpleName(), calls, ids, calls == 0 ? 0.0 : (double) ids / calls,
+                    ids == 0 ? 0.0 : repository.getRepeatedIds().sum() * 100.0 / ids, TimeUnit.NANOSECONDS.toMicros(repository.getPerIdNanos())));
+        }
+        return sb.toString();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+    }
+
+    /**
+     * 一条记录到回放DTO字段的映射
+     */
+    private static final class Mapping {
+
+        private final int rowCount;
+
+        private final TransRecord.Stage[] slots = new TransRecord.Stage[SLOTS];
+
+        private TransRecord.Stage chain;
+
+        Mapping(int rowCount) {
+            this.rowCount = rowCount;
+        }
+
+        /**
+         * 生成回放用的行：每个源字段依次填入录制的ID哈希，非空的行数与录制时的ID个数一致
+         */
+        List<ReplayDto> rows() {
+            List<ReplayDto> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                ReplayDto row = new ReplayDto();
+                row.setS0(idAt(slots[0], i));
+                row.setS1(idAt(slots[1], i));
+                row.setS2(idAt(slots[2], i));
+                row.setS3(idAt(slots[3], i));
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        private Long idAt(TransRecord.Stage stage, int row) {
+            if (stage == null || stage.getIdHashes().length == 0) {
+                return null;
+            }
+            int nonNullRows = Math.max(stage.getIdHashes().length, stage.getKeyCount());
+            return row < nonNullRows ? stage.getIdHashes()[row % stage.getIdHashes().length] : null;
+        }
+
+    }
+
+}
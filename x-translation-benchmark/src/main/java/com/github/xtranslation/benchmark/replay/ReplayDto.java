@@ -0,0 +1,46 @@
+package com.github.xtranslation.benchmark.replay;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import lombok.Data;
+
+/**
+ * ReplayDto: 回放使用的通用DTO
+ * <p>
+ * 4个相互独立的源字段(s0~s3)分别对应4个模拟仓库，用来承载录制中最多4个不依赖其他阶段的查询；
+ * s0 翻译出的 c0 再经过链式仓库翻译，用来承载依赖 s0 的查询。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Data
+public class ReplayDto {
+
+    private Long s0;
+
+    @Trans(transKey = "s0", transField = "name", repository = ReplayRepository.Slot0.class)
+    private String s0Name;
+
+    @Trans(transKey = "s0", transField = "refId", repository = ReplayRepository.Slot0.class)
+    private Long c0;
+
+    @Trans(transKey = "c0", transField = "name", repository = ReplayRepository.Chain0.class)
+    private String c0Name;
+
+    private Long s1;
+
+    @Trans(transKey = "s1", transField = "name", repository = ReplayRepository.Slot1.class)
+    private String s1Name;
+
+    private Long s2;
+
+    @Trans(transKey = "s2", transField = "name", repository = ReplayRepository.Slot2.class)
+    private String s2Name;
+
+    private Long s3;
+
+    @Trans(transKey = "s3", transField = "name", repository = ReplayRepository.Slot3.class)
+    private String s3Name;
+
+}
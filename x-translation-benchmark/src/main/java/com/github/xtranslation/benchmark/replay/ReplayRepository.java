@@ -0,0 +1,83 @@
+package com.github.xtranslation.benchmark.replay;
+
+
+import com.github.xtranslation.benchmark.load.FakeEntity;
+import com.github.xtranslation.core.repository.TransRepository;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ReplayRepository: 回放使用的模拟仓库
+ * <p>
+ * 耗时按 基础耗时 + 单个ID耗时 × ID个数 模拟，单个ID耗时取自录制中对应阶段的平均值。
+ * 同时统计此前已经查询过的ID个数，即一个不限容量的缓存能够命中的上限。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+@Setter
+public class ReplayRepository implements TransRepository {
+
+    private volatile long baseNanos;
+
+    private volatile long perIdNanos;
+
+    /**
+     * 链式翻译的下一级ID  key: 本仓库的ID  value: 下一级ID
+     */
+    private final Map<Long, Long> refs = new ConcurrentHashMap<>();
+
+    private final Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder ids = new LongAdder();
+
+    private final LongAdder repeatedIds = new LongAdder();
+
+    @Override
+    public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        calls.increment();
+        ids.add(transIdList.size());
+        long nanos = baseNanos + perIdNanos * transIdList.size();
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+        Map<Object, Object> result = new HashMap<>(transIdList.size() * 2);
+        for (Object transId : transIdList) {
+            Long id = (Long) transId;
+            if (!seen.add(id)) {
+                repeatedIds.increment();
+            }
+            result.put(transId, new FakeEntity(id, "n", refs.get(id), null));
+        }
+        return result;
+    }
+
+    public static class Slot0 extends ReplayRepository {
+    }
+
+    public static class Slot1 extends ReplayRepository {
+    }
+
+    public static class Slot2 extends ReplayRepository {
+    }
+
+    public static class Slot3 extends ReplayRepository {
+    }
+
+    public static class Chain0 extends ReplayRepository {
+    }
+
+}
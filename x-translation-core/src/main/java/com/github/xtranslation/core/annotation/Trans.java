@@ -20,14 +20,24 @@ import java.lang.annotation.Target;
 public @interface Trans {
 
     /**
-     * transKey属性名常量
+     * 组合注解(例如@DictTrans)中与transKey对应的属性名常量
      */
-    String TRANS_KEY_ATTR = "transKey";
+    String TRANS_KEY_ATTR = "trans";
 
     /**
-     * transField属性名常量
+     * 组合注解(例如@DictTrans)中与transField对应的属性名常量
      */
-    String TRANS_FIELD_ATTR = "transField";
+    String TRANS_FIELD_ATTR = "key";
+
+    /**
+     * 组合注解中与transKey对应的旧属性名常量(与transKey同名)，仍然兼容
+     */
+    String LEGACY_TRANS_KEY_ATTR = "transKey";
+
+    /**
+     * 组合注解中与transField对应的旧属性名常量(与transField同名)，仍然兼容
+     */
+    String LEGACY_TRANS_FIELD_ATTR = "transField";
 
     /**
      * @return 待翻译的数据对应的主键key(例如:部门表主键字段deptId)
@@ -0,0 +1,34 @@
+package com.github.xtranslation.core.annotation;
+
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TransResult: 声明翻译仓库返回的结果类型
+ * <p>
+ * 标注在翻译仓库上，编译时由 {@link com.github.xtranslation.core.processor.TransMetadataProcessor} 为这些类型生成反射配置，
+ * GraalVM native-image 中引擎才能读取结果对象的属性。结果是Map的仓库(例如字典仓库)不需要标注。
+ * </p>
+ * <pre>
+ * &#64;TransResult(TeacherDto.class)
+ * public class TeacherTransRepository implements TransRepository { ... }
+ * </pre>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface TransResult {
+
+    /**
+     * @return 结果类型
+     */
+    Class<?>[] value();
+
+}
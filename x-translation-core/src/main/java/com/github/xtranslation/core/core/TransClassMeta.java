@@ -216,16 +216,12 @@ public class TransClassMeta implements Serializable {
                     // 处理 trans 属性值，优先使用注解直接定义的值，否则通过反射获取
                     String trans = Option.of(transAnno.transKey())
                             .filter(StrUtil::isNotEmpty)
-                            .getOrElse(() -> Try.of(() -> annotationType.getMethod(Trans.TRANS_KEY_ATTR).invoke(annotation))
-                                    .map(obj -> (String) obj)
-                                    .getOrElse((String) null));
+                            .getOrElse(() -> attributeValue(annotation, Trans.TRANS_KEY_ATTR, Trans.LEGACY_TRANS_KEY_ATTR));
 
                     // 处理 key 属性值，同上
                     String key = Option.of(transAnno.transField())
                             .filter(StrUtil::isNotEmpty)
-                            .getOrElse(() -> Try.of(() -> annotationType.getMethod(Trans.TRANS_FIELD_ATTR).invoke(annotation))
-                                    .map(obj -> (String) obj)
-                                    .getOrElse((String) null));
+                            .getOrElse(() -> attributeValue(annotation, Trans.TRANS_FIELD_ATTR, Trans.LEGACY_TRANS_FIELD_ATTR));
 
                     // 返回结果
                     return new TransAnnotationResult(repository, trans, key, annotation);
@@ -233,6 +229,22 @@ public class TransClassMeta implements Serializable {
                 .getOrElse((TransAnnotationResult) null);
     }
 
+    /**
+     * 通过反射读取组合注解的属性值，按顺序尝试多个属性名(兼容旧的transKey/transField属性名)
+     *
+     * @param annotation 组合注解
+     * @param names      属性名
+     * @return 第一个存在的属性的值，都不存在时返回null
+     */
+    private static String attributeValue(Annotation annotation, String... names) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        return io.vavr.collection.List.of(names)
+                .map(name -> Try.of(() -> (String) annotationType.getMethod(name).invoke(annotation)))
+                .find(Try::isSuccess)
+                .map(Try::get)
+                .getOrElse((String) null);
+    }
+
 
     /**
      * 用于存储找到的 @Trans 注解信息的结果类
@@ -1,17 +1,16 @@
 package com.github.xtranslation.core.core;
 
 
-import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.lang.Opt;
 import cn.hutool.core.util.ReflectUtil;
 import com.github.xtranslation.core.util.CollectionUtils;
 import io.vavr.control.Option;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static io.vavr.API.*;
 
@@ -109,6 +108,20 @@ public class TransModel {
     @Getter
     private final boolean isValExtract;
 
+    /**
+     * 归一化后的源值列表(懒加载，每个模型只计算一次)
+     * <p>
+     * 收集ID和回写翻译结果时都需要用到，缓存后避免对同一个源值重复做集合转换。
+     * </p>
+     */
+    private List<Object> multipleTransVal;
+
+    /**
+     * 回写时是否替换目标字段(增量翻译重新翻译已经翻译过的字段时为true，多值字段不复用目标字段中已有的容器)
+     */
+    @Setter
+    private boolean replaceTarget;
+
     /**
      * TransModel构造函数
      * <p>
@@ -122,14 +135,27 @@ public class TransModel {
      * @param field 翻译字段的元数据信息
      */
     public TransModel(Object obj, TransFieldMeta field) {
+        // 提取源字段的实际值
+        this(obj, field, ReflectUtil.getFieldValue(obj, field.getTransField()));
+    }
+
+    /**
+     * 使用给定的源值创建翻译模型(不从对象中读取源字段)
+     * <p>
+     * 用于不修改对象的翻译：链式字段的源字段本身是翻译目标字段时，源值来自上一级的翻译结果而不是对象。
+     * </p>
+     *
+     * @param obj      需要进行翻译的对象实例
+     * @param field    翻译字段的元数据信息
+     * @param transVal 源值
+     */
+    public TransModel(Object obj, TransFieldMeta field, Object transVal) {
         this.transFieldMeta = field;
         this.obj = obj;
-        Field transField = field.getTransField();
-        Class<?> type = transField.getType();
+        Class<?> type = field.getTransField().getType();
         // 预先判断是否为多值类型，提高后续处理性能
         this.isMultiple = (Iterable.class).isAssignableFrom(type) || type.isArray();
-        // 提取源字段的实际值
-        this.transVal = ReflectUtil.getFieldValue(this.obj, transField);
+        this.transVal = transVal;
         // 判断是否为值提取模式
         this.isValExtract = VAL_EXTRACT.equals(this.transFieldMeta.getKey());
     }
@@ -143,15 +169,59 @@ public class TransModel {
      * 2. 普通字段提取 vs 完整对象提取
      * 3. 集合类型 vs 数组类型 vs 普通类型
      * </p>
+     * <p>
+     * 每次调用都会为查询结果重新建立索引，同一批次的多个模型应先通过 {@link TransValueIndex#of(Map)} 建立一次索引后共享。
+     * </p>
      *
      * @param idValueMap 包含转换值和对象值的映射，键为源值，值为翻译数据对象
+     * @return 是否设置了翻译值(没有查到对应的翻译数据时返回false)
      */
-    public void setValue(Map<Object, Object> idValueMap) {
-        // 将传入的映射转换为对象值映射，便于后续字段提取
-        // 这一步将翻译数据对象转换为Map格式，提高字段访问效率
-        Map<Object, ? extends Map<?, ?>> objValMap = idValueMap.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> BeanUtil.beanToMap(entry.getValue())));
+    public boolean setValue(Map<Object, Object> idValueMap) {
+        return setValue(TransValueIndex.of(idValueMap));
+    }
 
+    /**
+     * 设置对象字段的值(使用同一批次共享的翻译数据索引)
+     * <p>
+     * 只读取索引、只写入当前模型自己的目标字段，不同模型可以在多个线程中并行执行。
+     * </p>
+     *
+     * @param valueIndex 翻译数据索引，键为源值，值为翻译数据的属性Map
+     * @return 是否设置了翻译值(没有查到对应的翻译数据时返回false)
+     */
+    public boolean setValue(TransValueIndex valueIndex) {
+        Object objValue = this.resolveValue(valueIndex, !this.replaceTarget);
+
+        // 如果对象值不为空，则设置对象字段的值
+        if (objValue != null) {
+            // 核心逻辑：设置对象字段的值
+            ReflectUtil.setFieldValue(this.obj, this.transFieldMeta.getField(), objValue);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 计算翻译值但不写入对象
+     * <p>
+     * 多值字段总是创建新的容器，不复用目标字段中已有的集合。
+     * </p>
+     *
+     * @param valueIndex 翻译数据索引
+     * @return 翻译值，没有查到对应的翻译数据时返回null
+     */
+    public Object resolveValue(TransValueIndex valueIndex) {
+        return this.resolveValue(valueIndex, false);
+    }
+
+    /**
+     * 计算翻译值
+     *
+     * @param valueIndex  翻译数据索引
+     * @param reuseTarget 多值字段是否复用目标字段中已有的容器
+     * @return 翻译值
+     */
+    private Object resolveValue(TransValueIndex valueIndex, boolean reuseTarget) {
         Object objValue = null;
 
         // 根据是否为多值类型采用不同的处理逻辑
@@ -160,7 +230,7 @@ public class TransModel {
             // 获取多个转换值
             List<Object> multipleTransVal = this.getMultipleTransVal();
             // 获取对象值（根据目标字段类型创建合适的容器）相当于 new 对象的操作
-            objValue = this.getObjValue(multipleTransVal);
+            objValue = this.getObjValue(multipleTransVal, reuseTarget);
 
             // 根据目标字段的具体类型进行处理
             if (objValue instanceof Collection) {
@@ -171,12 +241,12 @@ public class TransModel {
                 multipleTransVal.forEach(val -> {
                     if (this.isValExtract) {
                         // 如果是提取所有值（值提取模式）
-                        for (Map<?, ?> objMap : objValMap.values()) {
+                        for (Map<?, ?> objMap : valueIndex.values()) {
                             objCollection.add(objMap.get(val));
                         }
                     } else {
                         // 否则根据转换值获取对应的对象值（普通字段提取）
-                        Map<?, ?> objMap = objValMap.get(val);
+                        Map<?, ?> objMap = valueIndex.get(val);
                         if (objMap != null) {
                             objCollection.add(objMap.get(this.transFieldMeta.getKey()));
                         }
@@ -189,12 +259,12 @@ public class TransModel {
                 for (int i = 0; i < multipleTransVal.size(); i++) {
                     if (this.isValExtract) {
                         // 如果是提取所有值（值提取模式）
-                        for (Map<?, ?> objMap : objValMap.values()) {
+                        for (Map<?, ?> objMap : valueIndex.values()) {
                             objArray[i] = objMap.get(multipleTransVal.get(i));
                         }
                     } else {
                         // 否则根据转换值获取对应的对象值（普通字段提取）
-                        Map<?, ?> objMap = objValMap.get(multipleTransVal.get(i));
+                        Map<?, ?> objMap = valueIndex.get(multipleTransVal.get(i));
                         if (objMap != null) {
                             objArray[i] = objMap.get(this.transFieldMeta.getKey());
                         }
@@ -205,23 +275,19 @@ public class TransModel {
             // 处理单值场景
             if (this.isValExtract) {
                 // 如果是提取所有值（值提取模式）
-                for (Map<?, ?> value : objValMap.values()) {
+                for (Map<?, ?> value : valueIndex.values()) {
                     objValue = value.get(this.transVal);
                 }
             } else {
                 // 否则根据转换值获取对应的对象值（普通字段提取）
-                Map<?, ?> objMap = objValMap.get(this.transVal);
+                Map<?, ?> objMap = valueIndex.get(this.transVal);
                 if (objMap != null) {
                     objValue = objMap.get(this.transFieldMeta.getKey());
                 }
             }
         }
 
-        // 如果对象值不为空，则设置对象字段的值
-        if (objValue != null) {
-            // 核心逻辑：设置对象字段的值
-            ReflectUtil.setFieldValue(this.obj, this.transFieldMeta.getField(), objValue);
-        }
+        return objValue;
     }
 
 
@@ -234,11 +300,12 @@ public class TransModel {
      * </p>
      *
      * @param multipleTransVal 多个转换值，用于确定数组大小
+     * @param reuseTarget      是否复用目标字段中已有的容器
      * @return 适当类型的对象值容器
      */
-    private Object getObjValue(List<Object> multipleTransVal) {
+    private Object getObjValue(List<Object> multipleTransVal, boolean reuseTarget) {
         // 获取字段当前值
-        Object objValue = ReflectUtil.getFieldValue(this.obj, this.transFieldMeta.getField());
+        Object objValue = reuseTarget ? ReflectUtil.getFieldValue(this.obj, this.transFieldMeta.getField()) : null;
 
         // 构造对应的对象值，如果已有则直接使用，否则根据类型创建新实例
         return Option.of(objValue).getOrElse(() -> {
@@ -264,13 +331,17 @@ public class TransModel {
     /**
      * 获取多个转换值
      * <p>
-     * 使用工具类将源值转换为List格式，统一处理单值和多值场景。
+     * 使用工具类将源值转换为List格式，统一处理单值和多值场景(包括 long[]、int[] 等基本类型数组)。
+     * 结果只计算一次，并且尽量是源值的视图而不是副本，调用方不能修改。
      * </p>
      *
      * @return 转换值列表
      */
     public List<Object> getMultipleTransVal() {
-        return CollectionUtils.objToList(this.transVal);
+        if (this.multipleTransVal == null) {
+            this.multipleTransVal = CollectionUtils.objToList(this.transVal);
+        }
+        return this.multipleTransVal;
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.github.xtranslation.core.core;
+
+
+import cn.hutool.core.bean.BeanUtil;
+import com.github.xtranslation.core.util.LongObjectMap;
+
+import java.util.*;
+
+/**
+ * TransValueIndex: 一次仓库查询结果的只读索引
+ * <p>
+ * 仓库返回的翻译数据(通常是实体对象)在这里统一转换为属性Map，每个翻译值只转换一次，
+ * 同一批次的所有 {@link TransModel} 共享同一个索引回写，而不是每个模型都把整个查询结果重新转换一遍。
+ * 索引在构造完成后不再修改，可以被多个线程同时读取(并行回写)。
+ * </p>
+ * <p>
+ * 仓库返回 {@link LongObjectMap} 时索引同样以long为键，按数值查找。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransValueIndex {
+
+    /**
+     * 空索引
+     */
+    public static final TransValueIndex EMPTY = new TransValueIndex(Collections.emptyMap());
+
+    /**
+     * key: 翻译值(ID)  value: 翻译数据的属性Map
+     */
+    private final Map<Object, Map<?, ?>> index;
+
+    private final Collection<Map<?, ?>> values;
+
+    private TransValueIndex(Map<Object, Map<?, ?>> index) {
+        this.index = index;
+        this.values = Collections.unmodifiableCollection(index.values());
+    }
+
+    /**
+     * 根据仓库查询结果创建索引
+     *
+     * @param idValueMap 仓库查询结果  key: 翻译值(ID)  value: 翻译数据
+     * @return 索引
+     */
+    public static TransValueIndex of(Map<Object, Object> idValueMap) {
+        if (idValueMap == null || idValueMap.isEmpty()) {
+            return EMPTY;
+        }
+        Map<Object, Map<?, ?>> index = idValueMap instanceof LongObjectMap ? new LongObjectMap<>(idValueMap.size()) : new HashMap<>(idValueMap.size() * 4 / 3 + 1);
+        idValueMap.forEach((key, value) -> index.put(key, BeanUtil.beanToMap(value)));
+        return new TransValueIndex(index);
+    }
+
+    /**
+     * 获取翻译数据的属性Map
+     *
+     * @param id 翻译值(ID)
+     * @return 属性Map，没有对应的翻译数据时返回null
+     */
+    public Map<?, ?> get(Object id) {
+        return index.get(id);
+    }
+
+    /**
+     * 所有翻译数据的属性Map(只读)
+     *
+     * @return 属性Map集合
+     */
+    public Collection<Map<?, ?>> values() {
+        return values;
+    }
+
+    public boolean isEmpty() {
+        return index.isEmpty();
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+}
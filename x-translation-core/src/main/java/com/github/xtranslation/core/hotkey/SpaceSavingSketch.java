@@ -0,0 +1,100 @@
+package com.github.xtranslation.core.hotkey;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * SpaceSavingSketch: 有界的高频元素统计(Space-Saving算法)
+ * <p>
+ * 最多跟踪 capacity 个元素，已满时新元素替换当前计数最小的元素并继承它的计数(+1)。
+ * 内存占用固定，出现频率高于 总次数/capacity 的元素一定会被保留，适合在线上长期统计热点ID。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class SpaceSavingSketch {
+
+    private final int capacity;
+
+    private final Map<Object, Counter> counters;
+
+    /**
+     * 按计数从小到大排列，计数相同时先进入的在前(先被替换)
+     */
+    private final TreeSet<Counter> order = new TreeSet<>(Comparator.comparingLong((Counter c) -> c.count).thenComparingLong(c -> c.seq));
+
+    private long seq;
+
+    SpaceSavingSketch(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(Math.min(capacity, 1024) * 2);
+    }
+
+    /**
+     * 记录元素出现一次
+     *
+     * @param item 元素
+     */
+    synchronized void offer(Object item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            order.remove(counter);
+            counter.count++;
+            order.add(counter);
+            return;
+        }
+        long count = 1;
+        if (counters.size() >= capacity) {
+            Counter min = order.pollFirst();
+            counters.remove(min.item);
+            count += min.count;
+        }
+        counter = new Counter(item, count, seq++);
+        counters.put(item, counter);
+        order.add(counter);
+    }
+
+    /**
+     * @param n 最多返回的个数
+     * @return 计数最高的元素(从高到低)
+     */
+    synchronized List<Object> top(int n) {
+        List<Object> top = new ArrayList<>(Math.min(n, counters.size()));
+        Iterator<Counter> iterator = order.descendingIterator();
+        while (iterator.hasNext() && top.size() < n) {
+            top.add(iterator.next().item);
+        }
+        return top;
+    }
+
+    synchronized int size() {
+        return counters.size();
+    }
+
+    private static final class Counter {
+
+        private final Object item;
+
+        private final long seq;
+
+        private long count;
+
+        Counter(Object item, long count, long seq) {
+            this.item = item;
+            this.count = count;
+            this.seq = seq;
+        }
+
+    }
+
+}
@@ -0,0 +1,329 @@
+package com.github.xtranslation.core.hotkey;
+
+
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.service.TransService;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TransHotKeys: 翻译热点ID快照
+ * <p>
+ * 按仓库和翻译注解分别用有界的 {@link SpaceSavingSketch} 统计最常查询的ID，关闭(应用优雅停机)时写入本地快照文件；
+ * 新实例启动时通过 {@link #preload(TransService)} 把快照中的ID按仓库批量查询一遍，
+ * 让仓库一侧的缓存、连接池等在接收流量之前就已经预热，避免滚动发布后新实例集中冷查询数据库。
+ * </p>
+ * <p>
+ * 快照只保存 Long、Integer、String 类型的ID。翻译注解无法直接序列化，快照中记录的是注解所在的类和字段，
+ * 加载时从该字段的元数据中取回注解；类或字段在新版本中已经不存在时跳过。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransHotKeys implements Closeable {
+
+    private static final Log log = LogFactory.get();
+
+    /**
+     * 快照文件
+     */
+    @Getter
+    private final Path file;
+
+    /**
+     * 每个仓库+注解最多跟踪的ID个数
+     */
+    @Getter
+    private final int capacity;
+
+    /**
+     * 采样率 [0, 1]
+     */
+    @Getter
+    private final double sampleRate;
+
+    /**
+     * key: 仓库class+翻译注解  value: 热点统计
+     */
+    private final Map<List<Object>, Tracked> tracked = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * @param file       快照文件
+     * @param capacity   每个仓库+注解最多跟踪的ID个数
+     * @param sampleRate 采样率 [0, 1]，按翻译调用采样
+     */
+    public TransHotKeys(Path file, int capacity, double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be within [0, 1]: " + sampleRate);
+        }
+        this.file = file;
+        this.capacity = capacity;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 记录一次仓库查询的ID(由 TransService 调用)
+     *
+     * @param rowClass       被翻译对象的类
+     * @param transFieldMeta 翻译字段
+     * @param transIdList    去重后的ID
+     */
+    public void record(Class<?> rowClass, TransFieldMeta transFieldMeta, List<Object> transIdList) {
+        if (closed || sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        Tracked keys = tracked.computeIfAbsent(Arrays.asList(transFieldMeta.getRepository(), transFieldMeta.getTransAnno()),
+                k -> new Tracked(transFieldMeta.getRepository(), rowClass.getName() + "#" + transFieldMeta.getField().getName(), new SpaceSavingSketch(capacity)));
+        for (Object id : transIdList) {
+            if (id instanceof Long || id instanceof Integer || id instanceof String) {
+                keys.sketch.offer(id);
+            }
+        }
+    }
+
+    /**
+     * 写入快照文件(先写临时文件再替换，写入中途停机不会损坏旧快照)
+     *
+     * @throws IOException 写入失败
+     */
+    public void snapshot() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Tracked keys : tracked.values()) {
+                List<Object> top = keys.sketch.top(capacity);
+                if (top.isEmpty()) {
+                    continue;
+                }
+                writer.write(keys.repository.getName());
+                writer.write('\t');
+                writer.write(keys.source);
+                writer.write('\t');
+                for (int i = 0; i < top.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(encode(top.get(i)));
+                }
+                writer.newLine();
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 读取快照文件并解析出每组热点ID
+     *
+     * @return 热点ID分组，快照不存在时返回空列表
+     * @throws IOException 读取失败
+     */
+    public List<Entry> read() throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return entries;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader() != null ? Thread.currentThread().getContextClassLoader() : TransHotKeys.class.getClassLoader();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] parts = line.split("\t", 3);
+            if (parts.length < 3 || parts[2].isEmpty()) {
+                continue;
+            }
+            TransFieldMeta transFieldMeta = findField(classLoader, parts[0], parts[1]);
+            if (transFieldMeta == null) {
+                log.debug("热点ID快照中的字段已不存在, 跳过: {}", parts[1]);
+                continue;
+            }
+            List<Object> ids = new ArrayList<>();
+            for (String token : parts[2].split(",")) {
+                Object id = decode(token);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+            entries.add(new Entry(transFieldMeta.getRepository(), transFieldMeta, ids));
+        }
+        return entries;
+    }
+
+    /**
+     * 按快照批量查询热点ID，预热仓库
+     *
+     * @param transService 翻译服务
+     * @return 预热的ID个数
+     */
+    public int preload(TransService transService) {
+        List<Entry> entries;
+        try {
+            entries = read();
+        } catch (IOException e) {
+            log.warn("热点ID快照读取失败: {}", e.toString());
+            return 0;
+        }
+        int preloaded = 0;
+        for (Entry entry : entries) {
+            try {
+                transService.warmUp(entry.getRepository(), entry.getTransFieldMeta().getTransAnno(), entry.getIds());
+                preloaded += entry.getIds().size();
+            } catch (RuntimeException e) {
+                log.warn("热点ID预热失败, 仓库: {}, {}", entry.getRepository().getName(), e.toString());
+            }
+        }
+        log.info("热点ID预热完成, {}组, {}个ID", entries.size(), preloaded);
+        return preloaded;
+    }
+
+    /**
+     * 停止统计并写入快照
+     *
+     * @throws IOException 写入失败
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        snapshot();
+    }
+
+    /**
+     * 在类的翻译字段树中查找字段
+     */
+    private static TransFieldMeta findField(ClassLoader classLoader, String repository, String source) {
+        int index = source.lastIndexOf('#');
+        if (index <= 0) {
+            return null;
+        }
+        try {
+            Class<?> clazz = Class.forName(source.substring(0, index), false, classLoader);
+            return findField(TransClassMetaCacheManager.getTransClassMeta(clazz).getTransFieldList(), repository, source.substring(index + 1));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static TransFieldMeta findField(List<TransFieldMeta> transFieldMetaList, String repository, String fieldName) {
+        if (transFieldMetaList == null) {
+            return null;
+        }
+        for (TransFieldMeta transFieldMeta : transFieldMetaList) {
+            if (transFieldMeta.getField().getName().equals(fieldName) && transFieldMeta.getRepository().getName().equals(repository)) {
+                return transFieldMeta;
+            }
+            TransFieldMeta child = findField(transFieldMeta.getChildren(), repository, fieldName);
+            if (child != null) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static String encode(Object id) throws UnsupportedEncodingException {
+        if (id instanceof Long) {
+            return "L" + id;
+        }
+        if (id instanceof Integer) {
+            return "I" + id;
+        }
+        return "S" + URLEncoder.encode((String) id, "UTF-8");
+    }
+
+    private static Object decode(String token) {
+        if (token.isEmpty()) {
+            return null;
+        }
+        try {
+            switch (token.charAt(0)) {
+                case 'L':
+                    return Long.parseLong(token.substring(1));
+                case 'I':
+                    return Integer.parseInt(token.substring(1));
+                case 'S':
+                    return URLDecoder.decode(token.substring(1), "UTF-8");
+                default:
+                    return null;
+            }
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 一个仓库+注解的统计
+     */
+    private static final class Tracked {
+
+        private final Class<? extends TransRepository> repository;
+
+        /**
+         * 注解所在的类和字段(类名#字段名)
+         */
+        private final String source;
+
+        private final SpaceSavingSketch sketch;
+
+        Tracked(Class<? extends TransRepository> repository, String source, SpaceSavingSketch sketch) {
+            this.repository = repository;
+            this.source = source;
+            this.sketch = sketch;
+        }
+
+    }
+
+    /**
+     * Entry: 快照中的一组热点ID
+     */
+    @Getter
+    public static final class Entry {
+
+        /**
+         * 翻译仓库
+         */
+        private final Class<? extends TransRepository> repository;
+
+        /**
+         * 翻译字段(提供查询时使用的注解)
+         */
+        private final TransFieldMeta transFieldMeta;
+
+        /**
+         * 热点ID(从高到低)
+         */
+        private final List<Object> ids;
+
+        Entry(Class<? extends TransRepository> repository, TransFieldMeta transFieldMeta, List<Object> ids) {
+            this.repository = repository;
+            this.transFieldMeta = transFieldMeta;
+            this.ids = ids;
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.github.xtranslation.core.jfr;
+
+
+/**
+ * JfrEvents: JFR事件的实际创建与提交
+ * <p>
+ * 只有在 {@link TransJfr} 确认当前JVM支持JFR后才会被加载，避免在不支持JFR的JVM上加载 jdk.jfr 相关类。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    static Object beginTrans() {
+        TransCallEvent event = new TransCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitTrans(Object token, Class<?> rootClass, int rowCount, String resolverChain) {
+        TransCallEvent event = (TransCallEvent) token;
+        event.rootClass = rootClass;
+        event.rowCount = rowCount;
+        event.resolverChain = resolverChain;
+        event.commit();
+    }
+
+    static Object beginFetch() {
+        TransFetchEvent event = new TransFetchEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitFetch(Object token, Class<?> repositoryClass, int idCount, boolean success) {
+        TransFetchEvent event = (TransFetchEvent) token;
+        event.repositoryClass = repositoryClass;
+        event.idCount = idCount;
+        event.success = success;
+        event.commit();
+    }
+
+    static Object beginMetaParse() {
+        TransMetaParseEvent event = new TransMetaParseEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitMetaParse(Object token, Class<?> parsedClass, int fieldCount) {
+        TransMetaParseEvent event = (TransMetaParseEvent) token;
+        event.parsedClass = parsedClass;
+        event.fieldCount = fieldCount;
+        event.commit();
+    }
+
+    static Object beginWriteBack() {
+        TransWriteBackEvent event = new TransWriteBackEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitWriteBack(Object token, Class<?> repositoryClass, String field, int modelCount, int translatedCount) {
+        TransWriteBackEvent event = (TransWriteBackEvent) token;
+        event.repositoryClass = repositoryClass;
+        event.field = field;
+        event.modelCount = modelCount;
+        event.translatedCount = translatedCount;
+        event.commit();
+    }
+
+}
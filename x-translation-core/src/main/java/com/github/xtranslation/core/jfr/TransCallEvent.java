@@ -0,0 +1,29 @@
+package com.github.xtranslation.core.jfr;
+
+
+import jdk.jfr.*;
+
+/**
+ * TransCallEvent: 一次 trans 调用的JFR事件(默认关闭)
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Name("com.github.xtranslation.Trans")
+@Label("Translation Call")
+@Category({"x-translation"})
+@Description("一次TransService.trans调用的总耗时")
+@Enabled(false)
+@StackTrace(false)
+class TransCallEvent extends Event {
+
+    @Label("Root Class")
+    Class<?> rootClass;
+
+    @Label("Row Count")
+    int rowCount;
+
+    @Label("Resolver Chain")
+    String resolverChain;
+
+}
@@ -0,0 +1,29 @@
+package com.github.xtranslation.core.jfr;
+
+
+import jdk.jfr.*;
+
+/**
+ * TransFetchEvent: 一次翻译仓库调用的JFR事件(默认关闭)
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Name("com.github.xtranslation.Fetch")
+@Label("Translation Repository Fetch")
+@Category({"x-translation"})
+@Description("一次TransRepository.getTransValueMap调用")
+@Enabled(false)
+@StackTrace(false)
+class TransFetchEvent extends Event {
+
+    @Label("Repository Class")
+    Class<?> repositoryClass;
+
+    @Label("ID Count")
+    int idCount;
+
+    @Label("Success")
+    boolean success;
+
+}
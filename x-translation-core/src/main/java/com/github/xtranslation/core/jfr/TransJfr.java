@@ -0,0 +1,138 @@
+package com.github.xtranslation.core.jfr;
+
+
+/**
+ * TransJfr: 翻译过程的JFR(Java Flight Recorder)埋点入口
+ * <p>
+ * 框架在以下阶段发出自定义JFR事件，便于在同一份录制中把翻译卡顿和GC、锁竞争等事件关联起来：
+ * 1. com.github.xtranslation.Trans：一次 trans 调用(根类、行数、解析器链)
+ * 2. com.github.xtranslation.Fetch：一次仓库调用(仓库类、ID个数、线程由JFR自动记录)
+ * 3. com.github.xtranslation.MetaParse：一次类元数据解析
+ * 4. com.github.xtranslation.WriteBack：一个字段分组的结果回写
+ * </p>
+ * <p>
+ * 所有事件默认关闭，需要在录制配置中开启，例如：
+ * {@code jcmd <pid> JFR.start settings=profile +com.github.xtranslation.Trans#enabled=true}(JDK17+)，
+ * 或在自定义的 .jfc 文件中把对应事件的 enabled 设为 true。
+ * 事件关闭或JVM不支持JFR时，begin方法返回null，commit方法直接返回，开销可以忽略。
+ * </p>
+ * <p>
+ * begin方法返回的是事件对象本身(以Object传递)，调用方原样传回对应的commit方法即可。
+ * 这样调用方不直接引用 jdk.jfr 的类型，在不支持JFR的JVM上也可以正常加载。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransJfr {
+
+    /**
+     * 当前JVM是否支持JFR
+     */
+    private static final boolean AVAILABLE = isAvailable();
+
+    private TransJfr() {
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, TransJfr.class.getClassLoader());
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    /**
+     * 开始一次 trans 调用事件
+     *
+     * @return 事件令牌，事件未开启时为null
+     */
+    public static Object beginTrans() {
+        return AVAILABLE ? JfrEvents.beginTrans() : null;
+    }
+
+    /**
+     * 提交一次 trans 调用事件
+     *
+     * @param token         {@link #beginTrans()} 返回的事件令牌
+     * @param rootClass     被翻译的根类
+     * @param rowCount      行数
+     * @param resolverChain 解析包装对象时依次使用的解析器
+     */
+    public static void commitTrans(Object token, Class<?> rootClass, int rowCount, String resolverChain) {
+        if (token != null) {
+            JfrEvents.commitTrans(token, rootClass, rowCount, resolverChain);
+        }
+    }
+
+    /**
+     * 开始一次仓库调用事件
+     *
+     * @return 事件令牌，事件未开启时为null
+     */
+    public static Object beginFetch() {
+        return AVAILABLE ? JfrEvents.beginFetch() : null;
+    }
+
+    /**
+     * 提交一次仓库调用事件
+     *
+     * @param token           {@link #beginFetch()} 返回的事件令牌
+     * @param repositoryClass 翻译仓库的class
+     * @param idCount         ID个数
+     * @param success         是否成功
+     */
+    public static void commitFetch(Object token, Class<?> repositoryClass, int idCount, boolean success) {
+        if (token != null) {
+            JfrEvents.commitFetch(token, repositoryClass, idCount, success);
+        }
+    }
+
+    /**
+     * 开始一次类元数据解析事件
+     *
+     * @return 事件令牌，事件未开启时为null
+     */
+    public static Object beginMetaParse() {
+        return AVAILABLE ? JfrEvents.beginMetaParse() : null;
+    }
+
+    /**
+     * 提交一次类元数据解析事件
+     *
+     * @param token       {@link #beginMetaParse()} 返回的事件令牌
+     * @param parsedClass 被解析的类
+     * @param fieldCount  解析出的根翻译字段个数
+     */
+    public static void commitMetaParse(Object token, Class<?> parsedClass, int fieldCount) {
+        if (token != null) {
+            JfrEvents.commitMetaParse(token, parsedClass, fieldCount);
+        }
+    }
+
+    /**
+     * 开始一次结果回写事件
+     *
+     * @return 事件令牌，事件未开启时为null
+     */
+    public static Object beginWriteBack() {
+        return AVAILABLE ? JfrEvents.beginWriteBack() : null;
+    }
+
+    /**
+     * 提交一次结果回写事件
+     *
+     * @param token           {@link #beginWriteBack()} 返回的事件令牌
+     * @param repositoryClass 翻译仓库的class
+     * @param field           源字段名
+     * @param modelCount      回写的模型个数
+     * @param translatedCount 成功翻译的个数
+     */
+    public static void commitWriteBack(Object token, Class<?> repositoryClass, String field, int modelCount, int translatedCount) {
+        if (token != null) {
+            JfrEvents.commitWriteBack(token, repositoryClass, field, modelCount, translatedCount);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.github.xtranslation.core.jfr;
+
+
+import jdk.jfr.*;
+
+/**
+ * TransMetaParseEvent: 一次类元数据解析的JFR事件(默认关闭)
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Name("com.github.xtranslation.MetaParse")
+@Label("Translation Metadata Parse")
+@Category({"x-translation"})
+@Description("解析一个类的TransClassMeta")
+@Enabled(false)
+@StackTrace(false)
+class TransMetaParseEvent extends Event {
+
+    @Label("Parsed Class")
+    Class<?> parsedClass;
+
+    @Label("Root Field Count")
+    int fieldCount;
+
+}
@@ -0,0 +1,32 @@
+package com.github.xtranslation.core.jfr;
+
+
+import jdk.jfr.*;
+
+/**
+ * TransWriteBackEvent: 一个翻译字段分组回写翻译结果的JFR事件(默认关闭)
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Name("com.github.xtranslation.WriteBack")
+@Label("Translation Write-back")
+@Category({"x-translation"})
+@Description("把仓库查询结果回写到对象字段")
+@Enabled(false)
+@StackTrace(false)
+class TransWriteBackEvent extends Event {
+
+    @Label("Repository Class")
+    Class<?> repositoryClass;
+
+    @Label("Source Field")
+    String field;
+
+    @Label("Model Count")
+    int modelCount;
+
+    @Label("Translated Count")
+    int translatedCount;
+
+}
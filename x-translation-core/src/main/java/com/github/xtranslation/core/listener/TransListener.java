@@ -0,0 +1,76 @@
+package com.github.xtranslation.core.listener;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+
+/**
+ * TransListener: 翻译过程监听器(观察者SPI)
+ * <p>
+ * 用于把翻译过程中的关键事件(仓库调用、字段回写、元数据缓存等)暴露给监控系统，例如 starter 中的 Micrometer 指标。
+ * 所有方法都有空的默认实现，按需覆盖即可。通过 {@link TransListenerFactory#register(TransListener)} 注册，
+ * 没有注册任何监听器时框架使用 {@link #NOOP}，几乎没有额外开销。
+ * </p>
+ * <p>
+ * 回调可能在翻译线程池中并发执行，实现类需要保证线程安全，并且不应该执行耗时操作。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public interface TransListener {
+
+    /**
+     * 空监听器
+     */
+    TransListener NOOP = new TransListener() {
+    };
+
+    /**
+     * 一次翻译仓库调用(getTransValueMap)结束
+     *
+     * @param repository 翻译仓库的class
+     * @param idCount    本次调用携带的ID个数
+     * @param nanos      调用耗时(纳秒)
+     * @param error      调用异常，成功时为null
+     */
+    default void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+    }
+
+    /**
+     * 一个翻译字段分组的ID收集完成(去重之前和之后的个数，用于计算去重率)
+     *
+     * @param repository    翻译仓库的class
+     * @param keyCount      去重前的ID个数
+     * @param distinctCount 去重后的ID个数
+     */
+    default void onKeysCollected(Class<? extends TransRepository> repository, int keyCount, int distinctCount) {
+    }
+
+    /**
+     * 一个翻译字段分组的翻译结果回写完成
+     *
+     * @param repository   翻译仓库的class
+     * @param translated   成功翻译的字段个数
+     * @param untranslated 未翻译(没有查到翻译值)的字段个数
+     */
+    default void onWriteBack(Class<? extends TransRepository> repository, int translated, int untranslated) {
+    }
+
+    /**
+     * 类元数据命中缓存
+     *
+     * @param clazz 被翻译的类
+     */
+    default void onMetaCacheHit(Class<?> clazz) {
+    }
+
+    /**
+     * 类元数据被解析(缓存未命中)
+     *
+     * @param clazz 被翻译的类
+     * @param nanos 解析耗时(纳秒)
+     */
+    default void onMetaParsed(Class<?> clazz, long nanos) {
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.github.xtranslation.core.listener;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TransListenerFactory: 翻译监听器工厂类
+ * <p>
+ * 保存已注册的 {@link TransListener}。翻译过程中通过 {@link #get()} 取得当前监听器：
+ * 没有注册时返回 {@link TransListener#NOOP}；注册了一个时直接返回它；注册了多个时返回一个依次转发的组合监听器。
+ * 调用方可以先用 {@link #isEnabled()} 判断，跳过只为监听器准备参数(例如计时)的开销。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransListenerFactory {
+
+    private final static List<TransListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile TransListener current = TransListener.NOOP;
+
+    /**
+     * 注册一个翻译监听器
+     *
+     * @param listener 翻译监听器
+     */
+    public static synchronized void register(TransListener listener) {
+        if (listener != null && !LISTENERS.contains(listener)) {
+            LISTENERS.add(listener);
+            current = LISTENERS.size() == 1 ? listener : new CompositeTransListener(LISTENERS.toArray(new TransListener[0]));
+        }
+    }
+
+    /**
+     * 注销一个翻译监听器
+     *
+     * @param listener 翻译监听器
+     */
+    public static synchronized void unregister(TransListener listener) {
+        if (LISTENERS.remove(listener)) {
+            current = LISTENERS.isEmpty() ? TransListener.NOOP
+                    : LISTENERS.size() == 1 ? LISTENERS.get(0) : new CompositeTransListener(LISTENERS.toArray(new TransListener[0]));
+        }
+    }
+
+    /**
+     * @return 当前监听器，没有注册时为 {@link TransListener#NOOP}
+     */
+    public static TransListener get() {
+        return current;
+    }
+
+    /**
+     * @return 是否注册了监听器
+     */
+    public static boolean isEnabled() {
+        return current != TransListener.NOOP;
+    }
+
+    /**
+     * 依次转发给多个监听器的组合监听器
+     */
+    private static final class CompositeTransListener implements TransListener {
+
+        private final TransListener[] listeners;
+
+        CompositeTransListener(TransListener[] listeners) {
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+            for (TransListener listener : listeners) {
+                listener.onFetch(repository, idCount, nanos, error);
+            }
+        }
+
+        @Override
+        public void onKeysCollected(Class<? extends TransRepository> repository, int keyCount, int distinctCount) {
+            for (TransListener listener : listeners) {
+                listener.onKeysCollected(repository, keyCount, distinctCount);
+            }
+        }
+
+        @Override
+        public void onWriteBack(Class<? extends TransRepository> repository, int translated, int untranslated) {
+            for (TransListener listener : listeners) {
+                listener.onWriteBack(repository, translated, untranslated);
+            }
+        }
+
+        @Override
+        public void onMetaCacheHit(Class<?> clazz) {
+            for (TransListener listener : listeners) {
+                listener.onMetaCacheHit(clazz);
+            }
+        }
+
+        @Override
+        public void onMetaParsed(Class<?> clazz, long nanos) {
+            for (TransListener listener : listeners) {
+                listener.onMetaParsed(clazz, nanos);
+            }
+        }
+    }
+
+}
@@ -2,10 +2,26 @@ package com.github.xtranslation.core.manager;
 
 
 import com.github.xtranslation.core.core.TransClassMeta;
-import io.vavr.control.Option;
+import com.github.xtranslation.core.jfr.TransJfr;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
 
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Serializable;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 
@@ -38,6 +54,13 @@ public class TransClassMetaCacheManager implements Serializable {
 
     private static final long serialVersionUID = 3076627700677041940L;
 
+    /**
+     * 编译时生成的翻译类索引(每行一个类名)，见 TransMetadataProcessor
+     */
+    public static final String INDEX_LOCATION = "META-INF/x-translation/trans-classes";
+
+    private static final Log log = LogFactory.get();
+
     /**
      * TransClassMeta对象缓存池
      * <p>
@@ -74,13 +97,78 @@ public class TransClassMetaCacheManager implements Serializable {
         // 4. 只缓存需要翻译的类，避免无意义的内存占用
         // 这是一个重要的优化点：不需要翻译的类不会被缓存
         // 5. 返回TransClassMeta对象（无论是从缓存获取还是新创建的）
-        return Option.of(CACHE.get(clazz.getName()))
-                .getOrElse(() -> {
-                    TransClassMeta temp = new TransClassMeta(clazz);
-                    Option.of(temp)
-                            .filter(TransClassMeta::needTrans)
-                            .forEach(meta -> CACHE.put(clazz.getName(), meta));
-                    return temp;
-                });
+        // (命中和解析事件会通知给TransListener，用于统计缓存命中率)
+        TransListener listener = TransListenerFactory.get();
+        TransClassMeta cached = CACHE.get(clazz.getName());
+        if (cached != null) {
+            listener.onMetaCacheHit(clazz);
+            return cached;
+        }
+        Object jfr = TransJfr.beginMetaParse();
+        long start = System.nanoTime();
+        TransClassMeta temp = new TransClassMeta(clazz);
+        TransJfr.commitMetaParse(jfr, clazz, temp.getTransFieldList().size());
+        if (temp.needTrans()) {
+            CACHE.put(clazz.getName(), temp);
+        }
+        listener.onMetaParsed(clazz, System.nanoTime() - start);
+        return temp;
+    }
+
+    /**
+     * 根据编译时生成的翻译类索引预先解析元数据
+     * <p>
+     * 把第一次翻译时的解析耗时提前到启动阶段(native-image 中首个请求同样不再有解析开销)。
+     * 索引中的类不存在或无法加载时跳过该类。
+     * </p>
+     *
+     * @param classLoader 读取索引和加载类使用的类加载器
+     * @return 预先解析的类个数
+     */
+    public static int preload(ClassLoader classLoader) {
+        int count = 0;
+        for (Class<?> clazz : indexedClasses(classLoader)) {
+            if (getTransClassMeta(clazz).needTrans()) {
+                count++;
+            }
+        }
+        return count;
     }
+
+    /**
+     * 读取编译时生成的翻译类索引并加载其中的类
+     *
+     * @param classLoader 读取索引和加载类使用的类加载器
+     * @return 索引中能够加载的类(去重，保持索引中的顺序)
+     */
+    public static List<Class<?>> indexedClasses(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                try (InputStream in = index.openStream();
+                     BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    String className;
+                    while ((className = reader.readLine()) != null) {
+                        if (!className.trim().isEmpty()) {
+                            classNames.add(className.trim());
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("翻译类索引读取失败: {}", e.toString());
+        }
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("翻译类索引中的类无法加载, 跳过: {}", className);
+            }
+        }
+        return classes;
+    }
+
 }
@@ -0,0 +1,190 @@
+package com.github.xtranslation.core.memo;
+
+
+import com.github.xtranslation.core.repository.LongKeyTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.util.CollectionUtils;
+import com.github.xtranslation.core.util.LongObjectMap;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * TransMemo: 作用域内的翻译结果备忘录
+ * <p>
+ * 一个HTTP请求内经常有多个方法反复翻译同一批ID(例如同一个老师、同一个部门)，开启备忘录后，
+ * 作用域内已经查到的翻译数据会被记住，后续翻译只向仓库查询没见过的ID。
+ * 备忘录只存活在作用域内，作用域结束即丢弃，因此不会像全局缓存那样读到过期数据，同一个请求内看到的翻译结果也始终一致。
+ * </p>
+ * <p>
+ * 使用方式：
+ * </p>
+ * <pre>
+ * try (TransMemo memo = TransMemo.open()) {
+ *     transService.trans(a);
+ *     transService.trans(b);
+ * }
+ * </pre>
+ * <p>
+ * 作用域绑定在打开它的线程上，翻译调用在该线程中发起时生效(翻译内部的线程池子任务会沿用调用时的备忘录)。
+ * starter 中开启 x-translation.memo.enabled 后，每个Servlet请求会自动打开一个作用域。
+ * </p>
+ * <p>
+ * 只记住仓库实际返回的数据：没有查到的ID(包括超时、熔断等降级导致的未翻译)下次仍然会重新查询。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransMemo implements AutoCloseable {
+
+    private static final ThreadLocal<TransMemo> CURRENT = new ThreadLocal<>();
+
+    /**
+     * key: 仓库class+翻译注解  value: ID -> 翻译数据
+     */
+    private final Map<List<Object>, Map<Object, Object>> values = new ConcurrentHashMap<>();
+
+    /**
+     * 外层作用域的备忘录(嵌套打开时，关闭后恢复)
+     */
+    private final TransMemo previous;
+
+    /**
+     * 是否是离线作用域(只返回预先放入的数据，不查询仓库)
+     */
+    private final boolean offline;
+
+    private boolean closed;
+
+    private TransMemo(TransMemo previous, boolean offline) {
+        this.previous = previous;
+        this.offline = offline;
+    }
+
+    /**
+     * 在当前线程打开一个新的作用域
+     *
+     * @return 备忘录，使用完毕后必须关闭
+     */
+    public static TransMemo open() {
+        return open(false);
+    }
+
+    /**
+     * 在当前线程打开一个离线作用域：只返回通过 {@link #put(Class, Annotation, Map)} 预先放入的数据，
+     * 未知的ID不会查询仓库(保持未翻译)，作用域内的翻译调用也不参与采样录制和热点统计。用于预热等合成调用。
+     *
+     * @return 备忘录，使用完毕后必须关闭
+     */
+    public static TransMemo openOffline() {
+        return open(true);
+    }
+
+    private static TransMemo open(boolean offline) {
+        TransMemo memo = new TransMemo(CURRENT.get(), offline);
+        CURRENT.set(memo);
+        return memo;
+    }
+
+    /**
+     * 当前线程所在作用域的备忘录
+     *
+     * @return 备忘录，不在作用域内时返回null
+     */
+    public static TransMemo current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 是否是离线作用域
+     */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * 预先放入翻译数据
+     *
+     * @param repository 翻译仓库的class
+     * @param transAnno  翻译注解
+     * @param valueMap   ID -> 翻译数据
+     */
+    public void put(Class<? extends TransRepository> repository, Annotation transAnno, Map<Object, Object> valueMap) {
+        Map<Object, Object> known = values.computeIfAbsent(Arrays.asList(repository, transAnno), k -> new ConcurrentHashMap<>());
+        valueMap.forEach((id, value) -> {
+            if (id != null && value != null) {
+                known.put(id, value);
+            }
+        });
+    }
+
+    /**
+     * 先从备忘录中取出已知的翻译数据，只把未知的ID交给加载器查询，并记住查询结果
+     *
+     * @param repository  翻译仓库的class
+     * @param transAnno   翻译注解
+     * @param transIdList 去重后的ID列表
+     * @param loader      仓库查询(入参为未知的ID)
+     * @return 所有ID的翻译数据
+     */
+    public Map<Object, Object> lookup(Class<? extends TransRepository> repository, Annotation transAnno, List<Object> transIdList,
+                                      Function<List<Object>, Map<Object, Object>> loader) {
+        Map<Object, Object> known = values.computeIfAbsent(Arrays.asList(repository, transAnno), k -> new ConcurrentHashMap<>());
+        List<Object> missing = new ArrayList<>();
+        Map<Object, Object> hits = null;
+        for (Object id : transIdList) {
+            Object value = known.get(id);
+            if (value == null) {
+                missing.add(id);
+            } else {
+                if (hits == null) {
+                    hits = LongKeyTransRepository.class.isAssignableFrom(repository) && CollectionUtils.isLongList(transIdList) ? new LongObjectMap<>(transIdList.size()) : new HashMap<>();
+                }
+                hits.put(id, value);
+            }
+        }
+        if (missing.isEmpty()) {
+            return hits;
+        }
+        if (offline) {
+            return hits == null ? Collections.emptyMap() : hits;
+        }
+        Map<Object, Object> loaded = loader.apply(missing.size() == transIdList.size() ? transIdList : missing);
+        if (loaded == null || loaded.isEmpty()) {
+            return hits == null ? Collections.emptyMap() : hits;
+        }
+        loaded.forEach((id, value) -> {
+            if (id != null && value != null) {
+                known.put(id, value);
+            }
+        });
+        if (hits == null) {
+            return loaded;
+        }
+        hits.putAll(loaded);
+        return hits;
+    }
+
+    /**
+     * 关闭作用域并丢弃记住的数据
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        values.clear();
+        if (CURRENT.get() == this) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,322 @@
+package com.github.xtranslation.core.processor;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.annotation.TransResult;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TransMetadataProcessor: 翻译元数据注解处理器
+ * <p>
+ * 随 x-translation-core 一起出现在编译类路径上时自动生效，编译使用方代码时生成两份文件：
+ * 1. {@value TransClassMetaCacheManager#INDEX_LOCATION}：所有带翻译字段的类，启动时可以据此预先解析元数据
+ * 2. META-INF/native-image/x-translation/{name}/reflect-config.json：GraalVM native-image 的反射配置，包括
+ * 带翻译字段的类(及其父类)的字段、组合注解(例如 {@code @DictTrans})的属性方法、翻译仓库的构造器和 {@link TransResult} 声明的结果类型
+ * </p>
+ * <p>
+ * 同一个jar中有多个模块生成配置时，可以通过编译参数 -A{@value #NAME_OPTION}=xxx 区分目录名。
+ * 处理器不认领任何注解，不影响 lombok 等其他处理器。
+ * </p>
+ * <p>
+ * 增量编译(例如IDE只重新编译修改过的文件)时会先读取输出目录中已有的两份文件再合并：
+ * 类索引中本次重新编译的类以本次扫描结果为准，其余类保留；反射配置按类合并能力，只增不减，
+ * 因为一个类的反射能力可能来自其他未重新编译的类(例如 {@link TransResult} 声明的结果类型)，多余的反射配置不影响运行。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransMetadataProcessor extends AbstractProcessor {
+
+    /**
+     * 反射配置目录名的编译参数
+     */
+    public static final String NAME_OPTION = "xtranslation.nativeImageName";
+
+    private static final String TRANS = Trans.class.getName();
+
+    private static final String TRANS_RESULT = TransResult.class.getName();
+
+    private static final Pattern CONFIG_NAME = Pattern.compile("\"name\": \"([^\"]+)\"");
+
+    private static final Pattern CONFIG_CAPABILITY = Pattern.compile("\"(\\w+)\": true");
+
+    /**
+     * 带翻译字段的类
+     */
+    private final Set<String> transClasses = new TreeSet<>();
+
+    /**
+     * 反射配置  key: 类名  value: 需要开放的反射能力(allDeclaredFields等)
+     */
+    private final Map<String, Set<String>> reflectConfig = new TreeMap<>();
+
+    /**
+     * 本次编译的顶层类型，增量编译时它们(及其内部类)在已有类索引中的记录以本次扫描结果为准
+     */
+    private final Set<String> compiledTypes = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(NAME_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement) {
+                compiledTypes.add(binaryName((TypeElement) element));
+            }
+            scan(element);
+        }
+        if (roundEnv.processingOver() && !compiledTypes.isEmpty()) {
+            write();
+        }
+        return false;
+    }
+
+    /**
+     * 扫描类型(包括内部类)
+     *
+     * @param element 元素
+     */
+    private void scan(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (TRANS_RESULT.equals(nameOf(mirror))) {
+                for (TypeElement resultType : classValues(mirror, "value")) {
+                    register(resultType, "allDeclaredFields", "allDeclaredMethods", "allPublicMethods", "allDeclaredConstructors");
+                }
+            }
+        }
+        boolean hasTransField = false;
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.FIELD) {
+                hasTransField |= scanField(enclosed);
+            } else {
+                scan(enclosed);
+            }
+        }
+        if (hasTransField) {
+            transClasses.add(binaryName(type));
+            // 父类中的字段同样会被解析
+            for (TypeElement current = type; current != null && !current.getQualifiedName().toString().startsWith("java."); current = superclass(current)) {
+                register(current, "allDeclaredFields");
+            }
+        }
+    }
+
+    /**
+     * 扫描字段上的翻译注解(直接标注 {@code @Trans} 或被 {@code @Trans} 标注的组合注解)
+     *
+     * @param field 字段
+     * @return 是否是翻译字段
+     */
+    private boolean scanField(Element field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.VOLATILE) || modifiers.contains(Modifier.TRANSIENT)) {
+            return false;
+        }
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (TRANS.equals(nameOf(mirror))) {
+                registerRepository(mirror);
+                return true;
+            }
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+                if (TRANS.equals(nameOf(meta))) {
+                    // 引擎通过反射调用组合注解的属性方法读取trans和key
+                    register(annotationType, "allDeclaredMethods", "allPublicMethods");
+                    registerRepository(meta);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void registerRepository(AnnotationMirror trans) {
+        for (TypeElement repository : classValues(trans, "repository")) {
+            register(repository, "allDeclaredConstructors");
+        }
+    }
+
+    private void register(TypeElement type, String... capabilities) {
+        Set<String> set = reflectConfig.computeIfAbsent(binaryName(type), k -> new TreeSet<>());
+        Collections.addAll(set, capabilities);
+    }
+
+    /**
+     * 与输出目录中已有的文件合并后写出类索引和反射配置
+     */
+    private void write() {
+        String name = processingEnv.getOptions().getOrDefault(NAME_OPTION, "trans-metadata");
+        String configLocation = "META-INF/native-image/x-translation/" + name + "/reflect-config.json";
+        for (String transClass : readExisting(TransClassMetaCacheManager.INDEX_LOCATION)) {
+            if (!transClass.isEmpty() && !isCompiled(transClass)) {
+                transClasses.add(transClass);
+            }
+        }
+        for (String line : readExisting(configLocation)) {
+            Matcher matcher = CONFIG_NAME.matcher(line);
+            if (matcher.find()) {
+                Set<String> capabilities = reflectConfig.computeIfAbsent(matcher.group(1), k -> new TreeSet<>());
+                Matcher capability = CONFIG_CAPABILITY.matcher(line);
+                while (capability.find()) {
+                    capabilities.add(capability.group(1));
+                }
+            }
+        }
+        if (transClasses.isEmpty() && reflectConfig.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TransClassMetaCacheManager.INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String transClass : transClasses) {
+                    writer.write(transClass);
+                    writer.write('\n');
+                }
+            }
+            FileObject config = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", configLocation);
+            try (Writer writer = config.openWriter()) {
+                writer.write(toJson());
+            }
+        } catch (IOException | IllegalStateException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "x-translation 翻译元数据生成失败: " + e);
+        }
+    }
+
+    /**
+     * @param className 类名
+     * @return 是否是本次编译的类或其内部类(包括已经从源码中删除的内部类)
+     */
+    private boolean isCompiled(String className) {
+        int nested = className.indexOf('$');
+        return compiledTypes.contains(className) || (nested > 0 && compiledTypes.contains(className.substring(0, nested)));
+    }
+
+    /**
+     * 读取输出目录中上一次编译生成的文件
+     *
+     * @param location 文件路径
+     * @return 文件的每一行，文件不存在时返回空列表
+     */
+    private List<String> readExisting(String location) {
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", location);
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    lines.add(line.trim());
+                }
+            }
+            return lines;
+        } catch (IOException | IllegalArgumentException e) {
+            // 全新编译时文件不存在
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * @return reflect-config.json 的内容
+     */
+    String toJson() {
+        StringBuilder json = new StringBuilder("[\n");
+        Iterator<Map.Entry<String, Set<String>>> iterator = reflectConfig.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Set<String>> entry = iterator.next();
+            json.append("  {\"name\": \"").append(entry.getKey()).append('"');
+            for (String capability : entry.getValue()) {
+                json.append(", \"").append(capability).append("\": true");
+            }
+            json.append(iterator.hasNext() ? "},\n" : "}\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static String nameOf(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+    }
+
+    /**
+     * 读取注解中Class或Class[]类型的属性
+     *
+     * @param mirror    注解
+     * @param attribute 属性名
+     * @return 属性值对应的类型
+     */
+    private static Set<TypeElement> classValues(AnnotationMirror mirror, String attribute) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                collectTypes(entry.getValue().getValue(), types);
+            }
+        }
+        return types;
+    }
+
+    private static void collectTypes(Object value, Set<TypeElement> types) {
+        if (value instanceof DeclaredType) {
+            types.add((TypeElement) ((DeclaredType) value).asElement());
+        } else if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                collectTypes(item instanceof AnnotationValue ? ((AnnotationValue) item).getValue() : item, types);
+            }
+        }
+    }
+
+}
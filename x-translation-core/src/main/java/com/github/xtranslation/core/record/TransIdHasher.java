@@ -0,0 +1,86 @@
+package com.github.xtranslation.core.record;
+
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Collection;
+
+/**
+ * TransIdHasher: 录制时计算ID哈希的带密钥哈希函数
+ * <p>
+ * 使用 HmacSHA256 截取前64位，密钥在每次录制开始时随机生成且只保存在内存中，不写入录制文件。
+ * 同一次录制内相同的ID得到相同的哈希，可以比较不同调用是否查询了相同的ID；
+ * 不同录制之间的哈希互不相关，拿到录制文件也无法通过遍历ID范围反推出原始ID。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransIdHasher {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int KEY_BYTES = 32;
+
+    private final SecretKeySpec key;
+
+    /**
+     * 使用随机密钥创建
+     */
+    public TransIdHasher() {
+        byte[] bytes = new byte[KEY_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        this.key = new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    /**
+     * 计算ID的哈希
+     *
+     * @param id ID
+     * @return 64位哈希
+     */
+    public long hash(Object id) {
+        return hash(newMac(), id);
+    }
+
+    /**
+     * 计算一组ID的哈希
+     *
+     * @param ids ID集合
+     * @return 64位哈希数组
+     */
+    public long[] hash(Collection<Object> ids) {
+        // Mac不是线程安全的，每次调用单独创建
+        Mac mac = newMac();
+        long[] hashes = new long[ids.size()];
+        int i = 0;
+        for (Object id : ids) {
+            hashes[i++] = hash(mac, id);
+        }
+        return hashes;
+    }
+
+    private static long hash(Mac mac, Object id) {
+        byte[] digest = mac.doFinal(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            // HmacSHA256 是每个JRE都必须提供的算法
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package com.github.xtranslation.core.record;
+
+
+import com.github.xtranslation.core.service.TransPlan;
+import com.github.xtranslation.core.service.TransStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TransRecord: 一次被采样的翻译调用的形态记录
+ * <p>
+ * 只记录形态，不记录任何字段值：根类、行数、总耗时，以及每个仓库查询阶段的ID个数、耗时和ID的哈希。
+ * ID经过 {@link TransIdHasher} 处理，只能用来在同一次录制内比较不同调用是否查询了相同的ID(例如评估缓存命中率)。
+ * 哈希的密钥随每次录制随机生成且不落盘，不同录制之间的哈希无法比较；这只是避免直接暴露ID，不等同于匿名化，
+ * 录制文件中的根类、仓库和字段名仍然会暴露业务结构。
+ * </p>
+ * <p>
+ * 每条记录序列化为一行以制表符分隔的文本：
+ * {@code 时间戳 根类 行数 总耗时 阶段1 阶段2 ...}，
+ * 阶段格式为 {@code 仓库类|源字段|层级|依赖阶段|ID个数(去重前)|去重ID个数|查询耗时|ID哈希(36进制,逗号分隔)}。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+@AllArgsConstructor
+public class TransRecord {
+
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private static final String STAGE_SEPARATOR = "\\|";
+
+    /**
+     * 调用时间(毫秒时间戳)
+     */
+    private final long timestampMillis;
+
+    /**
+     * 根类的全限定名
+     */
+    private final String rootClass;
+
+    /**
+     * 行数
+     */
+    private final int rowCount;
+
+    /**
+     * 总耗时(纳秒)
+     */
+    private final long totalNanos;
+
+    /**
+     * 仓库查询阶段
+     */
+    private final List<Stage> stages;
+
+    /**
+     * Stage: 一个仓库查询阶段的形态
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Stage {
+
+        /**
+         * 翻译仓库的全限定名
+         */
+        private final String repository;
+
+        /**
+         * 源字段名称
+         */
+        private final String trans;
+
+        private final int level;
+
+        /**
+         * 依赖的阶段编号，-1表示不依赖
+         */
+        private final int dependsOn;
+
+        /**
+         * ID个数(去重前)
+         */
+        private final int keyCount;
+
+        /**
+         * 去重ID个数
+         */
+        private final int idCount;
+
+        /**
+         * 查询耗时(纳秒)
+         */
+        private final long fetchNanos;
+
+        /**
+         * 去重ID的哈希
+         */
+        private final long[] idHashes;
+
+    }
+
+    /**
+     * 根据实际执行过的计划创建记录
+     *
+     * @param plan 已执行的计划(需要采集ID哈希)
+     * @return 记录
+     */
+    public static TransRecord of(TransPlan plan) {
+        List<Stage> stages = new ArrayList<>(plan.getStages().size());
+        for (TransStage stage : plan.getStages()) {
+            stages.add(new Stage(stage.getRepository().getName(), stage.getTrans(), stage.getLevel(), stage.getDependsOn(),
+                    stage.getActualKeyCount(), stage.getActualIdCount(), stage.getActualFetchNanos(),
+                    stage.getActualIdHashes() == null ? new long[0] : stage.getActualIdHashes()));
+        }
+        return new TransRecord(System.currentTimeMillis(), plan.getRootClass().getName(), plan.getRowCount(), plan.getTotalNanos(), stages);
+    }
+
+    /**
+     * 序列化为一行文本
+     *
+     * @return 不含换行符的文本
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(64 + stages.size() * 64);
+        sb.append(timestampMillis).append(FIELD_SEPARATOR).append(rootClass).append(FIELD_SEPARATOR)
+                .append(rowCount).append(FIELD_SEPARATOR).append(totalNanos);
+        for (Stage stage : stages) {
+            sb.append(FIELD_SEPARATOR).append(stage.repository).append('|').append(stage.trans).append('|')
+                    .append(stage.level).append('|').append(stage.dependsOn).append('|')
+                    .append(stage.keyCount).append('|').append(stage.idCount).append('|').append(stage.fetchNanos).append('|');
+            for (int i = 0; i < stage.idHashes.length; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append(Long.toString(stage.idHashes[i], Character.MAX_RADIX));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 从一行文本解析记录
+     *
+     * @param line {@link #format()} 输出的文本
+     * @return 记录
+     */
+    public static TransRecord parse(String line) {
+        String[] fields = line.split(String.valueOf(FIELD_SEPARATOR));
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("malformed trans record: " + line);
+        }
+        List<Stage> stages = new ArrayList<>(fields.length - 4);
+        for (int i = 4; i < fields.length; i++) {
+            String[] parts = fields[i].split(STAGE_SEPARATOR, -1);
+            String[] hashText = parts[7].isEmpty() ? new String[0] : parts[7].split(",");
+            long[] hashes = new long[hashText.length];
+            for (int h = 0; h < hashText.length; h++) {
+                hashes[h] = Long.parseLong(hashText[h], Character.MAX_RADIX);
+            }
+            stages.add(new Stage(parts[0], parts[1], Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[4]), Integer.parseInt(parts[5]), Long.parseLong(parts[6]), hashes));
+        }
+        return new TransRecord(Long.parseLong(fields[0]), fields[1], Integer.parseInt(fields[2]), Long.parseLong(fields[3]), stages);
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.github.xtranslation.core.record;
+
+
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import com.github.xtranslation.core.service.TransPlan;
+import lombok.Getter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransRecorder: 线上翻译调用的采样录制器
+ * <p>
+ * 按采样率抽取翻译调用，把调用形态({@link TransRecord}，不含任何字段值，ID只保留哈希)追加写入本地文件，
+ * 之后可以用 benchmark 模块中的回放工具在模拟仓库上重放，离线对比不同的缓存、分批配置。
+ * </p>
+ * <p>
+ * 每个录制器使用自己随机生成的 {@link TransIdHasher}，打开文件时先写入一行以 {@code #} 开头的录制头，
+ * 同一文件中追加的多次录制以录制头分隔，ID哈希只在同一次录制内可以比较。
+ * </p>
+ * <p>
+ * 写文件在单独的后台线程中进行，翻译线程只负责把记录放入有界队列，队列满时直接丢弃记录(计入 {@code getDropped()})，
+ * 不会因为磁盘慢而拖慢翻译。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransRecorder implements Closeable {
+
+    private static final Log log = LogFactory.get();
+
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private static final String HEADER_PREFIX = "#";
+
+    /**
+     * 采样率 [0, 1]
+     */
+    @Getter
+    private final double sampleRate;
+
+    /**
+     * 本次录制的ID哈希函数
+     */
+    @Getter
+    private final TransIdHasher idHasher = new TransIdHasher();
+
+    private final BufferedWriter writer;
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final Thread writerThread;
+
+    private volatile boolean closed;
+
+    /**
+     * 因队列已满而丢弃的记录数
+     */
+    @Getter
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param file       录制文件(追加写入)
+     * @param sampleRate 采样率 [0, 1]
+     * @throws IOException 文件无法打开
+     */
+    public TransRecorder(Path file, double sampleRate) throws IOException {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be within [0, 1]: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.writer.write(HEADER_PREFIX + " x-translation recording " + System.currentTimeMillis());
+        this.writer.newLine();
+        this.writer.flush();
+        this.writerThread = new Thread(this::writeLoop, "trans-recorder");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * @return 本次调用是否需要录制
+     */
+    public boolean sample() {
+        return !closed && sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 录制一次已执行的调用
+     *
+     * @param plan 已执行并采集了ID哈希的计划
+     */
+    public void record(TransPlan plan) {
+        if (plan.isEmpty() || closed) {
+            return;
+        }
+        if (!queue.offer(TransRecord.of(plan).format())) {
+            dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        while (!closed || !queue.isEmpty()) {
+            try {
+                String line = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (line == null) {
+                    continue;
+                }
+                batch.add(line);
+                queue.drainTo(batch);
+                for (String record : batch) {
+                    writer.write(record);
+                    writer.newLine();
+                }
+                writer.flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.warn("TransRecorder 写入失败, {}条记录丢弃: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 停止录制，写完队列中剩余的记录后关闭文件
+     *
+     * @throws IOException 关闭文件失败
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer.close();
+    }
+
+    /**
+     * 读取录制文件
+     * <p>
+     * 跳过录制头，文件中追加了多次录制时按顺序返回全部记录，不同录制之间的ID哈希互不相关。
+     * </p>
+     *
+     * @param file 录制文件
+     * @return 全部记录
+     * @throws IOException 读取失败
+     */
+    public static List<TransRecord> read(Path file) throws IOException {
+        List<TransRecord> records = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isEmpty() && !line.startsWith(HEADER_PREFIX)) {
+                records.add(TransRecord.parse(line));
+            }
+        }
+        return records;
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.github.xtranslation.core.repository;
+
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AdaptiveConcurrencyLimiter: 自适应并发限制器
+ * <p>
+ * 采用 AIMD(加性增、乘性减) 策略，根据调用耗时(RTT)动态调整某个翻译仓库允许的并发调用数：
+ * 1. 按批次大小分桶(2的幂)记录观测到的最小耗时作为后端空闲时的基准(每隔一段样本重新探测一次，适应基准的变化)，
+ *    大批次天然比小批次慢，不能和小批次的基准比较
+ * 2. 耗时超过 同一桶的基准*容忍倍数 或调用失败时，把限制乘以0.9收缩
+ * 3. 耗时正常且并发已用到限制的一半以上时，把限制加1放大
+ * 超过限制的调用排队等待，队列长度和等待时间都有上限，超出时由调用方降级。
+ * </p>
+ * <p>
+ * 当前限制、在途调用数和排队数都可以通过getter读取，便于接入监控后调优。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * 乘性减的系数
+     */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    /**
+     * 每隔多少个样本重新探测最小耗时
+     */
+    private static final int MIN_RTT_RESET_INTERVAL = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition available = lock.newCondition();
+
+    private final TransRepositoryConfig config;
+
+    private double limit;
+
+    private int inFlight;
+
+    private int queued;
+
+    /**
+     * 各批次大小桶的最小耗时  下标: 批次大小的二进制位数(1、2~3、4~7...)
+     */
+    private final long[] minRttNanos = new long[Integer.SIZE + 1];
+
+    private int samples;
+
+    public AdaptiveConcurrencyLimiter(TransRepositoryConfig config) {
+        this.config = config;
+        this.limit = Math.max(config.getMinConcurrencyLimit(), config.getInitialConcurrencyLimit());
+        Arrays.fill(minRttNanos, Long.MAX_VALUE);
+    }
+
+    /**
+     * 获取一个并发名额，超出限制时排队等待
+     *
+     * @return 是否获取成功，队列已满或等待超时返回false
+     * @throws InterruptedException 等待期间线程被中断
+     */
+    public boolean acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (queued >= config.getMaxQueueSize()) {
+                return false;
+            }
+            queued++;
+            try {
+                long nanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxQueueWaitMillis());
+                while (inFlight >= (int) limit) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = available.awaitNanos(nanos);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 归还并发名额并根据本次调用的耗时调整限制
+     *
+     * @param rttNanos  本次调用耗时(纳秒)
+     * @param batchSize 本次调用携带的ID个数
+     * @param success   本次调用是否成功
+     */
+    public void release(long rttNanos, int batchSize, boolean success) {
+        lock.lock();
+        try {
+            int used = inFlight--;
+            if (++samples % MIN_RTT_RESET_INTERVAL == 0) {
+                Arrays.fill(minRttNanos, Long.MAX_VALUE);
+            }
+            int bucket = bucket(batchSize);
+            minRttNanos[bucket] = Math.min(minRttNanos[bucket], rttNanos);
+            if (!success || rttNanos > minRttNanos[bucket] * config.getLatencyTolerance()) {
+                limit = Math.max(config.getMinConcurrencyLimit(), limit * BACKOFF_RATIO);
+            } else if (used * 2 >= (int) limit) {
+                limit = Math.min(config.getMaxConcurrencyLimit(), limit + 1);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 当前允许的并发数
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 当前在途调用数
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 当前排队等待的调用数
+     */
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param batchSize 批次大小
+     * @return 该批次大小所在桶观测到的最小耗时(纳秒)，还没有样本时为0
+     */
+    public long getMinRttNanos(int batchSize) {
+        lock.lock();
+        try {
+            long minRtt = minRttNanos[bucket(batchSize)];
+            return minRtt == Long.MAX_VALUE ? 0 : minRtt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param batchSize 批次大小
+     * @return 批次大小所在的桶(二进制位数)
+     */
+    private static int bucket(int batchSize) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(0, batchSize));
+    }
+
+}
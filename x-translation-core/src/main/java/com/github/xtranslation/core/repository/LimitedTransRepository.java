@@ -0,0 +1,117 @@
+package com.github.xtranslation.core.repository;
+
+
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LimitedTransRepository: 带自适应并发限制的翻译仓库装饰器
+ * <p>
+ * 由 {@link TransRepositoryFactory} 在仓库开启 adaptiveConcurrency 时自动包装在已注册的仓库外层，
+ * 所有调用先经过 {@link AdaptiveConcurrencyLimiter} 获取并发名额，拿不到名额(队列已满或等待超时)时
+ * 返回空映射，对应字段保持未翻译。开启 coalesceRequests 时，同一注解、同一组ID的在途请求会被合并，
+ * 后到的调用直接复用先到调用的结果，不再占用后端的并发。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class LimitedTransRepository implements TransRepository {
+
+    private static final Log log = LogFactory.get();
+
+    /**
+     * 被包装的原始翻译仓库
+     */
+    @Getter
+    private final TransRepository delegate;
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private final boolean coalesce;
+
+    /**
+     * 在途请求  key: 注解+ID列表  value: 请求结果
+     */
+    private final Map<List<Object>, CompletableFuture<Map<Object, Object>>> inFlight = new ConcurrentHashMap<>();
+
+    public LimitedTransRepository(TransRepository delegate, TransRepositoryConfig config) {
+        this.delegate = delegate;
+        this.limiter = new AdaptiveConcurrencyLimiter(config);
+        this.coalesce = config.isCoalesceRequests();
+    }
+
+    @Override
+    public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        if (!coalesce) {
+            return limitedCall(transIdList, transAnno);
+        }
+        List<Object> key = Arrays.asList(transAnno, transIdList);
+        CompletableFuture<Map<Object, Object>> future = new CompletableFuture<>();
+        CompletableFuture<Map<Object, Object>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            Map<Object, Object> valueMap = limitedCall(transIdList, transAnno);
+            future.complete(valueMap);
+            return valueMap;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 在并发限制下调用原始仓库
+     *
+     * @param transIdList ID列表
+     * @param transAnno   翻译注解
+     * @return 翻译值映射，拿不到并发名额时返回空映射
+     */
+    private Map<Object, Object> limitedCall(List<Object> transIdList, Annotation transAnno) {
+        try {
+            if (!limiter.acquire()) {
+                log.warn("TransRepository: {} 超出自适应并发限制{}(排队{}), {}个ID未翻译", delegate.getClass().getName(), limiter.getLimit(), limiter.getQueueDepth(), transIdList.size());
+                return Collections.emptyMap();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyMap();
+        }
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Map<Object, Object> valueMap = delegate.getTransValueMap(transIdList, transAnno);
+            success = true;
+            return valueMap;
+        } finally {
+            limiter.release(System.nanoTime() - start, transIdList.size(), success);
+        }
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return delegate.getMaxBatchSize();
+    }
+
+    @Override
+    public int getBatchConcurrency() {
+        return delegate.getBatchConcurrency();
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.github.xtranslation.core.repository;
+
+import com.github.xtranslation.core.util.CollectionUtils;
+import com.github.xtranslation.core.util.LongHashSet;
+import com.github.xtranslation.core.util.LongObjectMap;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * LongKeyTransRepository: 以long类型主键查询的翻译仓库
+ * <p>
+ * 适用于翻译键是 Long/Integer 主键的场景。引擎会用 {@link com.github.xtranslation.core.util.LongHashSet}
+ * 对ID去重，并把去重后的ID以 long[] 形式交给仓库，仓库返回以long为键的 {@link LongObjectMap}，
+ * 回写时按数值查找，整个过程不需要为每个ID装箱和创建哈希节点。
+ * </p>
+ * <p>
+ * 分批、超时、熔断等保护仍然按 {@link TransRepository#getTransValueMap(List, Annotation)} 执行，
+ * 默认实现会把ID列表转换为 long[] 后调用 {@link #getTransValueMap(long[], Annotation)}。
+ * ID中有非整数类型(例如源字段是String)时改为调用 {@link #getBoxedTransValueMap(List, Annotation)}，
+ * 默认只翻译其中的整数ID，其余ID保持未翻译，需要时可以覆盖该方法。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public interface LongKeyTransRepository extends TransRepository {
+
+    /**
+     * 获取翻译结果
+     *
+     * @param transIds  需要翻译的ID(已去重，不能修改)
+     * @param transAnno 翻译对象上的注解(需要的字段)
+     * @return 查询结果 id-翻译值
+     */
+    LongObjectMap<Object> getTransValueMap(long[] transIds, Annotation transAnno);
+
+    /**
+     * 获取翻译结果(ID中有非整数类型时调用)
+     *
+     * @param transIdList 需要翻译的ID列表(包含非整数类型)
+     * @param transAnno   翻译对象上的注解(需要的字段)
+     * @return 查询结果 id-翻译值
+     */
+    default Map<Object, Object> getBoxedTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        List<Object> longIds = new ArrayList<>(transIdList.size());
+        for (Object id : transIdList) {
+            if (LongHashSet.isLongKey(id)) {
+                longIds.add(id);
+            }
+        }
+        if (longIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LongObjectMap<Object> longValueMap = getTransValueMap(CollectionUtils.toLongArray(longIds), transAnno);
+        if (longValueMap == null) {
+            return Collections.emptyMap();
+        }
+        // 按原始的ID对象返回，和其他类型的ID放在同一个普通映射中时仍然能按原始ID查到
+        Map<Object, Object> valueMap = new HashMap<>();
+        for (Object id : longIds) {
+            Object value = longValueMap.get(id);
+            if (value != null) {
+                valueMap.put(id, value);
+            }
+        }
+        return valueMap;
+    }
+
+    @Override
+    default Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        return CollectionUtils.isLongList(transIdList)
+                ? getTransValueMap(CollectionUtils.toLongArray(transIdList), transAnno)
+                : getBoxedTransValueMap(transIdList, transAnno);
+    }
+
+}
@@ -25,4 +25,24 @@ public interface TransRepository {
         return Collections.emptyMap();
     }
 
+    /**
+     * 单次调用最多携带的ID个数(例如数据库IN语句能接受的长度)，超过后引擎会自动拆分为多个子批次
+     *
+     * @return 最大批次大小，小于等于0表示不拆分
+     * @see TransRepositoryConfig
+     */
+    default int getMaxBatchSize() {
+        return 0;
+    }
+
+    /**
+     * 拆分后的子批次最多允许并发执行的个数
+     *
+     * @return 子批次并发数，小于等于1表示串行
+     * @see TransRepositoryConfig
+     */
+    default int getBatchConcurrency() {
+        return 1;
+    }
+
 }
@@ -0,0 +1,130 @@
+package com.github.xtranslation.core.repository;
+
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * TransRepositoryConfig: 翻译仓库的执行配置
+ * <p>
+ * 每个翻译仓库一份，控制引擎如何调用该仓库的 getTransValueMap，例如单次调用最多携带多少个ID、
+ * 拆分后的子批次最多并发几个。配置可以来自仓库自身的声明({@link TransRepository#getMaxBatchSize()} 等)，
+ * 也可以通过 {@link TransRepositoryFactory#configure(Class, TransRepositoryConfig)} 或 starter 的配置文件覆盖。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+@Setter
+public class TransRepositoryConfig {
+
+    /**
+     * 单次调用最多携带的ID个数，小于等于0表示不拆分(例如数据库IN语句的长度上限)
+     */
+    private int maxBatchSize;
+
+    /**
+     * 拆分后子批次的最大并发数，小于等于1表示子批次串行执行
+     */
+    private int batchConcurrency = 1;
+
+    /**
+     * 是否根据观测到的单个ID耗时自适应调整批次大小(以maxBatchSize为上限)
+     */
+    private boolean adaptiveBatchSize;
+
+    /**
+     * 自适应模式下，期望单个子批次的耗时(毫秒)
+     */
+    private long targetBatchLatencyMillis = 50;
+
+    /**
+     * 自适应模式下，批次大小的下限
+     */
+    private int minBatchSize = 16;
+
+    /**
+     * 单次仓库调用的超时时间(毫秒)，小于等于0表示不限制。超时后该批次的字段保持未翻译并记录日志
+     */
+    private long timeoutMillis;
+
+    /**
+     * 是否开启对冲请求：主请求在对冲延迟内没有返回时，再发出一个相同的请求，取先返回的结果
+     */
+    private boolean hedgeEnabled;
+
+    /**
+     * 对冲延迟(毫秒)，小于等于0表示使用观测到的p95耗时
+     */
+    private long hedgeDelayMillis;
+
+    /**
+     * 熔断阈值：连续失败(异常或超时)达到该次数后熔断，小于等于0表示不熔断
+     */
+    private int circuitBreakerFailureThreshold;
+
+    /**
+     * 熔断持续时间(毫秒)，到期后放行一个试探请求，成功则恢复
+     */
+    private long circuitBreakerOpenMillis = 30000;
+
+    /**
+     * 舱壁隔离：该仓库同时在途的最大调用数，小于等于0表示不限制。超出时直接降级而不是排队占用线程池
+     */
+    private int maxConcurrentCalls;
+
+    /**
+     * 是否开启自适应并发限制：根据调用耗时(RTT)的变化自动收缩或放大允许的并发数，保护后端存储
+     */
+    private boolean adaptiveConcurrency;
+
+    /**
+     * 自适应并发限制的初始值
+     */
+    private int initialConcurrencyLimit = 10;
+
+    /**
+     * 自适应并发限制的下限
+     */
+    private int minConcurrencyLimit = 1;
+
+    /**
+     * 自适应并发限制的上限
+     */
+    private int maxConcurrencyLimit = 200;
+
+    /**
+     * 耗时容忍倍数：观测耗时超过最小耗时的该倍数时认为后端已经过载，开始收缩并发
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * 超出并发限制时最多排队等待的调用数，队列满后直接降级
+     */
+    private int maxQueueSize = 100;
+
+    /**
+     * 排队等待的最长时间(毫秒)，超时后直接降级
+     */
+    private long maxQueueWaitMillis = 1000;
+
+    /**
+     * 是否合并在途的相同请求(同一注解、同一组ID)，后到的调用直接复用先到调用的结果
+     */
+    private boolean coalesceRequests;
+
+    /**
+     * 根据仓库自身的声明创建配置
+     *
+     * @param transRepository 翻译仓库
+     * @return 翻译仓库配置
+     */
+    public static TransRepositoryConfig of(TransRepository transRepository) {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setMaxBatchSize(transRepository.getMaxBatchSize());
+        config.setBatchConcurrency(transRepository.getBatchConcurrency());
+        return config;
+    }
+
+}
@@ -32,17 +32,82 @@ public class TransRepositoryFactory {
      */
     private final static Map<Class<? extends TransRepository>, TransRepository> TRANS_REPOSITORY_MAP = new ConcurrentHashMap<>();
 
+    /**
+     * 翻译仓库的执行配置  key: 翻译仓库的class  value: 翻译仓库配置
+     */
+    private final static Map<Class<? extends TransRepository>, TransRepositoryConfig> TRANS_REPOSITORY_CONFIG_MAP = new ConcurrentHashMap<>();
+
+    /**
+     * 开启自适应并发限制的仓库包装  key: 翻译仓库的class  value: 带并发限制的仓库
+     */
+    private final static Map<Class<? extends TransRepository>, LimitedTransRepository> LIMITED_REPOSITORY_MAP = new ConcurrentHashMap<>();
+
     /***
-     * 获取翻译仓库实例
+     * 获取翻译仓库实例(开启自适应并发限制时返回包装后的仓库)
      * @param repository 翻译仓库的class
      * @return 翻译仓库实例
      */
     public static TransRepository getTransRepository(Class<? extends TransRepository> repository) {
-        return TRANS_REPOSITORY_MAP.get(repository);
+        TransRepository transRepository = TRANS_REPOSITORY_MAP.get(repository);
+        if (transRepository == null || !getConfig(repository, transRepository).isAdaptiveConcurrency()) {
+            return transRepository;
+        }
+        return LIMITED_REPOSITORY_MAP.computeIfAbsent(repository, c -> new LimitedTransRepository(transRepository, getConfig(c, transRepository)));
     }
 
     public static void register(TransRepository transRepository) {
-        Option.of(transRepository).forEach(repo -> TRANS_REPOSITORY_MAP.put(repo.getClass(), repo));
+        Option.of(transRepository).forEach(repo -> register(repo.getClass(), repo));
+    }
+
+    /**
+     * 按指定的class注册翻译仓库(例如仓库实例是代理对象时，按被代理的目标class注册)
+     *
+     * @param repository      翻译仓库的class(注解中引用的class)
+     * @param transRepository 翻译仓库实例
+     */
+    public static void register(Class<? extends TransRepository> repository, TransRepository transRepository) {
+        Option.of(transRepository).forEach(repo -> {
+            TRANS_REPOSITORY_MAP.put(repository, repo);
+            LIMITED_REPOSITORY_MAP.remove(repository);
+        });
+    }
+
+    /**
+     * 获取翻译仓库的自适应并发限制器(用于观察当前限制和排队情况)
+     *
+     * @param repository 翻译仓库的class
+     * @return 自适应并发限制器，仓库未开启自适应并发限制时为空
+     */
+    public static Option<AdaptiveConcurrencyLimiter> getLimiter(Class<? extends TransRepository> repository) {
+        return Option.of(LIMITED_REPOSITORY_MAP.get(repository)).map(LimitedTransRepository::getLimiter);
+    }
+
+    /**
+     * 设置翻译仓库的执行配置(优先级高于仓库自身的声明)
+     *
+     * @param repository 翻译仓库的class
+     * @param config     翻译仓库配置
+     */
+    public static void configure(Class<? extends TransRepository> repository, TransRepositoryConfig config) {
+        Option.of(config).forEach(cfg -> {
+            TRANS_REPOSITORY_CONFIG_MAP.put(repository, cfg);
+            // 配置变化后重新创建并发限制器
+            LIMITED_REPOSITORY_MAP.remove(repository);
+        });
+    }
+
+    /**
+     * 获取翻译仓库的执行配置
+     * <p>
+     * 没有显式配置时，使用仓库自身声明的值生成一份并缓存。
+     * </p>
+     *
+     * @param repository      翻译仓库的class
+     * @param transRepository 翻译仓库实例
+     * @return 翻译仓库配置
+     */
+    public static TransRepositoryConfig getConfig(Class<? extends TransRepository> repository, TransRepository transRepository) {
+        return TRANS_REPOSITORY_CONFIG_MAP.computeIfAbsent(repository, c -> TransRepositoryConfig.of(transRepository));
     }
 
 }
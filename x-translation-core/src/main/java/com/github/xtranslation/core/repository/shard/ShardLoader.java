@@ -0,0 +1,28 @@
+package com.github.xtranslation.core.repository.shard;
+
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardLoader: 分片加载器，在一个分片中查询翻译数据
+ *
+ * @param <S> 分片标识的类型
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@FunctionalInterface
+public interface ShardLoader<S> {
+
+    /**
+     * 在一个分片中查询翻译数据
+     *
+     * @param shard       分片标识
+     * @param transIdList 属于该分片的ID(已去重)
+     * @param transAnno   翻译注解
+     * @return 查询结果 id-翻译值
+     */
+    Map<Object, Object> load(S shard, List<Object> transIdList, Annotation transAnno);
+
+}
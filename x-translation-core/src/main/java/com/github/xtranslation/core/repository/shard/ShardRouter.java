@@ -0,0 +1,22 @@
+package com.github.xtranslation.core.repository.shard;
+
+
+/**
+ * ShardRouter: 分片路由，计算ID所在的分片
+ *
+ * @param <S> 分片标识的类型(例如库名、分片序号)
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@FunctionalInterface
+public interface ShardRouter<S> {
+
+    /**
+     * 计算ID所在的分片
+     *
+     * @param id 翻译ID
+     * @return 分片标识，返回null表示该ID不属于任何分片(保持未翻译)
+     */
+    S route(Object id);
+
+}
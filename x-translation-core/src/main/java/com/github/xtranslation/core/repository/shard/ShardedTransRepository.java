@@ -0,0 +1,206 @@
+package com.github.xtranslation.core.repository.shard;
+
+
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import com.github.xtranslation.core.repository.TransRepository;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ShardedTransRepository: 分片翻译仓库
+ * <p>
+ * 适用于数据按ID范围或哈希分布在多个库中的场景。使用方提供分片路由 {@link ShardRouter} 和分片加载器 {@link ShardLoader}，
+ * 每次调用按路由把ID分组，各分片并行查询后合并结果：
+ * 1. 第一个分片在调用线程中执行，其余分片提交到线程池
+ * 2. 每个分片最多同时有 maxConcurrencyPerShard 个在途查询(所有调用共享)，等待超过 acquireTimeoutMillis 时放弃该分片
+ * 3. 单个分片失败只影响该分片的ID(保持未翻译并记录日志)，所有分片都失败时才抛出第一个异常，
+ * 由引擎按仓库失败处理(熔断等)
+ * </p>
+ * <p>
+ * 仓库按class注册，使用时继承本类并在构造方法中提供路由和加载器：
+ * </p>
+ * <pre>
+ * public class UserTransRepository extends ShardedTransRepository&lt;Integer&gt; {
+ *     public UserTransRepository(List&lt;UserMapper&gt; shards) {
+ *         super(id -&gt; (int) ((Long) id % shards.size()), (shard, ids, anno) -&gt; shards.get(shard).selectNames(ids));
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <S> 分片标识的类型
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class ShardedTransRepository<S> implements TransRepository {
+
+    private static final Log log = LogFactory.get();
+
+    private final ShardRouter<S> router;
+
+    private final ShardLoader<S> loader;
+
+    private final Executor executor;
+
+    /**
+     * 每个分片的并发名额  key: 分片标识  value: 信号量
+     */
+    private final Map<S, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * 每个分片最多同时在途的查询个数，小于等于0表示不限制(修改后对新出现的分片生效)
+     */
+    @Getter
+    @Setter
+    private volatile int maxConcurrencyPerShard;
+
+    /**
+     * 等待分片并发名额的最长时间(毫秒)
+     */
+    @Getter
+    @Setter
+    private volatile long acquireTimeoutMillis = 1000;
+
+    /**
+     * 使用共享的分片查询线程池
+     *
+     * @param router 分片路由
+     * @param loader 分片加载器
+     */
+    public ShardedTransRepository(ShardRouter<S> router, ShardLoader<S> loader) {
+        this(router, loader, ExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * @param router   分片路由
+     * @param loader   分片加载器
+     * @param executor 并行查询分片使用的线程池
+     */
+    public ShardedTransRepository(ShardRouter<S> router, ShardLoader<S> loader, Executor executor) {
+        this.router = router;
+        this.loader = loader;
+        this.executor = executor;
+    }
+
+    @Override
+    public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+        Map<S, List<Object>> shards = route(transIdList);
+        if (shards.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Map.Entry<S, List<Object>>> entries = new ArrayList<>(shards.entrySet());
+        if (entries.size() == 1) {
+            return load(entries.get(0).getKey(), entries.get(0).getValue(), transAnno);
+        }
+
+        List<CompletableFuture<Map<Object, Object>>> futures = new ArrayList<>(entries.size() - 1);
+        for (int i = 1; i < entries.size(); i++) {
+            Map.Entry<S, List<Object>> entry = entries.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> load(entry.getKey(), entry.getValue(), transAnno), executor));
+        }
+        Map<Object, Object> result = new HashMap<>();
+        RuntimeException failure = null;
+        int failed = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<S, List<Object>> entry = entries.get(i);
+            try {
+                result.putAll(i == 0 ? load(entry.getKey(), entry.getValue(), transAnno) : futures.get(i - 1).join());
+            } catch (RuntimeException e) {
+                RuntimeException cause = e instanceof CompletionException && e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                log.warn("ShardedTransRepository: {} 分片 {} 查询失败, {}个ID未翻译: {}", getClass().getName(), entry.getKey(), entry.getValue().size(), cause.toString());
+                failure = failure == null ? cause : failure;
+                failed++;
+            }
+        }
+        if (failed == entries.size()) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * 按分片对ID分组(保持ID的原始顺序)
+     *
+     * @param transIdList 去重后的ID列表
+     * @return 分片 -> ID列表
+     */
+    private Map<S, List<Object>> route(List<Object> transIdList) {
+        Map<S, List<Object>> shards = new LinkedHashMap<>();
+        for (Object id : transIdList) {
+            S shard = router.route(id);
+            if (shard != null) {
+                shards.computeIfAbsent(shard, s -> new ArrayList<>()).add(id);
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * 在分片的并发名额内查询一个分片
+     *
+     * @param shard       分片标识
+     * @param transIdList 属于该分片的ID
+     * @param transAnno   翻译注解
+     * @return 查询结果，拿不到并发名额时返回空映射
+     */
+    private Map<Object, Object> load(S shard, List<Object> transIdList, Annotation transAnno) {
+        Semaphore permit = permit(shard);
+        if (permit != null) {
+            try {
+                if (!permit.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    log.warn("ShardedTransRepository: {} 分片 {} 在途查询已达上限{}, {}个ID未翻译", getClass().getName(), shard, maxConcurrencyPerShard, transIdList.size());
+                    return Collections.emptyMap();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyMap();
+            }
+        }
+        try {
+            Map<Object, Object> valueMap = loader.load(shard, transIdList, transAnno);
+            return valueMap == null ? Collections.emptyMap() : valueMap;
+        } finally {
+            if (permit != null) {
+                permit.release();
+            }
+        }
+    }
+
+    private Semaphore permit(S shard) {
+        int limit = maxConcurrencyPerShard;
+        return limit <= 0 ? null : permits.computeIfAbsent(shard, s -> new Semaphore(limit));
+    }
+
+    /**
+     * 默认的分片查询线程池(懒加载，守护线程，空闲线程60秒后回收)
+     * <p>
+     * 线程数上限为CPU核数的2倍(至少4个)，队列上限1024，队列满时由调用线程自己查询该分片，
+     * 避免分片数多、并发高时无限创建线程
+     * </p>
+     */
+    private static class ExecutorHolder {
+
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+
+        private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+        private static final ExecutorService EXECUTOR = newExecutor();
+
+        private static ExecutorService newExecutor() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1024), r -> {
+                Thread thread = new Thread(r, "trans-shard-" + COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+
+    }
+
+}
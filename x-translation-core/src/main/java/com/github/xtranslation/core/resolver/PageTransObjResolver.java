@@ -0,0 +1,115 @@
+package com.github.xtranslation.core.resolver;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PageTransObjResolver: 内置的分页对象解析器
+ * <p>
+ * 不引入任何分页框架的依赖，按类型名称识别常见的分页对象，直接返回其中的记录列表(不复制)：
+ * 1. MyBatis-Plus 的 IPage：getRecords()
+ * 2. Spring Data 的 Slice/Page：getContent()
+ * 3. PageHelper 的 PageInfo：getList()
+ * (PageHelper 的 Page、hutool 的 PageResult 本身就是 List，无需解析)
+ * 自定义的分页类型可以通过 {@link #registerPageType(String, String)} 注册。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class PageTransObjResolver implements TransObjResolver {
+
+    /**
+     * 分页类型  key: 类或接口的全限定名  value: 获取记录列表的无参方法名
+     */
+    private final static Map<String, String> PAGE_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        PAGE_TYPES.put("com.baomidou.mybatisplus.core.metadata.IPage", "getRecords");
+        PAGE_TYPES.put("org.springframework.data.domain.Slice", "getContent");
+        PAGE_TYPES.put("com.github.pagehelper.PageInfo", "getList");
+    }
+
+    /**
+     * 表示"不是分页类型"的缓存值
+     */
+    private final static Optional<Method> NOT_PAGE = Optional.empty();
+
+    /**
+     * 记录列表访问方法缓存  key: 对象的具体类型  value: 访问方法(所有实例共享，注册新的分页类型时清空)
+     */
+    private final static Map<Class<?>, Optional<Method>> ACCESSORS = new ConcurrentHashMap<>();
+
+    /**
+     * 注册自定义的分页类型
+     *
+     * @param typeName 分页类或接口的全限定名(子类同样生效)
+     * @param accessor 获取记录列表的无参方法名
+     */
+    public static void registerPageType(String typeName, String accessor) {
+        PAGE_TYPES.put(typeName, accessor);
+        // 之前被判定为"不是分页类型"的类可能是新注册类型的子类
+        ACCESSORS.clear();
+        TransObjResolverFactory.clearCache();
+    }
+
+    @Override
+    public boolean support(Object obj) {
+        return accessor(obj.getClass()).isPresent();
+    }
+
+    @Override
+    public Object resolveTransObj(Object obj) {
+        Method method = accessor(obj.getClass()).orElseThrow(() -> new IllegalArgumentException("not a page: " + obj.getClass().getName()));
+        try {
+            return method.invoke(obj);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to read page records from " + obj.getClass().getName(), e);
+        }
+    }
+
+    private static Optional<Method> accessor(Class<?> clazz) {
+        Optional<Method> method = ACCESSORS.get(clazz);
+        if (method == null) {
+            method = findAccessor(clazz);
+            ACCESSORS.put(clazz, method);
+        }
+        return method;
+    }
+
+    /**
+     * 沿继承关系查找已知的分页类型，并取出对应的访问方法
+     */
+    private static Optional<Method> findAccessor(Class<?> clazz) {
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(clazz);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            String accessor = PAGE_TYPES.get(type.getName());
+            if (accessor != null) {
+                try {
+                    // 从声明的分页类型上取方法，避免实现类不是public时无法调用
+                    Method method = type.getMethod(accessor);
+                    if (!Modifier.isPublic(type.getModifiers())) {
+                        method.setAccessible(true);
+                    }
+                    return Optional.of(method);
+                } catch (NoSuchMethodException | SecurityException e) {
+                    return NOT_PAGE;
+                }
+            }
+            if (type.getSuperclass() != null) {
+                queue.add(type.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return NOT_PAGE;
+    }
+
+}
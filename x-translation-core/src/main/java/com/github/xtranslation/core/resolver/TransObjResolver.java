@@ -3,6 +3,10 @@ package com.github.xtranslation.core.resolver;
 
 /**
  * TransObjResolver: 解析包装对象，获取需要翻译的对象 (后期改名 WrapperObjectResolver)
+ * <p>
+ * 注意：{@link TransObjResolverFactory} 会按对象的具体类型缓存解析器的选择结果，
+ * 因此 support 的结果只能取决于对象的类型，不能取决于对象的内容。
+ * </p>
  *
  * <p>设计说明: 为什么没有采用"约定优于配置"的方式</p>
  * <p>1. 包装类型有限: 常见的泛型包装类如 {@code Result<T>}、{@code Result<Page<T>>}、{@code ServiceResult<T>} 等类型数量有限，
@@ -25,6 +29,18 @@ public interface TransObjResolver {
      */
     boolean support(Object obj);
 
+    /**
+     * 声明支持的包装类型(包括其子类)
+     * <p>
+     * 返回非空数组时，注册中心只按类型匹配，不再调用 {@link #support(Object)}；默认返回空数组，表示由 support 判断。
+     * </p>
+     *
+     * @return 支持的包装类型
+     */
+    default Class<?>[] supportTypes() {
+        return new Class<?>[0];
+    }
+
     /**
      * 解析包装对象，获取需要翻译的对象
      *
@@ -1,34 +1,150 @@
 package com.github.xtranslation.core.resolver;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * TransObjResolverFactory: 转换对象解析器工厂类
+ * <p>
+ * 解析器列表采用写时复制：注册时生成新的不可变快照，读取时无需加锁，注册和翻译可以并发进行。
+ * 同一个解析器类重复注册时替换原有实例(保持原来的顺序)，与翻译仓库的注册方式一致。
+ * 用户注册的解析器之后始终附加内置的 {@link PageTransObjResolver}，用于拆开常见的分页对象。
+ * </p>
+ * <p>
+ * 每个具体类型选中的解析器(包括"没有解析器")会被缓存，之后同类型的对象只需要一次哈希查找，
+ * 例如 {@code Result<Page<List<T>>>} 的解析只需要每一层各查找一次。缓存和解析器列表放在同一个快照中，
+ * 注册新的解析器时整体替换快照，并发的查找不会把按旧列表选出的解析器写进新快照的缓存。
+ * </p>
  *
  * @author zhangxiaoxiang
  * @since 2025/7/27
  */
 public class TransObjResolverFactory {
 
-    private final static List<TransObjResolver> RESOLVERS = new ArrayList<>();
+    /**
+     * 表示"没有解析器"的缓存值
+     */
+    private final static TransObjResolver NONE = new TransObjResolver() {
+        @Override
+        public boolean support(Object obj) {
+            return false;
+        }
+
+        @Override
+        public Object resolveTransObj(Object obj) {
+            return obj;
+        }
+    };
+
+    /**
+     * 内置解析器(始终排在用户注册的解析器之后)
+     */
+    private final static List<TransObjResolver> BUILTIN_RESOLVERS = Collections.singletonList(new PageTransObjResolver());
+
+    /**
+     * 用户注册的解析器
+     */
+    private final static List<TransObjResolver> REGISTERED = new ArrayList<>();
+
+    /**
+     * 当前生效的快照
+     */
+    private static volatile Snapshot snapshot = new Snapshot(BUILTIN_RESOLVERS);
 
     /**
      * 注册一个TransObjResolver对象解析器
      *
      * @param resolver 需要注册的TransObjResolver对象解析器
      */
-    public static void register(TransObjResolver resolver) {
-        RESOLVERS.add(resolver);
+    public static synchronized void register(TransObjResolver resolver) {
+        int idx = -1;
+        for (int i = 0; i < REGISTERED.size(); i++) {
+            if (REGISTERED.get(i).getClass() == resolver.getClass()) {
+                idx = i;
+                break;
+            }
+        }
+        if (idx >= 0) {
+            REGISTERED.set(idx, resolver);
+        } else {
+            REGISTERED.add(resolver);
+        }
+        List<TransObjResolver> resolvers = new ArrayList<>(REGISTERED.size() + BUILTIN_RESOLVERS.size());
+        resolvers.addAll(REGISTERED);
+        resolvers.addAll(BUILTIN_RESOLVERS);
+        // 解析器列表和空的缓存一起替换
+        snapshot = new Snapshot(Collections.unmodifiableList(resolvers));
     }
 
     /**
      * 获取已注册的TransObjResolver对象解析器列表
      *
-     * @return 已注册的TransObjResolver对象解析器列表
+     * @return 已注册的TransObjResolver对象解析器列表(不可变快照，包含内置解析器)
      */
     public static List<TransObjResolver> getResolvers() {
-        return RESOLVERS;
+        return snapshot.resolvers;
+    }
+
+    /**
+     * 获取支持该对象的解析器
+     *
+     * @param obj 包装对象
+     * @return 第一个支持该对象的解析器，没有时返回null
+     */
+    public static TransObjResolver getResolver(Object obj) {
+        // 只读取一次快照，查找和缓存都基于同一个解析器列表
+        Snapshot current = snapshot;
+        Class<?> clazz = obj.getClass();
+        TransObjResolver resolver = current.cache.get(clazz);
+        if (resolver == null) {
+            resolver = findResolver(current.resolvers, obj, clazz);
+            current.cache.put(clazz, resolver);
+        }
+        return resolver == NONE ? null : resolver;
+    }
+
+    /**
+     * 清空解析器选择结果缓存
+     */
+    static synchronized void clearCache() {
+        snapshot = new Snapshot(snapshot.resolvers);
+    }
+
+    private static TransObjResolver findResolver(List<TransObjResolver> resolvers, Object obj, Class<?> clazz) {
+        for (TransObjResolver resolver : resolvers) {
+            Class<?>[] types = resolver.supportTypes();
+            if (types != null && types.length > 0) {
+                for (Class<?> type : types) {
+                    if (type.isAssignableFrom(clazz)) {
+                        return resolver;
+                    }
+                }
+            } else if (resolver.support(obj)) {
+                return resolver;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Snapshot: 不可变的解析器列表及基于它的选择结果缓存
+     */
+    private static final class Snapshot {
+
+        private final List<TransObjResolver> resolvers;
+
+        /**
+         * 解析器选择结果缓存  key: 对象的具体类型  value: 选中的解析器，没有时为 NONE
+         */
+        private final Map<Class<?>, TransObjResolver> cache = new ConcurrentHashMap<>();
+
+        private Snapshot(List<TransObjResolver> resolvers) {
+            this.resolvers = resolvers;
+        }
+
     }
 
 }
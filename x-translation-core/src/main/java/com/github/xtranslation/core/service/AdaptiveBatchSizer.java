@@ -0,0 +1,61 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AdaptiveBatchSizer: 自适应批次大小计算器
+ * <p>
+ * 以指数加权移动平均(EWMA)记录某个翻译仓库平均每个ID的耗时，再用期望的子批次耗时反推批次大小，
+ * 结果限制在 [minBatchSize, maxBatchSize] 之间。统计值的并发更新允许少量丢失，只影响估算精度，不影响正确性。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class AdaptiveBatchSizer {
+
+    /**
+     * EWMA平滑系数，越大越偏向最近的观测值
+     */
+    private static final double ALPHA = 0.2;
+
+    /**
+     * 平均每个ID的耗时(纳秒)，小于等于0表示还没有观测值
+     */
+    private volatile double nanosPerId;
+
+    /**
+     * 计算当前的批次大小
+     *
+     * @param config 翻译仓库配置
+     * @return 批次大小
+     */
+    int batchSize(TransRepositoryConfig config) {
+        int max = config.getMaxBatchSize();
+        double perId = this.nanosPerId;
+        if (perId <= 0) {
+            return max;
+        }
+        long size = (long) (TimeUnit.MILLISECONDS.toNanos(config.getTargetBatchLatencyMillis()) / perId);
+        return (int) Math.max(Math.min(size, max), Math.min(config.getMinBatchSize(), max));
+    }
+
+    /**
+     * 记录一次仓库调用的耗时
+     *
+     * @param idCount 本次调用的ID个数
+     * @param nanos   本次调用的耗时(纳秒)
+     */
+    void record(int idCount, long nanos) {
+        if (idCount <= 0) {
+            return;
+        }
+        double sample = (double) nanos / idCount;
+        double prev = this.nanosPerId;
+        this.nanosPerId = prev <= 0 ? sample : prev + ALPHA * (sample - prev);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.github.xtranslation.core.service;
+
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CircuitBreaker: 翻译仓库熔断器
+ * <p>
+ * 连续失败达到阈值后进入熔断状态，熔断期间的调用直接失败(字段保持未翻译)，不再占用线程和数据库连接；
+ * 熔断到期后只放行一个试探请求，成功则关闭熔断，失败则重新计时。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class CircuitBreaker {
+
+    /**
+     * 连续失败次数
+     */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * 是否已经有试探请求在途
+     */
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    /**
+     * 熔断结束时间(System.nanoTime)，0表示未熔断
+     */
+    private volatile long openUntil;
+
+    /**
+     * 判断当前是否允许调用
+     *
+     * @return true表示允许调用
+     */
+    boolean allowRequest() {
+        long until = this.openUntil;
+        if (until == 0) {
+            return true;
+        }
+        // 熔断到期后只放行一个试探请求
+        return System.nanoTime() - until >= 0 && probing.compareAndSet(false, true);
+    }
+
+    /**
+     * 记录一次成功调用
+     */
+    void onSuccess() {
+        failures.set(0);
+        openUntil = 0;
+        probing.set(false);
+    }
+
+    /**
+     * 记录一次失败调用
+     *
+     * @param threshold  熔断阈值
+     * @param openMillis 熔断持续时间(毫秒)
+     */
+    void onFailure(int threshold, long openMillis) {
+        if (failures.incrementAndGet() >= threshold || openUntil != 0) {
+            openUntil = System.nanoTime() + openMillis * 1_000_000L;
+            probing.set(false);
+        }
+    }
+
+    /**
+     * 调用既没有成功也没有失败就结束了(例如调用线程被中断)：只归还试探名额，熔断状态不变，
+     * 否则试探请求一直占用名额，熔断器会永远拒绝后续调用
+     */
+    void onAbort() {
+        probing.set(false);
+    }
+
+    /**
+     * @return 当前是否处于熔断状态
+     */
+    boolean isOpen() {
+        return openUntil != 0;
+    }
+
+}
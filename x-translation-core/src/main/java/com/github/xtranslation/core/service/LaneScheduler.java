@@ -0,0 +1,235 @@
+package com.github.xtranslation.core.service;
+
+
+import io.vavr.control.Option;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * LaneScheduler: 按通道加权公平调度的仓库查询执行器
+ * <p>
+ * 使用固定数量的工作线程执行仓库查询，每个通道一个队列，采用步幅调度(stride scheduling)：
+ * 每个通道维护一个虚拟时间，每执行一个任务虚拟时间增加 1/权重，工作线程总是从虚拟时间最小的非空通道取任务。
+ * 所有通道都有积压时各通道获得的线程份额与权重成正比；只有一个通道有任务时，它可以用满全部线程。
+ * 通道从空闲变为有任务时，虚拟时间会被追平到全局虚拟时间(最近一次被调度任务的虚拟时间)，
+ * 避免空闲期间积攒的"额度"一次性抢占线程。
+ * </p>
+ * <p>
+ * {@link #shutdown()} 之后工作线程执行完已排队的任务后退出，之后提交的任务直接在调用线程中执行。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class LaneScheduler {
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Map<TransLane, ArrayDeque<Runnable>> queues = new EnumMap<>(TransLane.class);
+
+    private final Map<TransLane, Double> pass = new EnumMap<>(TransLane.class);
+
+    private final Map<TransLane, Integer> weights;
+
+    /**
+     * 全局虚拟时间(最近一次被调度任务所在通道的虚拟时间)
+     */
+    private double virtualTime;
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private boolean shutdown;
+
+    LaneScheduler(int workers, Map<TransLane, Integer> weights) {
+        this.weights = new EnumMap<>(TransLane.class);
+        for (TransLane lane : TransLane.values()) {
+            queues.put(lane, new ArrayDeque<>());
+            pass.put(lane, 0D);
+            this.weights.put(lane, Math.max(1, weights.getOrDefault(lane, lane.getWeight())));
+        }
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::work, "trans-lane-worker-" + i);
+            thread.setDaemon(true);
+            this.workers.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * 停止接收新任务，工作线程执行完已排队的任务后退出
+     */
+    void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 等待全部工作线程退出
+     *
+     * @param timeout 超时时间
+     * @param unit    时间单位
+     * @return 是否全部退出
+     * @throws InterruptedException 等待时被中断
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            }
+            if (worker.isAlive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 在指定通道中执行任务并等待结果
+     * <p>
+     * 超过等待时间时放弃等待：任务还在排队时不再执行，已经开始执行时由任务自身的超时保护结束。
+     * </p>
+     *
+     * @param lane         调度通道
+     * @param supplier     任务
+     * @param timeoutNanos 等待时间(纳秒)，小于等于0时一直等待
+     * @param <T>          结果类型
+     * @return 任务结果，超过等待时间或等待时被中断时返回 {@link Option#none()}
+     */
+    <T> Option<T> call(TransLane lane, Supplier<T> supplier, long timeoutNanos) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        submit(lane, () -> {
+            // 调用方已经放弃等待
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        try {
+            return Option.some(timeoutNanos > 0 ? future.get(timeoutNanos, TimeUnit.NANOSECONDS) : future.get());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return Option.none();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            return Option.none();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * @return 全部通道中排队等待的任务数
+     */
+    int queueDepth() {
+        lock.lock();
+        try {
+            int depth = 0;
+            for (ArrayDeque<Runnable> queue : queues.values()) {
+                depth += queue.size();
+            }
+            return depth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 提交任务到指定通道
+     *
+     * @param lane 调度通道
+     * @param task 任务
+     */
+    private void submit(TransLane lane, Runnable task) {
+        lock.lock();
+        try {
+            if (!shutdown) {
+                ArrayDeque<Runnable> queue = queues.get(lane);
+                if (queue.isEmpty()) {
+                    // 追平虚拟时间，空闲期间不积攒额度
+                    pass.put(lane, Math.max(pass.get(lane), virtualTime));
+                }
+                queue.addLast(task);
+                notEmpty.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 已关闭(例如重新初始化时替换了调度器)时直接在调用线程中执行
+        task.run();
+    }
+
+    /**
+     * 工作线程主循环
+     */
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Runnable task;
+            lock.lock();
+            try {
+                TransLane lane;
+                while ((lane = nextLane()) == null) {
+                    if (shutdown) {
+                        return;
+                    }
+                    notEmpty.await();
+                }
+                task = queues.get(lane).pollFirst();
+                virtualTime = pass.get(lane);
+                pass.put(lane, virtualTime + 1D / weights.get(lane));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            task.run();
+        }
+    }
+
+    /**
+     * @return 虚拟时间最小的非空通道，全部为空时返回null
+     */
+    private TransLane nextLane() {
+        TransLane next = null;
+        for (TransLane lane : TransLane.values()) {
+            if (!queues.get(lane).isEmpty() && (next == null || pass.get(lane) < pass.get(next))) {
+                next = lane;
+            }
+        }
+        return next;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.github.xtranslation.core.service;
+
+
+import java.util.Arrays;
+
+/**
+ * LatencyTracker: 翻译仓库调用耗时统计
+ * <p>
+ * 用一个定长环形缓冲区保存最近的调用耗时，用于估算对冲请求的p95延迟。
+ * 分位数每累计一定数量的新样本才重新计算一次，避免每次调用都排序。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class LatencyTracker {
+
+    private static final int SIZE = 128;
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private final long[] samples = new long[SIZE];
+
+    private int count;
+
+    private int index;
+
+    private volatile long p95;
+
+    /**
+     * 记录一次调用耗时
+     *
+     * @param nanos 耗时(纳秒)
+     */
+    synchronized void record(long nanos) {
+        samples[index] = nanos;
+        index = (index + 1) % SIZE;
+        count++;
+        if (count % RECOMPUTE_INTERVAL == 0) {
+            long[] copy = Arrays.copyOf(samples, Math.min(count, SIZE));
+            Arrays.sort(copy);
+            p95 = copy[(int) (copy.length * 0.95) - 1];
+        }
+    }
+
+    /**
+     * @return 最近一次计算的p95耗时(纳秒)，样本不足时为0
+     */
+    long p95() {
+        return p95;
+    }
+
+}
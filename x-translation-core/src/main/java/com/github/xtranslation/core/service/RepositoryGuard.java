@@ -0,0 +1,50 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * RepositoryGuard: 单个翻译仓库的运行时状态
+ * <p>
+ * 汇总某个翻译仓库在调用过程中需要跨请求保存的状态：自适应批次大小、耗时统计、熔断器和舱壁信号量。
+ * 舱壁信号量在第一次使用时按当时的配置创建。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class RepositoryGuard {
+
+    final AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer();
+
+    final LatencyTracker latency = new LatencyTracker();
+
+    final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private volatile Semaphore bulkhead;
+
+    /**
+     * 获取舱壁信号量
+     *
+     * @param config 翻译仓库配置
+     * @return 舱壁信号量，不限制并发时返回null
+     */
+    Semaphore bulkhead(TransRepositoryConfig config) {
+        if (config.getMaxConcurrentCalls() <= 0) {
+            return null;
+        }
+        Semaphore semaphore = this.bulkhead;
+        if (semaphore == null) {
+            synchronized (this) {
+                semaphore = this.bulkhead;
+                if (semaphore == null) {
+                    this.bulkhead = semaphore = new Semaphore(config.getMaxConcurrentCalls());
+                }
+            }
+        }
+        return semaphore;
+    }
+
+}
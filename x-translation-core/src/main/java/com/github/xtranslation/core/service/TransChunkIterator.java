@@ -0,0 +1,142 @@
+package com.github.xtranslation.core.service;
+
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * TransChunkIterator: 分块翻译迭代器
+ * <p>
+ * 从源迭代器中按块(chunk)惰性拉取元素，每一块作为一个列表交给 {@link TransService#trans(Object, TransLane)} 翻译，
+ * 这样每个翻译仓库对每一块只会被批量调用一次，内存占用只和块大小成正比，而不是和总行数成正比。
+ * </p>
+ * <p>
+ * 开启预取时，当前块被下游消费的同时，下一块会在线程池中提前拉取并翻译，因此最多同时持有两块数据。
+ * 源迭代器始终只被一个线程顺序访问(前一次预取结束后才会开始下一次)，不需要源迭代器本身线程安全。
+ * </p>
+ * <p>
+ * 调用 {@link #close()} 后迭代结束，正在进行的预取被取消并且不再从源迭代器拉取元素，之后可以安全地关闭源数据。
+ * </p>
+ *
+ * @param <T> 元素类型
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransChunkIterator<T> implements TransIterator<T> {
+
+    private final TransService transService;
+
+    private final Iterator<T> source;
+
+    private final int chunkSize;
+
+    /**
+     * 预取使用的线程池,为null时表示不预取
+     */
+    private final Executor prefetchExecutor;
+
+    /**
+     * 调度通道
+     */
+    private final TransLane lane;
+
+    /**
+     * 当前正在被消费的块
+     */
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     * 正在预取中的下一块
+     */
+    private CompletableFuture<List<T>> next;
+
+    /**
+     * 拉取源迭代器时持有的锁，关闭时用来等待正在进行的拉取退出
+     */
+    private final Object sourceLock = new Object();
+
+    private volatile boolean closed;
+
+    TransChunkIterator(TransService transService, Iterator<T> source, int chunkSize, Executor prefetchExecutor, TransLane lane) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.transService = transService;
+        this.source = source;
+        this.chunkSize = chunkSize;
+        this.prefetchExecutor = prefetchExecutor;
+        this.lane = lane;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        while (!current.hasNext()) {
+            List<T> chunk = nextChunk();
+            if (chunk.isEmpty()) {
+                return false;
+            }
+            current = chunk.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        CompletableFuture<List<T>> pending = next;
+        next = null;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        synchronized (sourceLock) {
+            // 拉取循环每拉取一个元素都会检查closed，这里只需要等它退出
+            current = Collections.emptyIterator();
+        }
+    }
+
+    /**
+     * 获取下一块已翻译的数据，并按需发起再下一块的预取
+     *
+     * @return 已翻译的块，为空表示源数据已经读完
+     */
+    private List<T> nextChunk() {
+        List<T> chunk = next != null ? next.join() : pullAndTrans();
+        next = prefetchExecutor != null && !chunk.isEmpty() ? CompletableFuture.supplyAsync(this::pullAndTrans, prefetchExecutor) : null;
+        return chunk;
+    }
+
+    /**
+     * 从源迭代器拉取一块数据并翻译
+     *
+     * @return 已翻译的块
+     */
+    private List<T> pullAndTrans() {
+        List<T> chunk = new ArrayList<>(chunkSize);
+        synchronized (sourceLock) {
+            while (!closed && chunk.size() < chunkSize && source.hasNext()) {
+                chunk.add(source.next());
+            }
+        }
+        if (!chunk.isEmpty() && !closed) {
+            transService.trans(chunk, lane);
+        }
+        return chunk;
+    }
+
+}
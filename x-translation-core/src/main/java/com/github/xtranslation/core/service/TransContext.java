@@ -0,0 +1,53 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.memo.TransMemo;
+import lombok.Getter;
+
+/**
+ * TransContext: 单次翻译调用的上下文
+ * <p>
+ * 在一次 trans 调用内向下传递(包括线程池中的子任务)，保存该次调用的调度通道、profile模式下的执行计划、
+ * 调用线程所在作用域的备忘录、不修改对象时保存翻译值的容器、增量翻译的状态跟踪器等信息。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+final class TransContext {
+
+    /**
+     * 仓库查询使用的调度通道
+     */
+    private final TransLane lane;
+
+    /**
+     * profile模式下需要标注实际执行统计的执行计划，普通调用为null
+     */
+    private final TransPlan plan;
+
+    /**
+     * 调用线程所在作用域的备忘录，不在作用域内时为null
+     */
+    private final TransMemo memo;
+
+    /**
+     * 不修改对象的翻译(lookup)时保存翻译值的容器，普通调用为null(翻译值直接写入对象)
+     */
+    private final TransValues values;
+
+    /**
+     * 增量翻译的状态跟踪器，为null时翻译所有字段
+     */
+    private final TransTracker tracker;
+
+    TransContext(TransLane lane, TransPlan plan, TransMemo memo, TransValues values, TransTracker tracker) {
+        this.lane = lane;
+        this.plan = plan;
+        this.memo = memo;
+        this.values = values;
+        this.tracker = tracker;
+    }
+
+}
@@ -0,0 +1,409 @@
+package com.github.xtranslation.core.service;
+
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import com.github.xtranslation.core.jfr.TransJfr;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.repository.LongKeyTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.util.CollectionUtils;
+import com.github.xtranslation.core.util.LongObjectMap;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * TransFetcher: 翻译仓库调用器
+ * <p>
+ * 负责真正调用 {@link TransRepository#getTransValueMap(List, Annotation)}，并按仓库配置提供以下保护：
+ * 1. 分批：ID个数超过最大批次大小时拆成多个子批次，按并发数并行执行后合并结果，避免超长IN语句
+ * 2. 超时：一次获取(包括全部子批次)共用一个截止时间，超过截止时间的调用直接放弃，对应字段保持未翻译并记录日志，不会无限阻塞调用线程
+ * 3. 对冲：主请求超过p95耗时仍未返回时，再发出一个相同的请求，取先返回的结果
+ * 4. 熔断：连续失败后快速失败，不再继续调用不健康的仓库
+ * 5. 舱壁：限制单个仓库同时在途的调用数，避免一个慢仓库耗尽共享线程池
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransFetcher {
+
+    private static final Log log = LogFactory.get();
+
+    private final Executor executor;
+
+    /**
+     * 翻译仓库的运行时状态  key: 翻译仓库的class  value: 运行时状态
+     */
+    private final Map<Class<? extends TransRepository>, RepositoryGuard> guards = new ConcurrentHashMap<>();
+
+    TransFetcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 获取翻译值映射(必要时拆分子批次)
+     *
+     * @param transClass      翻译仓库的class
+     * @param transRepository 翻译仓库
+     * @param transIdList     去重后的ID列表
+     * @param transAnno       翻译注解
+     * @return 翻译值映射
+     */
+    Map<Object, Object> fetch(Class<? extends TransRepository> transClass, TransRepository transRepository, List<Object> transIdList, Annotation transAnno) {
+        TransRepositoryConfig config = TransRepositoryFactory.getConfig(transClass, transRepository);
+        return fetch(transClass, transRepository, config, transIdList, transAnno, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMillis()));
+    }
+
+    /**
+     * 在调度通道中获取翻译值映射
+     * <p>
+     * 排队和查询共用仓库的超时时间：截止时间从提交到通道时开始计算，超过截止时间仍未执行完成时放弃等待，
+     * 对应字段保持未翻译并记录日志；开始执行时剩余的时间再分给各个子批次。
+     * </p>
+     *
+     * @param scheduler       通道调度器，为null时直接在当前线程查询
+     * @param lane            调度通道
+     * @param transClass      翻译仓库的class
+     * @param transRepository 翻译仓库
+     * @param transIdList     去重后的ID列表
+     * @param transAnno       翻译注解
+     * @return 翻译值映射
+     */
+    Map<Object, Object> fetch(LaneScheduler scheduler, TransLane lane, Class<? extends TransRepository> transClass, TransRepository transRepository, List<Object> transIdList, Annotation transAnno) {
+        if (scheduler == null) {
+            return fetch(transClass, transRepository, transIdList, transAnno);
+        }
+        TransRepositoryConfig config = TransRepositoryFactory.getConfig(transClass, transRepository);
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMillis());
+        long deadline = System.nanoTime() + timeoutNanos;
+        return scheduler.call(lane, () -> fetch(transClass, transRepository, config, transIdList, transAnno, deadline), timeoutNanos)
+                .getOrElse(() -> {
+                    log.warn("TransRepository: {} 排队和调用超过{}ms未完成, {}个ID未翻译", transClass.getName(), config.getTimeoutMillis(), transIdList.size());
+                    return Collections.emptyMap();
+                });
+    }
+
+    /**
+     * 获取翻译值映射，所有子批次共用同一个截止时间
+     *
+     * @param transClass      翻译仓库的class
+     * @param transRepository 翻译仓库
+     * @param config          翻译仓库的配置
+     * @param transIdList     去重后的ID列表
+     * @param transAnno       翻译注解
+     * @param deadline        截止时间({@link System#nanoTime()})，仓库没有配置超时时间时忽略
+     * @return 翻译值映射
+     */
+    private Map<Object, Object> fetch(Class<? extends TransRepository> transClass, TransRepository transRepository, TransRepositoryConfig config, List<Object> transIdList, Annotation transAnno, long deadline) {
+        RepositoryGuard guard = guards.computeIfAbsent(transClass, c -> new RepositoryGuard());
+        // long主键仓库且ID都是整数时，子批次结果合并到 LongObjectMap
+        boolean longKeys = LongKeyTransRepository.class.isAssignableFrom(transClass) && CollectionUtils.isLongList(transIdList);
+        Call call = new Call(transClass, transRepository, config, guard, transAnno, longKeys, deadline);
+        int batchSize = config.isAdaptiveBatchSize() ? guard.batchSizer.batchSize(config) : config.getMaxBatchSize();
+        if (batchSize <= 0 || transIdList.size() <= batchSize) {
+            return call.invoke(transIdList);
+        }
+
+        List<List<Object>> batches = ListUtil.partition(transIdList, batchSize);
+        int concurrency = Math.max(1, Math.min(config.getBatchConcurrency(), batches.size()));
+        // 按并发数把子批次分成若干组，每组内串行执行，组与组之间并行，从而把并发限制在concurrency以内
+        List<CompletableFuture<Map<Object, Object>>> futures = new ArrayList<>(concurrency - 1);
+        for (int group = 1; group < concurrency; group++) {
+            int start = group;
+            futures.add(CompletableFuture.supplyAsync(() -> call.invokeGroup(batches, start, concurrency), executor));
+        }
+        // 第一组直接在当前线程执行
+        Map<Object, Object> result = call.invokeGroup(batches, 0, concurrency);
+        for (CompletableFuture<Map<Object, Object>> future : futures) {
+            try {
+                result.putAll(future.join());
+            } catch (CompletionException e) {
+                // 和单批次调用一样抛出仓库的原始异常
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 对冲请求使用的定时器(懒加载)
+     */
+    private static class HedgeTimerHolder {
+
+        private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "trans-hedge-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    }
+
+    /**
+     * 一次仓库调用的上下文(同一个仓库、同一个注解的所有子批次共享)
+     */
+    private final class Call {
+
+        private final Class<? extends TransRepository> transClass;
+
+        private final TransRepository transRepository;
+
+        private final TransRepositoryConfig config;
+
+        private final RepositoryGuard guard;
+
+        private final Annotation transAnno;
+
+        private final boolean longKeys;
+
+        /**
+         * 截止时间({@link System#nanoTime()})，所有子批次共用，仓库没有配置超时时间时忽略
+         */
+        private final long deadline;
+
+        Call(Class<? extends TransRepository> transClass, TransRepository transRepository, TransRepositoryConfig config, RepositoryGuard guard, Annotation transAnno, boolean longKeys, long deadline) {
+            this.transClass = transClass;
+            this.transRepository = transRepository;
+            this.config = config;
+            this.guard = guard;
+            this.transAnno = transAnno;
+            this.longKeys = longKeys;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 串行执行一组子批次并合并结果
+         *
+         * @param batches 所有子批次
+         * @param start   本组的第一个子批次下标
+         * @param step    组的个数
+         * @return 本组的翻译值映射
+         */
+        Map<Object, Object> invokeGroup(List<List<Object>> batches, int start, int step) {
+            Map<Object, Object> result = newResultMap();
+            for (int i = start; i < batches.size(); i += step) {
+                merge(result, batches.get(i), invoke(batches.get(i)));
+            }
+            return result;
+        }
+
+        /**
+         * 在熔断、舱壁、超时和对冲的保护下调用一次翻译仓库
+         *
+         * @param transIdList ID列表
+         * @return 翻译值映射，降级时返回空映射
+         */
+        Map<Object, Object> invoke(List<Object> transIdList) {
+            // 超时：只给本次调用截止时间前剩余的时间，前面的子批次已经用完时不再调用仓库
+            long remaining = deadline - System.nanoTime();
+            if (config.getTimeoutMillis() > 0 && remaining <= 0) {
+                log.warn("TransRepository: {} 调用超过{}ms未返回, {}个ID未翻译", transClass.getName(), config.getTimeoutMillis(), transIdList.size());
+                return Collections.emptyMap();
+            }
+            // 舱壁：先占用并发名额，避免熔断器的试探名额被舱壁拒绝后无法归还
+            Semaphore bulkhead = guard.bulkhead(config);
+            if (bulkhead != null && !bulkhead.tryAcquire()) {
+                log.warn("TransRepository: {} 在途调用已达上限{}, {}个ID未翻译", transClass.getName(), config.getMaxConcurrentCalls(), transIdList.size());
+                return Collections.emptyMap();
+            }
+            boolean breakerEnabled = config.getCircuitBreakerFailureThreshold() > 0;
+            if (breakerEnabled && !guard.circuitBreaker.allowRequest()) {
+                release(bulkhead);
+                log.warn("TransRepository: {} 已熔断, {}个ID未翻译", transClass.getName(), transIdList.size());
+                return Collections.emptyMap();
+            }
+
+            // 没有超时和对冲时直接在当前线程调用
+            if (config.getTimeoutMillis() <= 0 && !config.isHedgeEnabled()) {
+                try {
+                    Map<Object, Object> valueMap = timedCall(transIdList);
+                    onSuccess(breakerEnabled);
+                    return valueMap;
+                } catch (RuntimeException | Error e) {
+                    onFailure(breakerEnabled);
+                    throw e;
+                } finally {
+                    release(bulkhead);
+                }
+            }
+
+            CompletableFuture<Map<Object, Object>> future = submit(transIdList, bulkhead);
+            if (config.isHedgeEnabled()) {
+                future = hedge(future, transIdList, bulkhead);
+            }
+            try {
+                Map<Object, Object> valueMap = config.getTimeoutMillis() > 0 ? future.get(remaining, TimeUnit.NANOSECONDS) : future.get();
+                onSuccess(breakerEnabled);
+                return valueMap;
+            } catch (TimeoutException e) {
+                onFailure(breakerEnabled);
+                log.warn("TransRepository: {} 调用超过{}ms未返回, {}个ID未翻译", transClass.getName(), config.getTimeoutMillis(), transIdList.size());
+                return Collections.emptyMap();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                onAbort(breakerEnabled);
+                return Collections.emptyMap();
+            } catch (ExecutionException e) {
+                onFailure(breakerEnabled);
+                // 和同步调用一样抛出仓库的原始异常
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        /**
+         * 在线程池中异步调用翻译仓库，调用结束(而不是调用方超时)时才归还舱壁名额
+         *
+         * @param transIdList ID列表
+         * @param permit      已占用的舱壁信号量，可能为null
+         * @return 调用结果
+         */
+        private CompletableFuture<Map<Object, Object>> submit(List<Object> transIdList, Semaphore permit) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return timedCall(transIdList);
+                } finally {
+                    release(permit);
+                }
+            }, executor);
+        }
+
+        /**
+         * 为主请求增加对冲请求：超过对冲延迟仍未返回时再发出一个相同的请求，先成功的结果生效，
+         * 全部失败时才以失败结束
+         *
+         * @param primary     主请求
+         * @param transIdList ID列表
+         * @param bulkhead    舱壁信号量，可能为null
+         * @return 合并后的结果
+         */
+        private CompletableFuture<Map<Object, Object>> hedge(CompletableFuture<Map<Object, Object>> primary, List<Object> transIdList, Semaphore bulkhead) {
+            long delayNanos = config.getHedgeDelayMillis() > 0 ? TimeUnit.MILLISECONDS.toNanos(config.getHedgeDelayMillis()) : guard.latency.p95();
+            if (delayNanos <= 0) {
+                // 还没有足够的耗时样本
+                return primary;
+            }
+            CompletableFuture<Map<Object, Object>> result = new CompletableFuture<>();
+            AtomicInteger pending = new AtomicInteger(1);
+            BiConsumer<Map<Object, Object>, Throwable> onDone = (valueMap, e) -> {
+                if (e == null) {
+                    result.complete(valueMap);
+                } else if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(e);
+                }
+            };
+            primary.whenComplete(onDone);
+            HedgeTimerHolder.TIMER.schedule(() -> {
+                // 对冲请求同样受舱壁限制，名额不足时放弃对冲
+                if (!result.isDone() && (bulkhead == null || bulkhead.tryAcquire())) {
+                    pending.incrementAndGet();
+                    submit(transIdList, bulkhead).whenComplete(onDone);
+                }
+            }, delayNanos, TimeUnit.NANOSECONDS);
+            return result;
+        }
+
+        /**
+         * 调用翻译仓库并记录耗时
+         *
+         * @param transIdList ID列表
+         * @return 翻译值映射
+         */
+        private Map<Object, Object> timedCall(List<Object> transIdList) {
+            Object jfr = TransJfr.beginFetch();
+            long start = System.nanoTime();
+            Map<Object, Object> valueMap;
+            try {
+                valueMap = transRepository.getTransValueMap(transIdList, transAnno);
+            } catch (RuntimeException e) {
+                TransListenerFactory.get().onFetch(transClass, transIdList.size(), System.nanoTime() - start, e);
+                TransJfr.commitFetch(jfr, transClass, transIdList.size(), false);
+                throw e;
+            }
+            long nanos = System.nanoTime() - start;
+            TransJfr.commitFetch(jfr, transClass, transIdList.size(), true);
+            TransListenerFactory.get().onFetch(transClass, transIdList.size(), nanos, null);
+            guard.latency.record(nanos);
+            if (config.isAdaptiveBatchSize()) {
+                guard.batchSizer.record(transIdList.size(), nanos);
+            }
+            return valueMap == null ? Collections.emptyMap() : valueMap;
+        }
+
+        /**
+         * 创建合并子批次结果的映射，long主键仓库(并且ID都是整数)使用 {@link LongObjectMap}，保证回写时仍然按数值查找
+         *
+         * @return 空映射
+         */
+        Map<Object, Object> newResultMap() {
+            return longKeys ? new LongObjectMap<>() : new HashMap<>();
+        }
+
+        /**
+         * 把一个子批次的结果合并到结果映射中。long主键仓库的ID中混有非整数类型时，子批次可能返回以long为键的映射，
+         * 此时按子批次的原始ID对象重新放入，保证合并后的普通映射仍然能按原始ID查到
+         *
+         * @param result      结果映射
+         * @param transIdList 子批次的ID
+         * @param valueMap    子批次的结果
+         */
+        void merge(Map<Object, Object> result, List<Object> transIdList, Map<Object, Object> valueMap) {
+            if (longKeys || !(valueMap instanceof LongObjectMap)) {
+                result.putAll(valueMap);
+                return;
+            }
+            for (Object id : transIdList) {
+                Object value = valueMap.get(id);
+                if (value != null) {
+                    result.put(id, value);
+                }
+            }
+        }
+
+        private void onSuccess(boolean breakerEnabled) {
+            if (breakerEnabled) {
+                guard.circuitBreaker.onSuccess();
+            }
+        }
+
+        private void onAbort(boolean breakerEnabled) {
+            if (breakerEnabled) {
+                guard.circuitBreaker.onAbort();
+            }
+        }
+
+        private void onFailure(boolean breakerEnabled) {
+            if (breakerEnabled) {
+                guard.circuitBreaker.onFailure(config.getCircuitBreakerFailureThreshold(), config.getCircuitBreakerOpenMillis());
+            }
+        }
+
+        private void release(Semaphore semaphore) {
+            if (semaphore != null) {
+                semaphore.release();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.annotation.DictTrans;
+import com.github.xtranslation.core.core.TransFieldMeta;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TransFieldSelector: 按 {@link TransOptions} 的选择条件裁剪字段树
+ * <p>
+ * 裁剪结果是新的字段树(保留的节点是原节点的副本)，不修改元数据缓存中的原始字段树，并按(类, 选择条件)缓存。
+ * 选择条件可能来自请求参数，每个类最多缓存 {@value #MAX_SELECTIONS_PER_CLASS} 种选择条件，超过时清空该类的缓存重新积累。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransFieldSelector {
+
+    /**
+     * 每个类最多缓存的选择条件个数
+     */
+    static final int MAX_SELECTIONS_PER_CLASS = 64;
+
+    /**
+     * 裁剪后的字段树  key: 类  value: [include, exclude] -> 裁剪后的根字段列表
+     */
+    private static final Map<Class<?>, Map<List<Object>, List<TransFieldMeta>>> CACHE = new ConcurrentHashMap<>();
+
+    private TransFieldSelector() {
+    }
+
+    /**
+     * 获取裁剪后的字段树
+     *
+     * @param clazz   被翻译的类
+     * @param fields  完整的根字段列表
+     * @param options 翻译选项
+     * @return 裁剪后的根字段列表，没有选择条件时直接返回原列表
+     */
+    static List<TransFieldMeta> select(Class<?> clazz, List<TransFieldMeta> fields, TransOptions options) {
+        if (options.isSelectAll()) {
+            return fields;
+        }
+        Map<List<Object>, List<TransFieldMeta>> selections = CACHE.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        List<Object> key = Arrays.asList(options.getInclude(), options.getExclude());
+        List<TransFieldMeta> selected = selections.get(key);
+        if (selected == null) {
+            selected = prune(fields, options);
+            if (selections.size() >= MAX_SELECTIONS_PER_CLASS) {
+                selections.clear();
+            }
+            selections.put(key, selected);
+        }
+        return selected;
+    }
+
+    /**
+     * @param clazz 被翻译的类
+     * @return 该类缓存的选择条件个数
+     */
+    static int cachedSelections(Class<?> clazz) {
+        Map<List<Object>, List<TransFieldMeta>> selections = CACHE.get(clazz);
+        return selections == null ? 0 : selections.size();
+    }
+
+    /**
+     * 递归裁剪：被排除的字段连同依赖它的子字段一起去掉；未被包含的字段只有在子树中存在被包含的字段时才保留
+     */
+    private static List<TransFieldMeta> prune(List<TransFieldMeta> fields, TransOptions options) {
+        List<TransFieldMeta> kept = new ArrayList<>();
+        if (fields == null) {
+            return kept;
+        }
+        for (TransFieldMeta field : fields) {
+            if (matches(field, options.getExclude())) {
+                continue;
+            }
+            List<TransFieldMeta> children = prune(field.getChildren(), options);
+            if (options.getInclude().isEmpty() || matches(field, options.getInclude()) || !children.isEmpty()) {
+                TransFieldMeta copy = new TransFieldMeta(field.getField(), field.getTransField(), field.getKey(), field.getRepository(), field.getTransAnno());
+                copy.setChildren(children.isEmpty() ? null : children);
+                kept.add(copy);
+            }
+        }
+        return kept;
+    }
+
+    private static boolean matches(TransFieldMeta field, Set<String> selectors) {
+        if (selectors.isEmpty()) {
+            return false;
+        }
+        return selectors.contains(field.getField().getName())
+                || selectors.contains(field.getRepository().getName())
+                || selectors.contains(field.getRepository().getSimpleName())
+                || field.getTransAnno() instanceof DictTrans && selectors.contains(((DictTrans) field.getTransAnno()).group());
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.xtranslation.core.service;
+
+
+import java.util.Iterator;
+
+/**
+ * TransIterator: 可关闭的分块翻译迭代器
+ * <p>
+ * 由 {@link TransService#transIterator(Iterator, int, boolean)} 返回。没有迭代到末尾就停止时应当调用 {@link #close()}，
+ * 取消正在进行的预取，关闭后不会再访问源迭代器，可以安全地释放源数据(例如数据库游标)：
+ * </p>
+ * <pre>
+ * try (TransIterator&lt;UserDto&gt; iterator = transService.transIterator(cursor, 1000, true)) {
+ *     while (iterator.hasNext()) {
+ *         ...
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> 元素类型
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public interface TransIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * 结束迭代：取消正在预取的下一块，并等待正在进行的拉取退出，返回后源迭代器不会再被访问
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,39 @@
+package com.github.xtranslation.core.service;
+
+
+import lombok.Getter;
+
+/**
+ * TransLane: 翻译调用的优先级通道
+ * <p>
+ * 开启通道调度后({@code TransService#setLaneWorkers(int)})，各通道的仓库查询按权重公平调度：
+ * 所有通道都有积压时按权重比例分配查询线程，某个通道空闲时其余通道可以用满全部线程。
+ * 因此批量任务(例如夜间导出)只会占用交互请求剩下的容量，不会把交互请求饿死。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+public enum TransLane {
+
+    /**
+     * 交互请求(接口调用等对延迟敏感的翻译)，默认通道
+     */
+    INTERACTIVE(8),
+
+    /**
+     * 批量任务(导出、跑批等对延迟不敏感的翻译)
+     */
+    BATCH(1);
+
+    /**
+     * 默认调度权重
+     */
+    private final int weight;
+
+    TransLane(int weight) {
+        this.weight = weight;
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * TransOptions: 单次翻译调用的选项
+ * <p>
+ * 包括仓库查询使用的调度通道，以及只翻译部分字段的选择条件。选择条件中的每一项可以是：
+ * 1. 目标字段名(例如 teacherName)
+ * 2. 字典分组(即 @DictTrans 的 group，例如 sexDict)
+ * 3. 翻译仓库的类名(简单类名或全限定类名，也可以通过 {@link #includeRepositories(Class[])} 直接传入class)
+ * </p>
+ * <p>
+ * 执行前按选择条件裁剪字段树：被排除的字段以及依赖它的链式字段都不会翻译，对应的仓库也不会被调用；
+ * 被包含的链式字段会保留它所依赖的上游字段(上游字段也会被翻译，否则拿不到查询的键)。
+ * 裁剪结果按(类, 选择条件)缓存。
+ * </p>
+ * <p>
+ * 选项对象不可变，每个方法都返回新的对象，可以作为常量复用：
+ * </p>
+ * <pre>
+ * TransOptions listView = TransOptions.of(TransLane.INTERACTIVE).include("teacherName");
+ * transService.trans(users, listView);
+ * </pre>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+public final class TransOptions {
+
+    /**
+     * 默认选项：交互通道、翻译所有字段
+     */
+    public static final TransOptions DEFAULT = new TransOptions(TransLane.INTERACTIVE, Collections.emptySet(), Collections.emptySet(), null);
+
+    /**
+     * 仓库查询使用的调度通道
+     */
+    private final TransLane lane;
+
+    /**
+     * 只翻译这些字段(为空表示翻译所有字段)
+     */
+    private final Set<String> include;
+
+    /**
+     * 不翻译这些字段(优先于include)
+     */
+    private final Set<String> exclude;
+
+    /**
+     * 增量翻译的状态跟踪器(为null表示每次都翻译所有字段)
+     */
+    private final TransTracker tracker;
+
+    private TransOptions(TransLane lane, Set<String> include, Set<String> exclude, TransTracker tracker) {
+        this.lane = lane;
+        this.include = include;
+        this.exclude = exclude;
+        this.tracker = tracker;
+    }
+
+    /**
+     * 使用指定调度通道的默认选项
+     *
+     * @param lane 调度通道
+     * @return 选项
+     */
+    public static TransOptions of(TransLane lane) {
+        return lane == null || lane == DEFAULT.lane ? DEFAULT : new TransOptions(lane, DEFAULT.include, DEFAULT.exclude, null);
+    }
+
+    /**
+     * @param lane 调度通道
+     * @return 新的选项
+     */
+    public TransOptions lane(TransLane lane) {
+        return new TransOptions(lane, include, exclude, tracker);
+    }
+
+    /**
+     * 开启增量翻译：只查询源值变化或仓库数据失效的字段
+     *
+     * @param tracker 状态跟踪器(一般和被翻译的对象一样长期持有)，为null表示关闭增量翻译
+     * @return 新的选项
+     */
+    public TransOptions tracker(TransTracker tracker) {
+        return new TransOptions(lane, include, exclude, tracker);
+    }
+
+    /**
+     * @param selectors 只翻译的字段名、字典分组或仓库类名
+     * @return 新的选项
+     */
+    public TransOptions include(String... selectors) {
+        return new TransOptions(lane, merge(include, Arrays.asList(selectors)), exclude, tracker);
+    }
+
+    /**
+     * @param selectors 不翻译的字段名、字典分组或仓库类名
+     * @return 新的选项
+     */
+    public TransOptions exclude(String... selectors) {
+        return new TransOptions(lane, include, merge(exclude, Arrays.asList(selectors)), tracker);
+    }
+
+    /**
+     * @param repositories 只翻译使用这些仓库的字段
+     * @return 新的选项
+     */
+    @SafeVarargs
+    public final TransOptions includeRepositories(Class<? extends TransRepository>... repositories) {
+        return new TransOptions(lane, merge(include, names(repositories)), exclude, tracker);
+    }
+
+    /**
+     * @param repositories 不翻译使用这些仓库的字段
+     * @return 新的选项
+     */
+    @SafeVarargs
+    public final TransOptions excludeRepositories(Class<? extends TransRepository>... repositories) {
+        return new TransOptions(lane, include, merge(exclude, names(repositories)), tracker);
+    }
+
+    /**
+     * 是否翻译所有字段
+     *
+     * @return 没有任何选择条件时返回true
+     */
+    public boolean isSelectAll() {
+        return include.isEmpty() && exclude.isEmpty();
+    }
+
+    private static Set<String> merge(Set<String> current, Collection<String> selectors) {
+        if (selectors.isEmpty()) {
+            return current;
+        }
+        Set<String> merged = new LinkedHashSet<>(current);
+        merged.addAll(selectors);
+        return Collections.unmodifiableSet(merged);
+    }
+
+    private static List<String> names(Class<?>[] classes) {
+        List<String> names = new ArrayList<>(classes.length);
+        for (Class<?> clazz : classes) {
+            names.add(clazz.getName());
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return "TransOptions(lane=" + lane + ", include=" + include + ", exclude=" + exclude + ", incremental=" + (tracker != null) + ")";
+    }
+
+}
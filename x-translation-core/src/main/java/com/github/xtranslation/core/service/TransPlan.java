@@ -0,0 +1,206 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.record.TransIdHasher;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.resolver.TransObjResolver;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * TransPlan: 一次翻译调用的执行计划
+ * <p>
+ * 由 {@link TransService#explain(Object)} 根据 TransClassMeta/TransFieldMeta 生成(不会调用任何翻译仓库)，
+ * 描述一次翻译会经过哪些包装对象解析器、会产生哪些仓库查询阶段、阶段之间的依赖关系、每个阶段写入哪些字段以及预计查询多少个ID。
+ * </p>
+ * <p>
+ * 通过 {@link TransService#profile(Object)} 得到的计划会实际执行翻译，并在每个阶段上标注实际的ID个数和耗时，
+ * 可以直接打印到慢请求日志中( {@link #toString()} 输出多行的树形文本)。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+public class TransPlan {
+
+    /**
+     * 根类(解析包装对象后实际被翻译的类)，没有需要翻译的内容时为null
+     */
+    private final Class<?> rootClass;
+
+    /**
+     * 依次使用的包装对象解析器
+     */
+    private final List<Class<?>> resolverSteps;
+
+    /**
+     * 行数
+     */
+    private final int rowCount;
+
+    /**
+     * 仓库查询阶段(按执行顺序，依赖的阶段总在被依赖的阶段之后)
+     */
+    private final List<TransStage> stages;
+
+    /**
+     * 是否实际执行过(profile模式)
+     */
+    private boolean profiled;
+
+    /**
+     * 实际执行的总耗时(纳秒)
+     */
+    private long totalNanos;
+
+    /**
+     * 执行时采集ID哈希使用的哈希函数(录制调用时设置)，为null时不采集
+     */
+    private TransIdHasher idHasher;
+
+    /**
+     * 阶段索引  key: 翻译字段(按实例区分，不同层级、不同注解的同名字段互不冲突)  value: 写入该字段的阶段
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<TransFieldMeta, TransStage> stageIndex;
+
+    private TransPlan(Class<?> rootClass, List<Class<?>> resolverSteps, int rowCount, List<TransStage> stages, Map<TransFieldMeta, TransStage> stageIndex) {
+        this.rootClass = rootClass;
+        this.resolverSteps = resolverSteps;
+        this.rowCount = rowCount;
+        this.stages = stages;
+        this.stageIndex = stageIndex;
+    }
+
+    /**
+     * 创建没有任何翻译内容的计划
+     *
+     * @param resolvers 依次使用的包装对象解析器
+     * @return 空计划
+     */
+    static TransPlan empty(List<TransObjResolver> resolvers) {
+        return new TransPlan(null, resolverClasses(resolvers), 0, Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * 根据元数据生成执行计划
+     *
+     * @param rows      需要被翻译的对象列表
+     * @param fields    根翻译字段(含子字段树)
+     * @param resolvers 依次使用的包装对象解析器
+     * @return 执行计划
+     */
+    static TransPlan of(List<Object> rows, List<TransFieldMeta> fields, List<TransObjResolver> resolvers) {
+        List<TransStage> stages = new ArrayList<>();
+        // key: 目标字段名  value: 产出该字段的阶段
+        Map<String, TransStage> producers = new HashMap<>();
+        Map<TransFieldMeta, TransStage> stageIndex = new IdentityHashMap<>();
+        addStages(rows, fields, 0, stages, producers, stageIndex);
+        return new TransPlan(rows.get(0).getClass(), resolverClasses(resolvers), rows.size(), stages, stageIndex);
+    }
+
+    /**
+     * 按执行时的分组方式(先按仓库，再按源字段)生成阶段，再递归处理子字段
+     */
+    private static void addStages(List<Object> rows, List<TransFieldMeta> fields, int level, List<TransStage> stages, Map<String, TransStage> producers,
+                                  Map<TransFieldMeta, TransStage> stageIndex) {
+        Map<Class<? extends TransRepository>, Map<String, List<TransFieldMeta>>> groups = fields.stream()
+                .collect(Collectors.groupingBy(TransFieldMeta::getRepository, LinkedHashMap::new,
+                        Collectors.groupingBy(TransFieldMeta::getTrans, LinkedHashMap::new, Collectors.toList())));
+        groups.forEach((repository, byTrans) -> byTrans.forEach((trans, group) -> {
+            TransStage parent = producers.get(trans);
+            TransStage stage = new TransStage(stages.size(), level, repository, trans,
+                    group.stream().map(f -> f.getField().getName()).collect(Collectors.toList()),
+                    parent == null ? -1 : parent.getId(),
+                    parent == null ? expectedIdCount(rows, group) : -1);
+            stages.add(stage);
+            group.forEach(f -> {
+                producers.put(f.getField().getName(), stage);
+                stageIndex.put(f, stage);
+            });
+        }));
+        fields.stream()
+                .filter(f -> f.getChildren() != null && !f.getChildren().isEmpty())
+                .forEach(f -> addStages(rows, f.getChildren(), level + 1, stages, producers, stageIndex));
+    }
+
+    /**
+     * 根据当前源字段值计算去重后的ID个数
+     */
+    private static int expectedIdCount(List<Object> rows, List<TransFieldMeta> group) {
+        Set<Object> ids = new HashSet<>();
+        for (TransFieldMeta field : group) {
+            for (Object row : rows) {
+                TransModel model = new TransModel(row, field);
+                if (model.needTrans()) {
+                    ids.addAll(model.getMultipleTransVal());
+                }
+            }
+        }
+        return ids.size();
+    }
+
+    private static List<Class<?>> resolverClasses(List<TransObjResolver> resolvers) {
+        return resolvers.stream().map(Object::getClass).collect(Collectors.toList());
+    }
+
+    /**
+     * 查找执行中的仓库查询对应的阶段
+     *
+     * @param transFieldMeta 本次查询所属的翻译字段
+     * @return 阶段，计划之外的查询返回null
+     */
+    TransStage findStage(TransFieldMeta transFieldMeta) {
+        return stageIndex.get(transFieldMeta);
+    }
+
+    /**
+     * 执行时采集每个阶段ID的哈希
+     *
+     * @param idHasher ID哈希函数
+     * @return 当前计划
+     */
+    TransPlan captureIdHashes(TransIdHasher idHasher) {
+        this.idHasher = idHasher;
+        return this;
+    }
+
+    /**
+     * 标记为已实际执行
+     *
+     * @param totalNanos 总耗时(纳秒)
+     */
+    void profiled(long totalNanos) {
+        this.profiled = true;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * @return 是否没有任何需要翻译的内容
+     */
+    public boolean isEmpty() {
+        return stages.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("TransPlan ");
+        sb.append(rootClass == null ? "<none>" : rootClass.getSimpleName())
+                .append(" rows=").append(rowCount)
+                .append(" resolvers=").append(resolverSteps.stream().map(Class::getSimpleName).collect(Collectors.toList()))
+                .append(" stages=").append(stages.size());
+        if (profiled) {
+            sb.append(" total=").append(TimeUnit.NANOSECONDS.toMicros(totalNanos)).append("us");
+        }
+        stages.forEach(stage -> sb.append(System.lineSeparator()).append("  ").append(stage));
+        return sb.toString();
+    }
+
+}
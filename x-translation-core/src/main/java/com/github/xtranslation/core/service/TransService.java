@@ -4,25 +4,36 @@ package com.github.xtranslation.core.service;
 import cn.hutool.core.collection.CollUtil;
 import com.github.xtranslation.core.core.TransFieldMeta;
 import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.core.TransValueIndex;
+import com.github.xtranslation.core.hotkey.TransHotKeys;
+import com.github.xtranslation.core.jfr.TransJfr;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
 import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.memo.TransMemo;
+import com.github.xtranslation.core.record.TransIdHasher;
+import com.github.xtranslation.core.record.TransRecorder;
+import com.github.xtranslation.core.repository.LongKeyTransRepository;
 import com.github.xtranslation.core.repository.TransRepository;
 import com.github.xtranslation.core.repository.TransRepositoryFactory;
 import com.github.xtranslation.core.resolver.TransObjResolver;
 import com.github.xtranslation.core.resolver.TransObjResolverFactory;
 import com.github.xtranslation.core.util.CollectionUtils;
+import com.github.xtranslation.core.util.LongHashSet;
 import io.vavr.Tuple;
+import io.vavr.Tuple2;
 import io.vavr.control.Option;
+import lombok.Getter;
 import lombok.Setter;
 
 import java.lang.annotation.Annotation;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static io.vavr.API.*;
 
@@ -35,12 +46,95 @@ import static io.vavr.API.*;
  */
 public class TransService {
 
+    /**
+     * 流式翻译默认的分块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * 默认的并行阈值(行数)
+     * <p>
+     * 取自 x-translation-benchmark 中 WriteBackBenchmark 的实测：有链式字段的行在5000行时，
+     * fork-join的最坏额外开销已经小于一个空闲核能节省的时间(测量数据和取值方法见README)。
+     * </p>
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 5000;
+
+    /**
+     * 并行回写时每个叶子任务至少处理的模型个数，避免任务拆得过碎
+     */
+    private static final int MIN_LEAF_SIZE = 1024;
+
+    @Getter
     @Setter
     private ExecutorService executor;
 
     // 在Java中，volatile关键字用于多线程环境下的变量可见性控制
     private volatile boolean isInit = false;
 
+    /**
+     * 通道调度的工作线程数(即同时执行的仓库查询数上限)，小于等于0表示不按通道调度，仓库查询直接在翻译线程中执行。
+     * 排队时间计入仓库的超时时间，超时后对应字段保持未翻译
+     */
+    @Setter
+    private int laneWorkers;
+
+    /**
+     * 各通道的调度权重，未设置的通道使用 {@link TransLane#getWeight()}
+     */
+    @Setter
+    private Map<TransLane, Integer> laneWeights = Collections.emptyMap();
+
+    /**
+     * 线上调用的采样录制器，为null时不录制
+     */
+    @Getter
+    @Setter
+    private volatile TransRecorder recorder;
+
+    /**
+     * 热点ID统计，为null时不统计
+     */
+    @Getter
+    @Setter
+    private volatile TransHotKeys hotKeys;
+
+    /**
+     * 并行阈值：待翻译的行数(或同一字段的转换模型个数)达到该值时，提取翻译键和回写翻译值两个阶段
+     * 拆分为fork-join任务并行执行，小于等于0表示始终顺序执行
+     * <p>
+     * 并行执行时翻译线程(例如 executor 中的线程或 Web 请求线程)会阻塞等待全部fork-join任务完成，
+     * 因此同时做大批量翻译的线程越多，占用的fork-join线程也越多。
+     * </p>
+     */
+    @Getter
+    @Setter
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * 并行执行使用的fork-join线程数，小于等于0表示使用JVM共享的 {@link ForkJoinPool#commonPool()}
+     * (和应用中的并行流、CompletableFuture默认异步任务共用线程)；大于0时在 {@link #init()} 中创建独立的线程池，
+     * 避免大批量翻译和其他使用公共线程池的任务互相占用
+     */
+    @Getter
+    @Setter
+    private int parallelism;
+
+    /**
+     * 并行执行使用的fork-join线程池
+     */
+    private ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+
+    /**
+     * 翻译仓库调用器(负责超大ID列表的拆分与并行子批次)
+     */
+    private TransFetcher fetcher;
+
+    /**
+     * 按通道加权公平调度仓库查询的执行器，未开启通道调度时为null
+     */
+    private LaneScheduler laneScheduler;
+
     /**
      * 初始化方法
      * 如果executor为空，则创建一个新的线程池，并使用指定的线程工厂来创建线程。
@@ -50,21 +144,235 @@ public class TransService {
     public void init() {
         // 使用Option处理executor为null的情况
         Option.of(this.executor).onEmpty(() -> this.executor = Executors.newCachedThreadPool(r -> new Thread(r, "trans-thread-" + r.hashCode())));
+        this.fetcher = new TransFetcher(this.executor);
+        // 重新初始化时停止旧的调度器，正在排队的查询执行完后它的工作线程退出
+        LaneScheduler previous = this.laneScheduler;
+        this.laneScheduler = this.laneWorkers > 0 ? new LaneScheduler(this.laneWorkers, this.laneWeights) : null;
+        if (previous != null) {
+            previous.shutdown();
+        }
+        ForkJoinPool previousPool = this.parallelPool;
+        this.parallelPool = this.parallelism > 0 ? new ForkJoinPool(this.parallelism) : ForkJoinPool.commonPool();
+        if (previousPool != ForkJoinPool.commonPool()) {
+            previousPool.shutdown();
+        }
         // 这个方法会将isInit设置为true，表示TransService已经初始化完成。
         isInit = true;
     }
 
+    /**
+     * 关闭翻译服务：停止通道调度的工作线程(已排队的查询会执行完)，之后的查询直接在调用线程中执行；
+     * 关闭独立的fork-join线程池，之后的翻译顺序执行
+     * <p>
+     * 翻译线程池由使用方传入时由使用方负责关闭。
+     * </p>
+     */
+    public void shutdown() {
+        LaneScheduler current = this.laneScheduler;
+        if (current != null) {
+            current.shutdown();
+        }
+        ForkJoinPool pool = this.parallelPool;
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
     /**
      * @param obj 需要被翻译的对象
      * @return 是否翻译成功
      */
     public boolean trans(Object obj) {
+        return trans(obj, TransLane.INTERACTIVE);
+    }
+
+    /**
+     * 在指定的优先级通道中翻译
+     *
+     * @param obj  需要被翻译的对象
+     * @param lane 调度通道(例如导出等批量任务使用 {@link TransLane#BATCH})
+     * @return 是否翻译成功
+     */
+    public boolean trans(Object obj, TransLane lane) {
+        return trans(obj, TransOptions.of(lane));
+    }
+
+    /**
+     * 按选项翻译(调度通道、只翻译部分字段等)
+     *
+     * @param obj     需要被翻译的对象
+     * @param options 翻译选项
+     * @return 是否翻译成功
+     */
+    public boolean trans(Object obj, TransOptions options) {
+        // 被采样的调用以profile方式执行，并把调用形态交给录制器(离线作用域中的合成调用不录制)
+        TransRecorder transRecorder = this.recorder;
+        TransMemo memo = TransMemo.current();
+        if (transRecorder != null && (memo == null || !memo.isOffline()) && transRecorder.sample()) {
+            TransPlan plan = profile(obj, options, transRecorder.getIdHasher());
+            transRecorder.record(plan);
+            return !plan.isEmpty();
+        }
+        TransContext context = new TransContext(options.getLane(), null, memo, null, options.getTracker());
+        // 开启JFR事件时记录解析包装对象依次用到的解析器(离线作用域中的合成调用不产生事件)
+        Object jfr = memo != null && memo.isOffline() ? null : TransJfr.beginTrans();
+        List<TransObjResolver> resolverChain = jfr == null ? null : new ArrayList<>();
+        return prepare(obj, options, resolverChain)
+                .map(tuple -> {
+                    // 执行翻译赋值的核心方法
+                    this.doTrans(context, tuple._1, tuple._2);
+                    if (jfr != null) {
+                        String chain = resolverChain.stream().map(r -> r.getClass().getSimpleName()).collect(Collectors.joining(">"));
+                        TransJfr.commitTrans(jfr, tuple._1.get(0).getClass(), tuple._1.size(), chain);
+                    }
+                    return true;
+                })
+                // 默认返回false
+                .getOrElse(false);
+    }
+
+    /**
+     * 生成执行计划(不调用任何翻译仓库，也不修改对象)
+     * <p>
+     * 计划包括包装对象的解析步骤、仓库查询阶段及其依赖关系、每个阶段写入的字段以及预计查询的ID个数，
+     * 用于排查某个DTO翻译慢时到底发生了多少次、什么顺序、多少ID的仓库查询。
+     * </p>
+     *
+     * @param obj 需要被翻译的对象
+     * @return 执行计划，没有需要翻译的内容时返回空计划
+     */
+    public TransPlan explain(Object obj) {
+        return explain(obj, TransOptions.DEFAULT);
+    }
+
+    /**
+     * 按选项生成执行计划(被选择条件裁剪掉的字段和仓库不会出现在计划中)
+     *
+     * @param obj     需要被翻译的对象
+     * @param options 翻译选项
+     * @return 执行计划，没有需要翻译的内容时返回空计划
+     */
+    public TransPlan explain(Object obj, TransOptions options) {
+        List<TransObjResolver> resolverChain = new ArrayList<>();
+        return prepare(obj, options, resolverChain)
+                .map(tuple -> TransPlan.of(tuple._1, tuple._2, resolverChain))
+                .getOrElse(() -> TransPlan.empty(resolverChain));
+    }
+
+    /**
+     * 执行翻译并返回标注了实际执行统计的执行计划
+     *
+     * @param obj 需要被翻译的对象
+     * @return 执行计划，每个阶段标注实际的ID个数和耗时
+     * @see #explain(Object)
+     */
+    public TransPlan profile(Object obj) {
+        return profile(obj, TransLane.INTERACTIVE);
+    }
+
+    /**
+     * 在指定的优先级通道中执行翻译并返回标注了实际执行统计的执行计划
+     *
+     * @param obj  需要被翻译的对象
+     * @param lane 调度通道
+     * @return 执行计划，每个阶段标注实际的ID个数和耗时
+     * @see #explain(Object)
+     */
+    public TransPlan profile(Object obj, TransLane lane) {
+        return profile(obj, TransOptions.of(lane));
+    }
+
+    /**
+     * 按选项执行翻译并返回标注了实际执行统计的执行计划
+     *
+     * @param obj     需要被翻译的对象
+     * @param options 翻译选项
+     * @return 执行计划，每个阶段标注实际的ID个数和耗时
+     * @see #explain(Object, TransOptions)
+     */
+    public TransPlan profile(Object obj, TransOptions options) {
+        return profile(obj, options, null);
+    }
+
+    /**
+     * 执行翻译并返回标注了实际执行统计的执行计划
+     *
+     * @param obj             需要被翻译的对象
+     * @param options         翻译选项
+     * @param idHasher 采集每个阶段ID哈希使用的哈希函数(录制时使用)，为null时不采集
+     * @return 执行计划
+     */
+    private TransPlan profile(Object obj, TransOptions options, TransIdHasher idHasher) {
+        List<TransObjResolver> resolverChain = new ArrayList<>();
+        return prepare(obj, options, resolverChain)
+                .map(tuple -> {
+                    // 先根据翻译前的源字段值生成计划，再带着计划执行翻译
+                    TransPlan plan = TransPlan.of(tuple._1, tuple._2, resolverChain);
+                    if (idHasher != null) {
+                        plan.captureIdHashes(idHasher);
+                    }
+                    long start = System.nanoTime();
+                    this.doTrans(new TransContext(options.getLane(), plan, TransMemo.current(), null, options.getTracker()), tuple._1, tuple._2);
+                    plan.profiled(System.nanoTime() - start);
+                    return plan;
+                })
+                .getOrElse(() -> TransPlan.empty(resolverChain));
+    }
+
+    /**
+     * 查询翻译值但不修改对象
+     * <p>
+     * 和 {@link #trans(Object, TransOptions)} 一样批量调用翻译仓库，但翻译值只保存在返回的 {@link TransValues} 中，
+     * 不写入对象的目标字段，适用于序列化时才输出翻译值的场景。不参与采样录制。
+     * </p>
+     *
+     * @param obj     需要被翻译的对象
+     * @param options 翻译选项(一般只包含即将被输出的字段)
+     * @return 翻译值，没有需要翻译的内容时返回空的结果
+     */
+    public TransValues lookup(Object obj, TransOptions options) {
+        TransValues values = new TransValues();
+        prepare(obj, options, null)
+                .forEach(tuple -> this.doTrans(new TransContext(options.getLane(), null, TransMemo.current(), values, null), tuple._1, tuple._2));
+        return values;
+    }
+
+    /**
+     * 预热：直接按仓库和注解批量查询一组ID，不翻译任何对象
+     * <p>
+     * 查询在 {@link TransLane#BATCH} 通道中执行，和普通翻译一样经过分批、超时、熔断等保护，
+     * 用于在实例接收流量之前预热仓库一侧的缓存和连接。
+     * </p>
+     *
+     * @param repository 翻译仓库的class
+     * @param transAnno  查询使用的翻译注解
+     * @param ids        ID列表
+     * @return 查到的翻译数据个数
+     */
+    public int warmUp(Class<? extends TransRepository> repository, Annotation transAnno, List<Object> ids) {
+        TransRepository transRepository = TransRepositoryFactory.getTransRepository(repository);
+        if (!isInit || transRepository == null || CollUtil.isEmpty(ids)) {
+            return 0;
+        }
+        Map<Object, Object> valueMap = fetcher.fetch(laneScheduler, TransLane.BATCH, repository, transRepository, ids, transAnno);
+        return valueMap.size();
+    }
+
+    /**
+     * 解析对象并获取按选项裁剪后的字段树
+     *
+     * @param obj           需要被翻译的对象
+     * @param options       翻译选项
+     * @param resolverChain 依次用到的解析器(为null时不记录)
+     * @return 需要被翻译的对象列表及其需要翻译的根字段，不需要翻译时为空
+     */
+    private Option<Tuple2<List<Object>, List<TransFieldMeta>>> prepare(Object obj, TransOptions options, List<TransObjResolver> resolverChain) {
         // 检查线程池是否准备好，并且对象解析后不为空
         return Option.of(obj)
                 // 线程池是否准备好
                 .filter(o -> isInit)
                 // 解析对象
-                .map(this::resolveObj)
+                .map(o -> resolveObj(o, resolverChain))
                 // 解析后的对象不为空
                 .filter(Objects::nonNull)
                 // 转换为列表
@@ -77,51 +385,131 @@ public class TransService {
                 .map(list -> Tuple.of(list, TransClassMetaCacheManager.getTransClassMeta(list.get(0).getClass())))
                 // 检查是否需要翻译
                 .filter(tuple -> tuple._2.needTrans())
-                .map(tuple -> {
-                    // 执行翻译赋值的核心方法
-                    this.doTrans(tuple._1, tuple._2.getTransFieldList());
-                    return true;
-                })
-                // 默认返回false
-                .getOrElse(false);
+                // 按选择条件裁剪字段树
+                .map(tuple -> Tuple.of(tuple._1, TransFieldSelector.select(tuple._1.get(0).getClass(), tuple._2.getTransFieldList(), options)))
+                // 裁剪后仍有需要翻译的字段
+                .filter(tuple -> !tuple._2.isEmpty());
+    }
+
+    /**
+     * 流式翻译(使用默认分块大小)
+     *
+     * @param stream 需要被翻译的元素流
+     * @param <T>    元素类型
+     * @return 已翻译元素组成的流
+     * @see #transStream(Stream, int)
+     */
+    public <T> Stream<T> transStream(Stream<T> stream) {
+        return transStream(stream, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 流式翻译
+     * <p>
+     * 适用于导出等超大结果集场景：元素按块惰性拉取，每块对每个翻译仓库只做一次批量查询，
+     * 翻译完成后再逐个发往下游，内存占用只和分块大小成正比。返回的流关闭时先停止拉取源数据，再关闭源流。
+     * </p>
+     *
+     * @param stream    需要被翻译的元素流
+     * @param chunkSize 每块的元素个数
+     * @param <T>       元素类型
+     * @return 已翻译元素组成的流
+     */
+    public <T> Stream<T> transStream(Stream<T> stream, int chunkSize) {
+        return transStream(stream, chunkSize, TransLane.INTERACTIVE);
+    }
+
+    /**
+     * 在指定的优先级通道中流式翻译(例如导出任务使用 {@link TransLane#BATCH})
+     *
+     * @param stream    需要被翻译的元素流
+     * @param chunkSize 每块的元素个数
+     * @param lane      调度通道
+     * @param <T>       元素类型
+     * @return 已翻译元素组成的流
+     * @see #transStream(Stream, int)
+     */
+    public <T> Stream<T> transStream(Stream<T> stream, int chunkSize, TransLane lane) {
+        TransChunkIterator<T> iterator = new TransChunkIterator<>(this, stream.iterator(), chunkSize, null, lane);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close)
+                .onClose(stream::close);
+    }
+
+    /**
+     * 分块迭代翻译(不预取)
+     *
+     * @param iterator  需要被翻译的元素迭代器
+     * @param chunkSize 每块的元素个数
+     * @param <T>       元素类型
+     * @return 已翻译元素的迭代器
+     * @see #transIterator(Iterator, int, boolean)
+     */
+    public <T> TransIterator<T> transIterator(Iterator<T> iterator, int chunkSize) {
+        return transIterator(iterator, chunkSize, false);
+    }
+
+    /**
+     * 分块迭代翻译
+     * <p>
+     * 开启预取时，在当前块被消费的同时，下一块会在翻译线程池中提前拉取并完成翻译，
+     * 此时最多同时持有两块数据。没有迭代到末尾就停止时调用 {@link TransIterator#close()} 取消预取。
+     * </p>
+     *
+     * @param iterator  需要被翻译的元素迭代器
+     * @param chunkSize 每块的元素个数
+     * @param prefetch  是否预取下一块
+     * @param <T>       元素类型
+     * @return 已翻译元素的迭代器(提前停止时需要关闭)
+     */
+    public <T> TransIterator<T> transIterator(Iterator<T> iterator, int chunkSize, boolean prefetch) {
+        return transIterator(iterator, chunkSize, prefetch, TransLane.INTERACTIVE);
+    }
+
+    /**
+     * 在指定的优先级通道中分块迭代翻译
+     *
+     * @param iterator  需要被翻译的元素迭代器
+     * @param chunkSize 每块的元素个数
+     * @param prefetch  是否预取下一块
+     * @param lane      调度通道
+     * @param <T>       元素类型
+     * @return 已翻译元素的迭代器
+     * @see #transIterator(Iterator, int, boolean)
+     */
+    public <T> TransIterator<T> transIterator(Iterator<T> iterator, int chunkSize, boolean prefetch, TransLane lane) {
+        return new TransChunkIterator<>(this, iterator, chunkSize, prefetch ? executor : null, lane);
     }
 
     /**
      * 解析对象(一般就是controller层封装的Result(code/msg/data)对象)
      *
-     * @param obj 需要解析的对象
+     * @param obj   需要解析的对象
+     * @param chain 依次用到的解析器(为null时不记录)
      * @return 解析后的对象，如果对象无法解析或为空，则返回原对象
      */
-    private Object resolveObj(Object obj) {
-        // 使用Option处理null值检查
-        return Option.of(obj)
-                .map(o -> {
-                    // 通过EasyTransRegister取到使用方的包装类(可以是多个)
-                    List<TransObjResolver> resolvers = TransObjResolverFactory.getResolvers();
-
-                    // 查找第一个支持该对象的解析器并处理
-                    return resolvers.stream()
-                            .filter(resolver -> resolver.support(o))
-                            .findFirst()
-                            .map(resolver -> {
-                                // 解析对象
-                                Object resolvedObj = resolver.resolveTransObj(o);
-                                // 递归处理嵌套翻译
-                                return resolveObj(resolvedObj);
-                            })
-                            // 如果没有找到支持的解析器，返回原对象
-                            .orElse(o);
-                })
-                .getOrNull();
+    private Object resolveObj(Object obj, List<TransObjResolver> chain) {
+        // 逐层拆开包装对象(通过EasyTransRegister取到使用方的包装类,可以是多个)，
+        // 每一层按具体类型从注册中心的缓存中取解析器，没有解析器时就是需要翻译的对象
+        Object current = obj;
+        TransObjResolver resolver;
+        while (current != null && (resolver = TransObjResolverFactory.getResolver(current)) != null) {
+            if (chain != null) {
+                chain.add(resolver);
+            }
+            current = resolver.resolveTransObj(current);
+        }
+        return current;
     }
 
     /**
      * 执行转换操作
      *
+     * @param context            翻译上下文
      * @param needTransVOList    需要转换的VO对象列表
      * @param transFieldMetaList 对应翻译元字段列表
      */
-    private void doTrans(List<Object> needTransVOList, List<TransFieldMeta> transFieldMetaList) {
+    private void doTrans(TransContext context, List<Object> needTransVOList, List<TransFieldMeta> transFieldMetaList) {
         // 将转换字段信息按仓库类分组
         Map<? extends Class<? extends TransRepository>, List<TransFieldMeta>> listMap = transFieldMetaList.stream().collect(Collectors.groupingBy(TransFieldMeta::getRepository));
 
@@ -131,13 +519,13 @@ public class TransService {
                     // 使用CompletableFuture并发执行多个转换操作
                     CompletableFuture.allOf(listMap.entrySet().stream().map(entry -> CompletableFuture.runAsync(() ->
                                     // 递归调用doTrans方法处理每个分组
-                                    this.doTrans(needTransVOList, entry.getKey(), entry.getValue()), executor)).toArray(CompletableFuture[]::new))
+                                    this.doTrans(context, needTransVOList, entry.getKey(), entry.getValue()), executor)).toArray(CompletableFuture[]::new))
                             .join();
                     return null;
                 }),
                 Case($(), () -> {
                     // 如果分组数量不大于1，表示只有一个仓库类需要处理
-                    listMap.forEach((transClass, transFields) -> this.doTrans(needTransVOList, transClass, transFields));
+                    listMap.forEach((transClass, transFields) -> this.doTrans(context, needTransVOList, transClass, transFields));
                     return null;
                 })
         );
@@ -147,26 +535,27 @@ public class TransService {
     /**
      * 执行转换操作
      *
+     * @param context            翻译上下文
      * @param needTransVOList    需要转换的VO对象列表
      * @param transClass         转换仓库类
      * @param transFieldMetaList 对应翻译元字段列表
      */
-    private void doTrans(List<Object> needTransVOList, Class<? extends TransRepository> transClass, List<TransFieldMeta> transFieldMetaList) {
+    private void doTrans(TransContext context, List<Object> needTransVOList, Class<? extends TransRepository> transClass, List<TransFieldMeta> transFieldMetaList) {
         Option.of(TransRepositoryFactory.getTransRepository(transClass))
                 .forEach(transRepository -> {
                     // 获取需要被翻译的集合Map<trans, List < TransModel>>
-                    Map<String, List<TransModel>> transMap = this.getTransMap(needTransVOList, transFieldMetaList);
+                    Map<String, List<TransModel>> transMap = this.getTransMap(context, needTransVOList, transFieldMetaList);
 
                     // 使用Option处理transMap非空情况
                     Option.of(transMap)
                             .filter(CollUtil::isNotEmpty)
-                            .forEach(map -> doTrans0(transRepository, map));
+                            .forEach(map -> doTrans0(context, transRepository, map));
 
                     // 有嵌套属性,就继续翻译
                     transFieldMetaList.forEach(transField ->
                             Option.of(transField.getChildren())
                                     .filter(CollUtil::isNotEmpty)
-                                    .forEach(children -> doTrans(needTransVOList, children))
+                                    .forEach(children -> doTrans(context, needTransVOList, children))
                     );
                 });
     }
@@ -174,19 +563,29 @@ public class TransService {
     /**
      * 获取需要翻译的集合
      *
+     * @param context            翻译上下文
      * @param needTransVOList    需要被翻译的对象集合
      * @param transFieldMetaList 需要被翻译的属性
      * @return 需要被翻译的集合Map<trans, List < TransModel>>
      */
-    private Map<String, List<TransModel>> getTransMap(List<Object> needTransVOList, List<TransFieldMeta> transFieldMetaList) {
+    private Map<String, List<TransModel>> getTransMap(TransContext context, List<Object> needTransVOList, List<TransFieldMeta> transFieldMetaList) {
+        // 不修改对象时，链式字段的源值来自上一级保存的翻译值
+        TransValues values = context.getValues();
+        // 增量翻译时跳过源值没有变化、仓库数据也没有失效的字段
+        TransTracker tracker = context.getTracker();
         // 将toTransList中的每个TransFieldMeta对象与objList中的每个对象进行映射，生成TransModel对象
-        return transFieldMetaList.stream()
+        // 行数达到并行阈值时并行读取源字段(groupingBy在并行流中仍然保持每组内的原始顺序)
+        boolean parallel = isParallel(needTransVOList.size());
+        Supplier<Map<String, List<TransModel>>> collect = () -> (parallel ? transFieldMetaList.parallelStream() : transFieldMetaList.stream())
                 // 对每个TransFieldMeta对象，将其与objList中的每个对象进行映射，生成TransModel对象
-                .flatMap(x -> needTransVOList.stream().map(o -> new TransModel(o, x)))
+                .flatMap(x -> (parallel ? needTransVOList.parallelStream() : needTransVOList.stream()).map(o -> values == null ? new TransModel(o, x) : new TransModel(o, x, values.sourceValue(o, x.getTransField()))))
                 // 过滤出需要翻译的TransModel对象
                 .filter(TransModel::needTrans)
+                .filter(x -> tracker == null || tracker.isDirty(x))
                 // 根据TransFieldMeta对象的trans属性对TransModel对象进行分组
                 .collect(Collectors.groupingBy(x -> x.getTransField().getTrans()));
+        // 并行流在发起任务的fork-join线程池中执行，因此在并行线程池中发起(当前线程阻塞等待)
+        return parallel ? parallelPool.submit(collect::get).join() : collect.get();
     }
 
 
@@ -194,23 +593,24 @@ public class TransService {
      * 执行转换操作（具体实现）
      * 把需要翻译的在总数据数据仓库仅需对比,对需要翻译的仅需赋值翻译
      *
+     * @param context         翻译上下文
      * @param transRepository 转换仓库
      * @param transMap        需要转换的模型映射，键为转换标识，值为模型列表
      */
-    private void doTrans0(TransRepository transRepository, Map<String, List<TransModel>> transMap) {
+    private void doTrans0(TransContext context, TransRepository transRepository, Map<String, List<TransModel>> transMap) {
         boolean b = transMap.size() > 1;
         // 分组查询
         Match(b).of(
                 Case($(b), () -> {
                     CompletableFuture<?>[] futures = transMap.values()
                             .stream()
-                            .map(transModels -> CompletableFuture.runAsync(() -> doTrans(transRepository, transModels), executor))
+                            .map(transModels -> CompletableFuture.runAsync(() -> doTrans(context, transRepository, transModels), executor))
                             .toArray(CompletableFuture[]::new);
                     CompletableFuture.allOf(futures).join();
                     return null; // Void方法需要返回null
                 }),
                 Case($(), () -> {
-                    transMap.values().forEach(transModels -> doTrans(transRepository, transModels));
+                    transMap.values().forEach(transModels -> doTrans(context, transRepository, transModels));
                     return null; // Void方法需要返回null
                 })
         );
@@ -219,33 +619,126 @@ public class TransService {
     /**
      * 执行转换操作
      *
+     * @param context         翻译上下文
      * @param transRepository 转换仓库
      * @param transModels     包含转换模型的列表
      */
-    private void doTrans(TransRepository transRepository, List<TransModel> transModels) {
-        // 获取所有转换模型中需要转换的值，去重后存入List
-        List<Object> transIdList = transModels.stream()
-                .map(TransModel::getMultipleTransVal)
-                .flatMap(Collection::stream)
-                .distinct()
-                .collect(Collectors.toList());
-
+    private void doTrans(TransContext context, TransRepository transRepository, List<TransModel> transModels) {
         // 获取转换注解
         // 它们都属于同一个字段（同一个 TransFieldMeta）
         // 它们都使用相同的翻译仓库（TransRepository）
         // 它们都使用相同的翻译注解（@Trans 或相关注解）
-        Annotation transAnno = transModels.get(0).getTransField().getTransAnno();
+        TransFieldMeta transFieldMeta = transModels.get(0).getTransField();
+
+        // 获取所有转换模型中需要转换的值，去重后存入List(同时统计去重前的个数，用于监听器计算去重率)
+        int keyCount = 0;
+        for (TransModel transModel : transModels) {
+            keyCount += transModel.getMultipleTransVal().size();
+        }
+        // long主键仓库使用原始类型的哈希集合去重，ID中有非整数类型时退回通用的去重方式
+        LongHashSet longIds = LongKeyTransRepository.class.isAssignableFrom(transFieldMeta.getRepository()) ? distinctLongIds(transModels) : null;
+        List<Object> transIdList;
+        if (longIds != null) {
+            transIdList = CollectionUtils.objToList(longIds.toArray());
+        } else {
+            Set<Object> distinctIds = new LinkedHashSet<>();
+            for (TransModel transModel : transModels) {
+                distinctIds.addAll(transModel.getMultipleTransVal());
+            }
+            transIdList = new ArrayList<>(distinctIds);
+        }
+
+        Annotation transAnno = transFieldMeta.getTransAnno();
+        // 离线作用域中的合成调用(例如启动预热)不通知监听器、不产生JFR事件，也不计入热点ID
+        boolean offline = context.getMemo() != null && context.getMemo().isOffline();
+        TransListener listener = offline ? TransListener.NOOP : TransListenerFactory.get();
+        listener.onKeysCollected(transFieldMeta.getRepository(), keyCount, transIdList.size());
+        TransHotKeys transHotKeys = this.hotKeys;
+        if (transHotKeys != null && !offline) {
+            transHotKeys.record(transModels.get(0).getObj().getClass(), transFieldMeta, transIdList);
+        }
 
         // 获取转换值映射(使用者提供的数据源) userId -> userDO(数据库实体的对象),相当于根据id获取到id map
-        Map<Object, Object> valueMap = transRepository.getTransValueMap(transIdList, transAnno);
+        // ID过多时由fetcher按仓库配置拆分为多个子批次并行查询后合并; 开启通道调度时在对应通道中排队执行
+        // 在备忘录作用域内时，只查询作用域内还没有查到过的ID
+        long fetchStart = System.nanoTime();
+        TransTracker.Round round = context.getTracker() == null ? null : context.getTracker().begin();
+        Function<List<Object>, Map<Object, Object>> loader = ids -> fetcher.fetch(laneScheduler, context.getLane(), transFieldMeta.getRepository(), transRepository, ids, transAnno);
+        Map<Object, Object> valueMap = context.getMemo() == null
+                ? loader.apply(transIdList)
+                : context.getMemo().lookup(transFieldMeta.getRepository(), transAnno, transIdList, loader);
 
-        // 如果转换值映射不为空
-        Option.of(valueMap)
-                .filter(CollUtil::isNotEmpty)
-                // 遍历转换模型，设置转换后的值
-                .peek(map -> transModels.forEach(transModel -> transModel.setValue(map)));
+        long writeBackStart = System.nanoTime();
 
+        // 如果转换值映射不为空，遍历转换模型，设置转换后的值
+        // 查询结果只建立一次索引，所有模型共享；模型个数达到并行阈值时拆分为fork-join任务并行回写
+        Object jfr = offline ? null : TransJfr.beginWriteBack();
+        int translated = 0;
+        if (CollUtil.isNotEmpty(valueMap)) {
+            TransValueIndex valueIndex = TransValueIndex.of(valueMap);
+            translated = isParallel(transModels.size())
+                    ? parallelPool.invoke(new TransWriteBackTask(transModels, valueIndex, 0, transModels.size(), leafSize(transModels.size()), context.getValues(), round))
+                    : TransWriteBackTask.writeBack(transModels, valueIndex, 0, transModels.size(), context.getValues(), round);
+        }
+        TransJfr.commitWriteBack(jfr, transFieldMeta.getRepository(), transFieldMeta.getTrans(), transModels.size(), translated);
+        listener.onWriteBack(transFieldMeta.getRepository(), translated, transModels.size() - translated);
+
+        // profile模式下把实际执行统计标注到对应的阶段上
+        if (context.getPlan() != null) {
+            TransStage stage = context.getPlan().findStage(transFieldMeta);
+            if (stage != null) {
+                stage.record(keyCount, transIdList.size(), writeBackStart - fetchStart, System.nanoTime() - writeBackStart, translated,
+                        context.getPlan().getIdHasher() != null ? context.getPlan().getIdHasher().hash(transIdList) : null);
+            }
+        }
+
+    }
+
+
+    /**
+     * 是否需要并行执行(线程池只有一个并行度时没有并行的意义)
+     *
+     * @param size 行数或模型个数
+     * @return 是否并行
+     */
+    private boolean isParallel(int size) {
+        return parallelThreshold > 0 && size >= parallelThreshold && parallelPool.getParallelism() > 1;
     }
 
+    /**
+     * 并行回写的叶子任务大小：每个工作线程大约分到4个任务，便于任务窃取时均衡负载
+     *
+     * @param size 模型个数
+     * @return 叶子任务大小
+     */
+    private int leafSize(int size) {
+        return Math.max(MIN_LEAF_SIZE, size / (parallelPool.getParallelism() * 4));
+    }
+
+    /**
+     * 使用原始类型的哈希集合对ID去重
+     *
+     * @param transModels 转换模型列表
+     * @return 去重后的ID，存在非整数类型的ID时返回null
+     */
+    private static LongHashSet distinctLongIds(List<TransModel> transModels) {
+        LongHashSet ids = new LongHashSet(transModels.size());
+        for (TransModel transModel : transModels) {
+            Object transVal = transModel.getTransVal();
+            if (transVal instanceof long[]) {
+                for (long id : (long[]) transVal) {
+                    ids.add(id);
+                }
+                continue;
+            }
+            for (Object id : transModel.getMultipleTransVal()) {
+                if (!LongHashSet.isLongKey(id)) {
+                    return null;
+                }
+                ids.add(((Number) id).longValue());
+            }
+        }
+        return ids;
+    }
 
 }
@@ -0,0 +1,138 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransStage: 翻译执行计划中的一个阶段
+ * <p>
+ * 一个阶段对应一次批量仓库查询：同一个翻译仓库、同一个源字段(trans)的所有翻译字段会合并成一次查询。
+ * 源字段本身是另一个阶段的翻译结果时(例如 teacherId -> subjectId -> subjectName)，
+ * 该阶段依赖于产出源字段的阶段，只有依赖的阶段执行完后才会执行。
+ * </p>
+ * <p>
+ * 以 actual 开头的统计项只有通过 {@link TransService#profile(Object)} 实际执行后才有值。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+public class TransStage {
+
+    /**
+     * 阶段编号(在计划中的下标)
+     */
+    private final int id;
+
+    /**
+     * 层级：0表示源字段来自原始对象，n表示依赖第n-1层阶段的翻译结果
+     */
+    private final int level;
+
+    /**
+     * 翻译仓库
+     */
+    private final Class<? extends TransRepository> repository;
+
+    /**
+     * 源字段名称(查询使用的ID所在的字段)
+     */
+    private final String trans;
+
+    /**
+     * 本阶段写入的目标字段名称
+     */
+    private final List<String> fields;
+
+    /**
+     * 依赖的阶段编号，-1表示不依赖其他阶段
+     */
+    private final int dependsOn;
+
+    /**
+     * 预计查询的去重ID个数(根据当前对象的源字段值计算)，依赖其他阶段时在执行前无法得知，为-1
+     */
+    private final int expectedIdCount;
+
+    /**
+     * 是否已经实际执行
+     */
+    private boolean executed;
+
+    /**
+     * 实际收集到的ID个数(去重前)
+     */
+    private int actualKeyCount;
+
+    /**
+     * 实际查询的去重ID个数
+     */
+    private int actualIdCount;
+
+    /**
+     * 仓库查询耗时(纳秒，包括子批次拆分、排队与降级保护)
+     */
+    private long actualFetchNanos;
+
+    /**
+     * 结果回写耗时(纳秒)
+     */
+    private long actualWriteBackNanos;
+
+    /**
+     * 成功翻译的字段个数
+     */
+    private int actualTranslatedCount;
+
+    /**
+     * 实际查询的去重ID的哈希，只有录制调用时才会采集(见 {@link com.github.xtranslation.core.record.TransRecorder})
+     */
+    private long[] actualIdHashes;
+
+    TransStage(int id, int level, Class<? extends TransRepository> repository, String trans, List<String> fields, int dependsOn, int expectedIdCount) {
+        this.id = id;
+        this.level = level;
+        this.repository = repository;
+        this.trans = trans;
+        this.fields = fields;
+        this.dependsOn = dependsOn;
+        this.expectedIdCount = expectedIdCount;
+    }
+
+    /**
+     * 记录实际执行的统计(每个阶段在一次调用中只执行一次，结果在调用线程join之后读取)
+     */
+    void record(int keyCount, int idCount, long fetchNanos, long writeBackNanos, int translatedCount, long[] idHashes) {
+        this.executed = true;
+        this.actualKeyCount = keyCount;
+        this.actualIdCount = idCount;
+        this.actualFetchNanos = fetchNanos;
+        this.actualWriteBackNanos = writeBackNanos;
+        this.actualTranslatedCount = translatedCount;
+        this.actualIdHashes = idHashes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('#').append(id).append(" L").append(level).append(' ')
+                .append(repository.getSimpleName()).append(' ').append(trans).append(" -> ").append(fields);
+        if (dependsOn >= 0) {
+            sb.append(" dependsOn=#").append(dependsOn);
+        }
+        sb.append(" expectedIds=").append(expectedIdCount < 0 ? "?" : String.valueOf(expectedIdCount));
+        if (executed) {
+            sb.append(" | ids=").append(actualIdCount).append('/').append(actualKeyCount)
+                    .append(" fetch=").append(TimeUnit.NANOSECONDS.toMicros(actualFetchNanos)).append("us")
+                    .append(" writeBack=").append(TimeUnit.NANOSECONDS.toMicros(actualWriteBackNanos)).append("us")
+                    .append(" translated=").append(actualTranslatedCount);
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,277 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.repository.TransRepository;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TransTracker: 增量翻译的状态跟踪器
+ * <p>
+ * 长期保存在内存中的对象(例如本地缓存里的DTO)小幅修改后再次翻译时，默认会重新查询所有字段。
+ * 通过 {@link TransOptions#tracker(TransTracker)} 传入跟踪器后，每个目标字段翻译成功时会记住它所用的源值，
+ * 再次翻译同一个对象时只查询以下字段：
+ * 1. 还没有翻译成功过的字段
+ * 2. 源值发生了变化的字段(链式字段的源值是上一级的翻译值，上一级没有变化时整条链都会跳过)
+ * 3. 翻译之后仓库数据被 {@link #invalidate(Class)} 或 {@link #invalidate(Class, Object)} 标记为失效的字段
+ * </p>
+ * <p>
+ * 对象按同一性(而不是equals)弱引用跟踪，对象被回收后状态自动清除。
+ * 目标字段被外部直接修改时需要调用 {@link #forget(Object)}，否则源值没有变化的字段不会被重新翻译。
+ * </p>
+ * <p>
+ * 单个ID的失效记录有上限(默认 {@value #DEFAULT_MAX_INVALIDATED_KEYS} 个)，超过时把已有的ID失效记录合并为所属仓库的整体失效，
+ * 只会多查询一些字段，不会漏掉失效的数据。
+ * </p>
+ * <pre>
+ * TransOptions incremental = TransOptions.DEFAULT.tracker(tracker);
+ * transService.trans(cachedUsers, incremental);
+ * </pre>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransTracker {
+
+    /**
+     * 默认的单个ID失效记录上限
+     */
+    public static final int DEFAULT_MAX_INVALIDATED_KEYS = 10000;
+
+    /**
+     * 逻辑时钟：每次失效递增，字段状态记录查询开始时的值
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * 字段状态  key: 对象(同一性弱引用)  value: 目标字段 -> 翻译时的源值和版本
+     * <p>
+     * 按目标字段的 {@link Field} 记录，而不是 {@link TransFieldMeta} 实例：按选项裁剪字段树时会生成新的元数据副本，
+     * 同一个字段在不同选项下翻译时仍然对应同一份状态。
+     * </p>
+     */
+    private final Map<IdentityKey, Map<Field, State>> states = new ConcurrentHashMap<>();
+
+    /**
+     * 整个仓库失效的版本  key: 翻译仓库的class  value: 失效时的时钟
+     */
+    private final Map<Class<? extends TransRepository>, Long> repositoryVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 单个ID失效的版本  key: 翻译仓库的class+ID  value: 失效时的时钟
+     */
+    private final Map<List<Object>, Long> keyVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 单个ID失效记录的上限
+     */
+    private final int maxInvalidatedKeys;
+
+    /**
+     * 使用默认的ID失效记录上限
+     */
+    public TransTracker() {
+        this(DEFAULT_MAX_INVALIDATED_KEYS);
+    }
+
+    /**
+     * @param maxInvalidatedKeys 单个ID失效记录的上限，超过时合并为仓库整体失效
+     */
+    public TransTracker(int maxInvalidatedKeys) {
+        if (maxInvalidatedKeys <= 0) {
+            throw new IllegalArgumentException("maxInvalidatedKeys must be positive: " + maxInvalidatedKeys);
+        }
+        this.maxInvalidatedKeys = maxInvalidatedKeys;
+    }
+
+    /**
+     * 标记仓库的全部数据失效，使用该仓库的字段下次翻译时重新查询
+     *
+     * @param repository 翻译仓库的class
+     */
+    public void invalidate(Class<? extends TransRepository> repository) {
+        repositoryVersions.put(repository, clock.incrementAndGet());
+        keyVersions.keySet().removeIf(key -> key.get(0) == repository);
+    }
+
+    /**
+     * 标记仓库中一个ID的数据失效，源值包含该ID的字段下次翻译时重新查询
+     *
+     * @param repository 翻译仓库的class
+     * @param id         失效的ID(类型需要和源字段一致)
+     */
+    public void invalidate(Class<? extends TransRepository> repository, Object id) {
+        keyVersions.put(Arrays.asList(repository, id), clock.incrementAndGet());
+        if (keyVersions.size() > maxInvalidatedKeys) {
+            collapseKeyVersions();
+        }
+    }
+
+    /**
+     * 清除对象的全部字段状态，下次翻译时重新查询所有字段
+     *
+     * @param obj 被翻译的对象
+     */
+    public void forget(Object obj) {
+        states.remove(new IdentityKey(obj, null));
+    }
+
+    /**
+     * @return 当前跟踪的对象个数
+     */
+    public int size() {
+        expunge();
+        return states.size();
+    }
+
+    /**
+     * 判断转换模型是否需要重新查询。已经翻译过、需要重新翻译的模型会被标记为替换目标字段，
+     * 多值字段不再在上一次的翻译结果后追加
+     *
+     * @param transModel 转换模型
+     * @return 是否需要查询
+     */
+    boolean isDirty(TransModel transModel) {
+        expunge();
+        Map<Field, State> fields = states.get(new IdentityKey(transModel.getObj(), null));
+        State state = fields == null ? null : fields.get(transModel.getTransField().getField());
+        if (state == null) {
+            return true;
+        }
+        if (state.source.equals(transModel.getMultipleTransVal()) && !isInvalidated(transModel.getTransField().getRepository(), state)) {
+            return false;
+        }
+        transModel.setReplaceTarget(true);
+        return true;
+    }
+
+    /**
+     * 在查询仓库之前开始一轮记录(失效时间晚于这一刻的数据不会被当作最新)
+     *
+     * @return 本轮的记录器
+     */
+    Round begin() {
+        return new Round(clock.get());
+    }
+
+    private boolean isInvalidated(Class<? extends TransRepository> repository, State state) {
+        Long repositoryVersion = repositoryVersions.get(repository);
+        if (repositoryVersion != null && repositoryVersion > state.version) {
+            return true;
+        }
+        if (keyVersions.isEmpty()) {
+            return false;
+        }
+        for (Object id : state.source) {
+            Long keyVersion = keyVersions.get(Arrays.asList(repository, id));
+            if (keyVersion != null && keyVersion > state.version) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 把全部ID失效记录合并为所属仓库的整体失效(仓库失效版本取其中最大的ID失效版本)
+     */
+    private void collapseKeyVersions() {
+        for (Map.Entry<List<Object>, Long> entry : keyVersions.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Class<? extends TransRepository> repository = (Class<? extends TransRepository>) entry.getKey().get(0);
+            Long version = entry.getValue();
+            repositoryVersions.merge(repository, version, Math::max);
+            // 合并期间同一个ID再次失效时保留新的记录
+            keyVersions.remove(entry.getKey(), version);
+        }
+    }
+
+    private void expunge() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            states.remove(ref);
+        }
+    }
+
+    /**
+     * Round: 一轮仓库查询的记录器
+     */
+    final class Round {
+
+        private final long version;
+
+        private Round(long version) {
+            this.version = version;
+        }
+
+        /**
+         * 记住翻译成功的转换模型所用的源值
+         *
+         * @param transModel 转换模型
+         */
+        void record(TransModel transModel) {
+            states.computeIfAbsent(new IdentityKey(transModel.getObj(), queue), k -> new ConcurrentHashMap<>(8))
+                    .put(transModel.getTransField().getField(), new State(new ArrayList<>(transModel.getMultipleTransVal()), version));
+        }
+
+    }
+
+    /**
+     * 一个目标字段翻译成功时的源值和版本
+     */
+    private static final class State {
+
+        private final List<Object> source;
+
+        private final long version;
+
+        State(List<Object> source, long version) {
+            this.source = source;
+            this.version = version;
+        }
+
+    }
+
+    /**
+     * 按同一性比较的弱引用键
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityKey(Object obj, ReferenceQueue<Object> queue) {
+            super(obj, queue);
+            this.hash = System.identityHashCode(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityKey)) {
+                return false;
+            }
+            Object referent = get();
+            return referent != null && referent == ((IdentityKey) o).get();
+        }
+
+    }
+
+}
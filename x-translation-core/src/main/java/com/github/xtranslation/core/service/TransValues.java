@@ -0,0 +1,80 @@
+package com.github.xtranslation.core.service;
+
+
+import cn.hutool.core.util.ReflectUtil;
+import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.core.TransValueIndex;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * TransValues: 不修改对象的翻译结果
+ * <p>
+ * 由 {@link TransService#lookup(Object, TransOptions)} 返回，按对象(同一性比较)和目标字段名保存翻译值，
+ * 对象本身保持不变。适用于序列化时才输出翻译值的场景(例如 x-translation-jackson)，
+ * 链式翻译的下一级字段直接以这里保存的上一级翻译值作为源值。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransValues {
+
+    /**
+     * 翻译值  key: 被翻译的对象  value: 目标字段名 -> 翻译值
+     */
+    private final Map<Object, Map<String, Object>> values = new IdentityHashMap<>();
+
+    /**
+     * 获取对象某个目标字段的翻译值
+     *
+     * @param obj       被翻译的对象
+     * @param fieldName 目标字段名
+     * @return 翻译值，没有翻译结果时返回null
+     */
+    public synchronized Object get(Object obj, String fieldName) {
+        Map<String, Object> fieldValues = values.get(obj);
+        return fieldValues == null ? null : fieldValues.get(fieldName);
+    }
+
+    /**
+     * @return 是否没有任何翻译值
+     */
+    public synchronized boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * 计算转换模型的翻译值并保存(不写入对象)
+     *
+     * @param transModel 转换模型
+     * @param valueIndex 翻译数据索引
+     * @return 是否查到了翻译值
+     */
+    boolean put(TransModel transModel, TransValueIndex valueIndex) {
+        Object value = transModel.resolveValue(valueIndex);
+        if (value == null) {
+            return false;
+        }
+        synchronized (this) {
+            values.computeIfAbsent(transModel.getObj(), k -> new HashMap<>(4)).put(transModel.getTransField().getField().getName(), value);
+        }
+        return true;
+    }
+
+    /**
+     * 获取源字段的值：源字段已经有翻译值时(链式翻译)优先使用翻译值，否则读取对象的字段
+     *
+     * @param obj         被翻译的对象
+     * @param transField  源字段
+     * @return 源值
+     */
+    Object sourceValue(Object obj, Field transField) {
+        Object value = get(obj, transField.getName());
+        return value != null ? value : ReflectUtil.getFieldValue(obj, transField);
+    }
+
+}
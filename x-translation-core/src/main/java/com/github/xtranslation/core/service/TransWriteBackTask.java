@@ -0,0 +1,94 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.core.TransValueIndex;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TransWriteBackTask: 并行回写翻译值的fork-join任务
+ * <p>
+ * 把转换模型列表按下标区间不断二分，区间不超过叶子大小时在当前工作线程中顺序回写。
+ * 所有子任务只读取同一个 {@link TransValueIndex}，并且每个模型只写自己的目标字段，因此不需要额外加锁。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransWriteBackTask extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<TransModel> transModels;
+
+    private final TransValueIndex valueIndex;
+
+    private final int from;
+
+    private final int to;
+
+    private final int leafSize;
+
+    /**
+     * 不修改对象时保存翻译值的容器，为null时直接写入对象
+     */
+    private final TransValues values;
+
+    /**
+     * 增量翻译时记住翻译成功的源值，为null时不记录
+     */
+    private final TransTracker.Round round;
+
+    TransWriteBackTask(List<TransModel> transModels, TransValueIndex valueIndex, int from, int to, int leafSize, TransValues values, TransTracker.Round round) {
+        this.transModels = transModels;
+        this.valueIndex = valueIndex;
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+        this.values = values;
+        this.round = round;
+    }
+
+    /**
+     * @return 设置了翻译值的模型个数
+     */
+    @Override
+    protected Integer compute() {
+        if (to - from <= leafSize) {
+            return writeBack(transModels, valueIndex, from, to, values, round);
+        }
+        int mid = (from + to) >>> 1;
+        TransWriteBackTask left = new TransWriteBackTask(transModels, valueIndex, from, mid, leafSize, values, round);
+        left.fork();
+        int right = new TransWriteBackTask(transModels, valueIndex, mid, to, leafSize, values, round).compute();
+        return left.join() + right;
+    }
+
+    /**
+     * 顺序回写一个区间
+     *
+     * @param transModels 转换模型列表
+     * @param valueIndex  翻译数据索引
+     * @param from        起始下标(包含)
+     * @param to          结束下标(不包含)
+     * @param values      不修改对象时保存翻译值的容器，为null时直接写入对象
+     * @param round       增量翻译时记住翻译成功的源值，为null时不记录
+     * @return 设置了翻译值的模型个数
+     */
+    static int writeBack(List<TransModel> transModels, TransValueIndex valueIndex, int from, int to, TransValues values, TransTracker.Round round) {
+        int translated = 0;
+        for (int i = from; i < to; i++) {
+            TransModel transModel = transModels.get(i);
+            if (values == null ? transModel.setValue(valueIndex) : values.put(transModel, valueIndex)) {
+                translated++;
+                if (round != null) {
+                    round.record(transModel);
+                }
+            }
+        }
+        return translated;
+    }
+
+}
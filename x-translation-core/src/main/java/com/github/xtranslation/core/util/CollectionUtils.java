@@ -1,11 +1,8 @@
 package com.github.xtranslation.core.util;
 
+import java.io.Serializable;
+import java.lang.reflect.Array;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-
-import static io.vavr.API.*;
-import static io.vavr.Predicates.instanceOf;
 
 /**
  * CollectionUtils: 集合工具类，提供一些集合操作的工具方法。
@@ -16,18 +13,165 @@ import static io.vavr.Predicates.instanceOf;
 public class CollectionUtils {
     /**
      * 将对象转换为List集合
+     * <p>
+     * 尽量返回视图而不是复制：支持随机访问的List直接返回，对象数组使用 {@link Arrays#asList(Object[])}，
+     * 基本类型数组(例如 long[] 类型的ID字段)使用只读视图按下标读取并装箱；
+     * 只有不支持随机访问的集合和 Iterable 才会复制成 ArrayList(避免之后按下标访问时退化为O(n))。
+     * 返回的List只能读取，不能修改。
+     * </p>
      *
      * @param obj 对象
      * @return List集合
      */
+    @SuppressWarnings("unchecked")
     public static List<Object> objToList(Object obj) {
-        return Match(obj).of(
-                Case($(Objects::isNull), Collections.emptyList()),
-                Case($(instanceOf(Collection.class)), c -> new ArrayList<>((Collection<?>) c)),
-                Case($(instanceOf(Iterable.class)), i -> StreamSupport.stream(((Iterable<?>) i).spliterator(), false).collect(Collectors.toList())),
-                Case($(o -> o.getClass().isArray()), arr -> Arrays.stream((Object[]) arr).collect(Collectors.toList())),
-                Case($(), Collections::singletonList)
-        );
+        if (obj == null) {
+            return Collections.emptyList();
+        }
+        if (obj instanceof List && obj instanceof RandomAccess) {
+            return (List<Object>) obj;
+        }
+        if (obj instanceof Collection) {
+            return new ArrayList<>((Collection<?>) obj);
+        }
+        if (obj instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            for (Object o : (Iterable<?>) obj) {
+                list.add(o);
+            }
+            return list;
+        }
+        if (obj instanceof Object[]) {
+            return Arrays.asList((Object[]) obj);
+        }
+        if (obj instanceof long[]) {
+            return new LongArrayView((long[]) obj);
+        }
+        if (obj instanceof int[]) {
+            return new IntArrayView((int[]) obj);
+        }
+        if (obj.getClass().isArray()) {
+            return new PrimitiveArrayView(obj);
+        }
+        return Collections.singletonList(obj);
+    }
+
+    /**
+     * 判断列表中的元素是否都是整数类型(Long、Integer、Short、Byte)，可以无损地转换为 long[]
+     *
+     * @param list 列表
+     * @return 是否都是整数类型
+     */
+    public static boolean isLongList(List<?> list) {
+        if (list instanceof LongArrayView) {
+            return true;
+        }
+        for (Object value : list) {
+            if (!LongHashSet.isLongKey(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将整数类型(Long、Integer、Short、Byte)元素的列表转换为 long[]
+     * <p>
+     * 列表本身是 long[] 的视图时直接返回被包装的数组，不复制。
+     * </p>
+     *
+     * @param list 列表
+     * @return long数组
+     * @throws IllegalArgumentException 列表中包含非整数类型的元素
+     */
+    public static long[] toLongArray(List<?> list) {
+        if (list instanceof LongArrayView) {
+            return ((LongArrayView) list).array;
+        }
+        long[] array = new long[list.size()];
+        int i = 0;
+        for (Object value : list) {
+            if (!LongHashSet.isLongKey(value)) {
+                throw new IllegalArgumentException("不是整数类型的ID: " + value);
+            }
+            array[i++] = ((Number) value).longValue();
+        }
+        return array;
+    }
+
+    /**
+     * long[] 的只读视图
+     */
+    private static final class LongArrayView extends AbstractList<Object> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] array;
+
+        LongArrayView(long[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    /**
+     * int[] 的只读视图
+     */
+    private static final class IntArrayView extends AbstractList<Object> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+
+        IntArrayView(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int index) {
+            return array[index];
+        }
+
+        @Override
+        public int size() {
+            return array.length;
+        }
+    }
+
+    /**
+     * 其他基本类型数组(short[]、byte[]、char[]等)的只读视图
+     */
+    private static final class PrimitiveArrayView extends AbstractList<Object> implements RandomAccess, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object array;
+
+        private final int size;
+
+        PrimitiveArrayView(Object array) {
+            this.array = array;
+            this.size = Array.getLength(array);
+        }
+
+        @Override
+        public Object get(int index) {
+            return Array.get(array, index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 
 }
@@ -0,0 +1,165 @@
+package com.github.xtranslation.core.util;
+
+
+import java.util.Arrays;
+
+/**
+ * LongHashSet: long类型的开放寻址哈希集合
+ * <p>
+ * 用于对翻译ID去重：ID直接以long存放在数组中(线性探测)，不需要装箱成Long，也不需要为每个元素创建链表节点，
+ * 大分页时产生的垃圾和哈希开销都远小于 {@code LinkedHashSet<Object>}。
+ * 集合会记录元素的插入顺序，{@link #toArray()} 按插入顺序返回，和原来的 LinkedHashSet 行为一致。
+ * </p>
+ * <p>
+ * 非线程安全。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class LongHashSet {
+
+    /**
+     * 哈希表，0表示空槽位(0本身由hasZero单独记录)
+     */
+    private long[] table;
+
+    /**
+     * 按插入顺序记录的元素
+     */
+    private long[] order;
+
+    private int size;
+
+    private boolean hasZero;
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+        this.order = new long[Math.max(4, expectedSize)];
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     * @return 集合中原来没有该元素时返回true
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            append(value);
+            return true;
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        long current;
+        while ((current = table[index]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        append(value);
+        if (size * 2 > table.length) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 是否包含元素
+     *
+     * @param value 元素
+     * @return 是否包含
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return hasZero;
+        }
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        long current;
+        while ((current = table[index]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 按插入顺序返回所有元素
+     *
+     * @return 元素数组(新数组)
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(order, size);
+    }
+
+    /**
+     * 判断对象是否可以无损地作为long类型的ID(Long、Integer、Short、Byte)
+     *
+     * @param value 对象
+     * @return 是否为整数类型
+     */
+    public static boolean isLongKey(Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private void append(long value) {
+        if (size == order.length) {
+            order = Arrays.copyOf(order, size << 1);
+        }
+        order[size++] = value;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] newTable = new long[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < size; i++) {
+            long value = order[i];
+            if (value == 0) {
+                continue;
+            }
+            int index = hash(value) & mask;
+            while (newTable[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            newTable[index] = value;
+        }
+        table = newTable;
+    }
+
+    /**
+     * 混淆哈希值，避免连续的自增ID集中在相邻槽位
+     */
+    static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 负载因子不超过0.5的2的幂容量
+     */
+    static int tableSizeFor(int expectedSize) {
+        int capacity = 8;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.github.xtranslation.core.util;
+
+
+import java.util.*;
+
+/**
+ * LongObjectMap: long类型键的开放寻址哈希映射
+ * <p>
+ * 键直接以long存放在数组中(线性探测)，按long读写时没有装箱，也不为每个键值对创建节点对象。
+ * 同时实现了 {@link Map} 接口，键为 Long、Integer、Short、Byte 时按数值查找，因此可以直接作为
+ * {@code Map<Object, Object>} 交给引擎的回写流程使用；按 Map 接口遍历时才会装箱。
+ * </p>
+ * <p>
+ * 非线程安全，不支持删除。
+ * </p>
+ *
+ * @param <V> 值类型
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class LongObjectMap<V> extends AbstractMap<Object, V> {
+
+    /**
+     * 键，0表示空槽位(键0由zeroValue单独记录)
+     */
+    private long[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    private boolean hasZero;
+
+    private V zeroValue;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = LongHashSet.tableSizeFor(expectedSize);
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    /**
+     * 按long键获取值
+     *
+     * @param key 键
+     * @return 值，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * 是否包含long键
+     *
+     * @param key 键
+     * @return 是否包含
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? hasZero : indexOf(key) >= 0;
+    }
+
+    /**
+     * 按long键设置值
+     *
+     * @param key   键
+     * @param value 值
+     * @return 原来的值
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0) {
+            V old = zeroValue;
+            if (!hasZero) {
+                hasZero = true;
+                size++;
+            }
+            zeroValue = value;
+            return old;
+        }
+        int mask = keys.length - 1;
+        int index = LongHashSet.hash(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                V old = (V) values[index];
+                values[index] = value;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * 遍历所有键值对(不装箱)
+     *
+     * @param consumer 键值对消费者
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachEntry(EntryConsumer<? super V> consumer) {
+        if (hasZero) {
+            consumer.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        return LongHashSet.isLongKey(key) ? get(((Number) key).longValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return LongHashSet.isLongKey(key) && containsKey(((Number) key).longValue());
+    }
+
+    @Override
+    public V put(Object key, V value) {
+        if (!LongHashSet.isLongKey(key)) {
+            throw new IllegalArgumentException("LongObjectMap只支持整数类型的键: " + key);
+        }
+        return put(((Number) key).longValue(), value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<Object, V>> entrySet() {
+        return new AbstractSet<Entry<Object, V>>() {
+            @Override
+            public Iterator<Entry<Object, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int index = LongHashSet.hash(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[newCapacity];
+        values = new Object[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == 0) {
+                continue;
+            }
+            int index = LongHashSet.hash(key) & mask;
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = oldValues[i];
+        }
+    }
+
+    /**
+     * 键值对消费者
+     *
+     * @param <V> 值类型
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        void accept(long key, V value);
+
+    }
+
+    /**
+     * 按Map接口遍历时使用的迭代器(键装箱为Long)
+     */
+    private final class EntryIterator implements Iterator<Entry<Object, V>> {
+
+        /**
+         * 下一个槽位，-1表示键0
+         */
+        private int next = hasZero ? -1 : advance(0);
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<Object, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<Object, V> entry = next < 0
+                    ? new SimpleImmutableEntry<>(0L, zeroValue)
+                    : new SimpleImmutableEntry<>(keys[next], (V) values[next]);
+            next = advance(next + 1);
+            return entry;
+        }
+
+        private int advance(int from) {
+            int index = from;
+            while (index < keys.length && keys[index] == 0) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+}
@@ -0,0 +1,408 @@
+package com.github.xtranslation.core.warmup;
+
+
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.log.Log;
+import cn.hutool.log.LogFactory;
+import com.github.xtranslation.core.core.TransClassMeta;
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.hotkey.TransHotKeys;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.memo.TransMemo;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import com.github.xtranslation.core.service.TransLane;
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.core.service.TransService;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * TransWarmUp: 启动预热
+ * <p>
+ * 新实例刚启动时元数据未解析、热点代码还在解释执行、字典和仓库一侧的缓存也是冷的，发布后的p99会明显偏高。
+ * 预热按以下阶段依次执行，整体受时间预算限制，超出预算时跳过剩余步骤(不会阻止应用上线)：
+ * 1. 元数据：按编译时生成的翻译类索引(见 TransMetadataProcessor)解析所有翻译类
+ * 2. 仓库：加载这些类用到的全部字典分组，并按热点ID快照(如果有)预热翻译仓库
+ * 3. JIT：用合成对象在离线备忘录作用域中反复翻译，走完整的翻译流程但不查询任何仓库，直到达到迭代次数
+ * </p>
+ * <p>
+ * 运行状态({@code getPhase()}、{@code getProgress()})可以被健康检查读取，starter 据此提供就绪检查。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransWarmUp {
+
+    private static final Log log = LogFactory.get();
+
+    /**
+     * 预热阶段
+     */
+    public enum Phase {
+
+        /**
+         * 尚未开始
+         */
+        PENDING,
+
+        /**
+         * 解析元数据
+         */
+        METADATA,
+
+        /**
+         * 预热字典和仓库
+         */
+        REPOSITORIES,
+
+        /**
+         * 合成翻译(JIT)
+         */
+        JIT,
+
+        /**
+         * 已结束(包括超出时间预算提前结束)
+         */
+        COMPLETED
+
+    }
+
+    private final TransService transService;
+
+    /**
+     * 热点ID快照，为null时不预热仓库中的热点ID
+     */
+    private final TransHotKeys hotKeys;
+
+    /**
+     * 时间预算(毫秒)，小于等于0表示不限制
+     */
+    @Getter
+    @Setter
+    private long timeBudgetMillis = 30000;
+
+    /**
+     * 合成翻译的迭代次数(每次迭代把每个翻译类的一批合成对象翻译一遍)
+     */
+    @Getter
+    @Setter
+    private int iterations = 10000;
+
+    /**
+     * 每次迭代每个翻译类的合成对象个数
+     */
+    @Getter
+    @Setter
+    private int rows = 32;
+
+    @Getter
+    private volatile Phase phase = Phase.PENDING;
+
+    /**
+     * 当前阶段的进度 [0, 100]
+     */
+    @Getter
+    private volatile int progress;
+
+    /**
+     * 是否因为超出时间预算而提前结束
+     */
+    @Getter
+    private volatile boolean budgetExceeded;
+
+    /**
+     * @param transService 翻译服务
+     * @param hotKeys      热点ID快照，可以为null
+     */
+    public TransWarmUp(TransService transService, TransHotKeys hotKeys) {
+        this.transService = transService;
+        this.hotKeys = hotKeys;
+    }
+
+    /**
+     * @return 是否已经结束
+     */
+    public boolean isCompleted() {
+        return phase == Phase.COMPLETED;
+    }
+
+    /**
+     * 执行预热(阻塞直到结束或超出时间预算)
+     *
+     * @param classLoader 读取翻译类索引使用的类加载器
+     */
+    public void run(ClassLoader classLoader) {
+        long start = System.nanoTime();
+        long deadline = timeBudgetMillis > 0 ? start + timeBudgetMillis * 1_000_000L : Long.MAX_VALUE;
+        try {
+            enter(Phase.METADATA);
+            Map<Class<?>, TransClassMeta> classMetas = new LinkedHashMap<>();
+            for (Class<?> clazz : TransClassMetaCacheManager.indexedClasses(classLoader)) {
+                TransClassMeta classMeta = TransClassMetaCacheManager.getTransClassMeta(clazz);
+                if (classMeta.needTrans()) {
+                    classMetas.put(clazz, classMeta);
+                }
+            }
+            log.info("x-translation 预热: 解析了{}个翻译类的元数据", classMetas.size());
+
+            enter(Phase.REPOSITORIES);
+            warmUpDicts(classMetas.values());
+            if (hotKeys != null && !isExpired(deadline)) {
+                hotKeys.preload(transService);
+            }
+
+            enter(Phase.JIT);
+            List<Synthetic> synthetics = new ArrayList<>();
+            for (Map.Entry<Class<?>, TransClassMeta> entry : classMetas.entrySet()) {
+                Synthetic synthetic = Synthetic.of(entry.getKey(), entry.getValue(), rows);
+                if (synthetic != null) {
+                    synthetics.add(synthetic);
+                }
+            }
+            int done = runSynthetic(synthetics, deadline);
+            log.info("x-translation 预热完成: {}个类合成翻译{}次, 耗时{}ms{}", synthetics.size(), done,
+                    (System.nanoTime() - start) / 1_000_000, budgetExceeded ? ", 已超出时间预算" : "");
+        } catch (RuntimeException e) {
+            // 预热失败不影响应用启动
+            log.warn("x-translation 预热失败: {}", e.toString());
+        } finally {
+            progress = 100;
+            phase = Phase.COMPLETED;
+        }
+    }
+
+    /**
+     * 加载翻译类用到的全部字典分组(同一个分组只加载一次)
+     *
+     * @param classMetas 翻译类
+     */
+    private void warmUpDicts(Collection<TransClassMeta> classMetas) {
+        Set<Annotation> dictAnnos = new LinkedHashSet<>();
+        for (TransClassMeta classMeta : classMetas) {
+            collect(classMeta.getTransFieldList(), meta -> {
+                if (DictTransRepository.class.isAssignableFrom(meta.getRepository())) {
+                    dictAnnos.add(meta.getTransAnno());
+                }
+            });
+        }
+        int loaded = 0;
+        for (Annotation dictAnno : dictAnnos) {
+            try {
+                loaded += transService.warmUp(DictTransRepository.class, dictAnno, Collections.singletonList(""));
+            } catch (RuntimeException e) {
+                log.warn("x-translation 预热字典失败: {}, {}", dictAnno, e.toString());
+            }
+            progress = 100 * loaded / dictAnnos.size();
+        }
+        log.info("x-translation 预热: 加载了{}个字典分组", loaded);
+    }
+
+    /**
+     * 在离线备忘录作用域中反复翻译合成对象
+     *
+     * @param synthetics 合成对象
+     * @param deadline   截止时间(System.nanoTime)
+     * @return 完成的迭代次数
+     */
+    private int runSynthetic(List<Synthetic> synthetics, long deadline) {
+        if (synthetics.isEmpty()) {
+            return 0;
+        }
+        int logStep = Math.max(1, iterations / 10);
+        TransOptions options = TransOptions.of(TransLane.BATCH);
+        try (TransMemo memo = TransMemo.openOffline()) {
+            for (Synthetic synthetic : synthetics) {
+                synthetic.seed(memo);
+            }
+            for (int i = 0; i < iterations; i++) {
+                if (isExpired(deadline)) {
+                    return i;
+                }
+                for (Synthetic synthetic : synthetics) {
+                    synthetic.reset();
+                    transService.trans(synthetic.rows, options);
+                }
+                if ((i + 1) % logStep == 0) {
+                    progress = (int) (100L * (i + 1) / iterations);
+                    log.info("x-translation 预热: 合成翻译 {}% ({}/{})", progress, i + 1, iterations);
+                }
+            }
+        }
+        return iterations;
+    }
+
+    private boolean isExpired(long deadline) {
+        if (System.nanoTime() - deadline >= 0) {
+            budgetExceeded = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void enter(Phase next) {
+        progress = 0;
+        phase = next;
+    }
+
+    private static void collect(List<TransFieldMeta> transFieldMetaList, Consumer<TransFieldMeta> consumer) {
+        if (transFieldMetaList == null) {
+            return;
+        }
+        for (TransFieldMeta transFieldMeta : transFieldMetaList) {
+            consumer.accept(transFieldMeta);
+            collect(transFieldMeta.getChildren(), consumer);
+        }
+    }
+
+    /**
+     * Synthetic: 一个翻译类的合成对象
+     */
+    private static final class Synthetic {
+
+        private final List<Object> rows;
+
+        /**
+         * 需要填充合成ID的源字段
+         */
+        private final List<Field> sourceFields;
+
+        /**
+         * 每次翻译前需要清空的目标字段
+         */
+        private final List<Field> targetFields;
+
+        private final List<TransFieldMeta> roots;
+
+        private Synthetic(List<Object> rows, List<Field> sourceFields, List<Field> targetFields, List<TransFieldMeta> roots) {
+            this.rows = rows;
+            this.sourceFields = sourceFields;
+            this.targetFields = targetFields;
+            this.roots = roots;
+        }
+
+        /**
+         * 创建合成对象，无法实例化或没有可以填充的源字段时返回null
+         */
+        static Synthetic of(Class<?> clazz, TransClassMeta classMeta, int rows) {
+            if (classMeta.getTransFieldList().isEmpty()) {
+                return null;
+            }
+            List<Field> sourceFields = new ArrayList<>();
+            List<Field> targetFields = new ArrayList<>();
+            List<TransFieldMeta> roots = new ArrayList<>();
+            for (TransFieldMeta root : classMeta.getTransFieldList()) {
+                if (syntheticValue(root.getTransField(), 0) != null) {
+                    roots.add(root);
+                    if (!sourceFields.contains(root.getTransField())) {
+                        sourceFields.add(root.getTransField());
+                    }
+                }
+            }
+            collect(classMeta.getTransFieldList(), meta -> targetFields.add(meta.getField()));
+            if (sourceFields.isEmpty()) {
+                return null;
+            }
+            List<Object> list = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                Object row = ReflectUtil.newInstanceIfPossible(clazz);
+                if (row == null) {
+                    return null;
+                }
+                list.add(row);
+            }
+            return new Synthetic(list, sourceFields, targetFields, roots);
+        }
+
+        /**
+         * 把合成ID对应的翻译数据放入离线备忘录
+         */
+        void seed(TransMemo memo) {
+            Map<Object, Object> valueMap = new HashMap<>();
+            for (int i = 0; i <= rows.size(); i++) {
+                valueMap.put((long) i, Collections.emptyMap());
+                valueMap.put(i, Collections.emptyMap());
+                valueMap.put(String.valueOf(i), Collections.emptyMap());
+            }
+            for (TransFieldMeta root : roots) {
+                memo.put(root.getRepository(), root.getTransAnno(), valueMap);
+            }
+        }
+
+        /**
+         * 清空上一次翻译的结果并重新填充源字段
+         */
+        void reset() {
+            for (int i = 0; i < rows.size(); i++) {
+                Object row = rows.get(i);
+                for (Field targetField : targetFields) {
+                    if (!targetField.getType().isPrimitive()) {
+                        ReflectUtil.setFieldValue(row, targetField, null);
+                    }
+                }
+                for (Field sourceField : sourceFields) {
+                    ReflectUtil.setFieldValue(row, sourceField, syntheticValue(sourceField, i));
+                }
+            }
+        }
+
+        /**
+         * 按字段类型生成合成ID，不支持的类型返回null
+         */
+        static Object syntheticValue(Field field, int i) {
+            Class<?> type = field.getType();
+            Object id = syntheticId(type, i);
+            if (id != null) {
+                return id;
+            }
+            if (type == long[].class) {
+                return new long[]{i, i + 1};
+            }
+            if (type == int[].class) {
+                return new int[]{i, i + 1};
+            }
+            if (type == Long[].class || type == Integer[].class || type == String[].class) {
+                Object array = Array.newInstance(type.getComponentType(), 2);
+                Array.set(array, 0, syntheticId(type.getComponentType(), i));
+                Array.set(array, 1, syntheticId(type.getComponentType(), i + 1));
+                return array;
+            }
+            if (Collection.class.isAssignableFrom(type) && field.getGenericType() instanceof ParameterizedType) {
+                Type element = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+                if (!(element instanceof Class) || syntheticId((Class<?>) element, i) == null) {
+                    return null;
+                }
+                Collection<Object> collection = type.isAssignableFrom(ArrayList.class) ? new ArrayList<>() : type.isAssignableFrom(LinkedHashSet.class) ? new LinkedHashSet<>() : null;
+                if (collection != null) {
+                    collection.add(syntheticId((Class<?>) element, i));
+                    collection.add(syntheticId((Class<?>) element, i + 1));
+                }
+                return collection;
+            }
+            return null;
+        }
+
+        private static Object syntheticId(Class<?> type, int i) {
+            if (type == Long.class || type == long.class) {
+                return (long) i;
+            }
+            if (type == Integer.class || type == int.class) {
+                return i;
+            }
+            if (type == String.class) {
+                return String.valueOf(i);
+            }
+            return null;
+        }
+
+    }
+
+}
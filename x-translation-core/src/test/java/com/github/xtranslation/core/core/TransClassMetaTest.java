@@ -1,9 +1,15 @@
 package com.github.xtranslation.core.core;
 
+import com.github.xtranslation.core.annotation.Trans;
 import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.util.List;
 
 class TransClassMetaTest {
@@ -16,5 +22,36 @@ class TransClassMetaTest {
         Assertions.assertEquals(4, transFieldMeta.size());
     }
 
+    @Test
+    void legacyComposedAnnotationAttributes() {
+        TransClassMeta transClassMeta = new TransClassMeta(LegacyDto.class);
+        List<TransFieldMeta> transFieldMeta = transClassMeta.getTransFieldList();
+        Assertions.assertEquals(1, transFieldMeta.size());
+        Assertions.assertEquals("teacherId", transFieldMeta.get(0).getTrans());
+        Assertions.assertEquals("name", transFieldMeta.get(0).getKey());
+    }
+
+    /**
+     * 使用旧属性名transKey/transField的组合注解
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD})
+    @Trans(repository = TeacherTransRepository.class)
+    @interface LegacyTeacherTrans {
+
+        String transKey();
+
+        String transField() default "";
+
+    }
+
+    static class LegacyDto {
+
+        private Long teacherId;
+
+        @LegacyTeacherTrans(transKey = "teacherId", transField = "name")
+        private String teacherName;
+
+    }
 
 }
@@ -0,0 +1,26 @@
+package com.github.xtranslation.core.dto;
+
+
+import com.github.xtranslation.core.TeacherTrans;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserDto3 {
+
+    private Long id;
+
+    private long[] teacherIds;
+
+    @TeacherTrans(trans = "teacherIds", key = "name")
+    private List<String> teacherName;
+
+    @TeacherTrans(trans = "teacherIds", key = "name")
+    private String[] teacherNameArray;
+
+    public UserDto3(Long id, long... teacherIds) {
+        this.id = id;
+        this.teacherIds = teacherIds;
+    }
+}
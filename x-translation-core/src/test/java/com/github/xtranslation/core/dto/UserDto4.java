@@ -0,0 +1,27 @@
+package com.github.xtranslation.core.dto;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.repository.LongTeacherTransRepository;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class UserDto4 {
+
+    private Integer teacherId;
+
+    private long[] teacherIds;
+
+    @Trans(repository = LongTeacherTransRepository.class, transKey = "teacherId", transField = "name")
+    private String teacherName;
+
+    @Trans(repository = LongTeacherTransRepository.class, transKey = "teacherIds", transField = "name")
+    private List<String> teacherNames;
+
+    public UserDto4(Integer teacherId, long... teacherIds) {
+        this.teacherId = teacherId;
+        this.teacherIds = teacherIds;
+    }
+}
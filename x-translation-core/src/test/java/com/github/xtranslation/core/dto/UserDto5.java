@@ -0,0 +1,19 @@
+package com.github.xtranslation.core.dto;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.repository.LongTeacherTransRepository;
+import lombok.Data;
+
+@Data
+public class UserDto5 {
+
+    private Object teacherId;
+
+    @Trans(repository = LongTeacherTransRepository.class, transKey = "teacherId", transField = "name")
+    private String teacherName;
+
+    public UserDto5(Object teacherId) {
+        this.teacherId = teacherId;
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.xtranslation.core.hotkey;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+class TransHotKeysTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void sketchKeepsHeavyHitters() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10);
+        for (int i = 0; i < 10_000; i++) {
+            // 3个热点ID各占约1/5，其余是只出现一次的长尾
+            sketch.offer(i % 5 < 3 ? (long) (i % 5) : 1000L + i);
+        }
+        Assertions.assertEquals(10, sketch.size());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(0L, 1L, 2L)), new HashSet<>(sketch.top(3)));
+    }
+
+    @Test
+    void snapshotAndPreload() throws Exception {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        Path file = dir.resolve("hot-keys.snapshot");
+
+        TransService transService = new TransService();
+        transService.init();
+        TransHotKeys hotKeys = new TransHotKeys(file, 10, 1);
+        transService.setHotKeys(hotKeys);
+        for (int i = 0; i < 5; i++) {
+            transService.trans(Arrays.asList(new UserDto(1L, "a", 2L, "1", "1"), new UserDto(2L, "b", 3L, "1", "1")));
+        }
+        transService.trans(new UserDto(3L, "c", 4L, "1", "1"));
+        hotKeys.close();
+        Assertions.assertTrue(Files.exists(file));
+
+        List<TransHotKeys.Entry> entries = new TransHotKeys(file, 10, 1).read();
+        TransHotKeys.Entry teacher = entries.stream().filter(e -> e.getRepository() == TeacherTransRepository.class).findFirst().orElse(null);
+        Assertions.assertNotNull(teacher);
+        // 按频率从高到低
+        Assertions.assertEquals(3, teacher.getIds().size());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(2L, 3L)), new HashSet<>(teacher.getIds().subList(0, 2)));
+        Assertions.assertEquals(4L, teacher.getIds().get(2));
+
+        // 新实例按快照预热，ID直接交给仓库批量查询
+        List<Integer> fetched = Collections.synchronizedList(new ArrayList<>());
+        TransListener listener = new TransListener() {
+            @Override
+            public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+                if (repository == TeacherTransRepository.class) {
+                    fetched.add(idCount);
+                }
+            }
+        };
+        TransListenerFactory.register(listener);
+        try {
+            TransService fresh = new TransService();
+            fresh.init();
+            Assertions.assertTrue(new TransHotKeys(file, 10, 1).preload(fresh) >= 3);
+            Assertions.assertEquals(Collections.singletonList(3), fetched);
+        } finally {
+            TransListenerFactory.unregister(listener);
+        }
+    }
+
+}
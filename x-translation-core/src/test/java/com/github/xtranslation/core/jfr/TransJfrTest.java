@@ -0,0 +1,67 @@
+package com.github.xtranslation.core.jfr;
+
+
+import com.github.xtranslation.core.dto.Result;
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import com.github.xtranslation.core.resolver.ResultResolver;
+import com.github.xtranslation.core.resolver.TransObjResolverFactory;
+import com.github.xtranslation.core.service.TransService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class TransJfrTest {
+
+    @BeforeAll
+    public static void before() {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransObjResolverFactory.register(new ResultResolver());
+    }
+
+    @Test
+    void eventsRecordedWhenEnabled() throws Exception {
+        TransService transService = new TransService();
+        transService.init();
+        List<UserDto> userDtoList = Arrays.asList(new UserDto(1L, "张三", 2L, "1", "2"), new UserDto(2L, "李四", 1L, "2", "1"));
+
+        Path file = Files.createTempFile("x-translation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.github.xtranslation.Trans").withoutThreshold();
+            recording.enable("com.github.xtranslation.Fetch").withoutThreshold();
+            recording.enable("com.github.xtranslation.WriteBack").withoutThreshold();
+            recording.start();
+            transService.trans(new Result<>(userDtoList, "ok"));
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        List<RecordedEvent> transEvents = events.stream().filter(e -> e.getEventType().getName().equals("com.github.xtranslation.Trans")).collect(Collectors.toList());
+        Assertions.assertEquals(1, transEvents.size());
+        Assertions.assertEquals(2, transEvents.get(0).getInt("rowCount"));
+        Assertions.assertEquals("ResultResolver", transEvents.get(0).getString("resolverChain"));
+        // 老师和科目各查询一次(其他测试注册了字典仓库时还会有字典查询)
+        List<String> fetched = events.stream().filter(e -> e.getEventType().getName().equals("com.github.xtranslation.Fetch"))
+                .map(e -> e.getClass("repositoryClass").getName())
+                .filter(name -> !name.equals(DictTransRepository.class.getName()))
+                .sorted().collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(SubjectTransRepository.class.getName(), TeacherTransRepository.class.getName()), fetched);
+        Assertions.assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("com.github.xtranslation.WriteBack")));
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.github.xtranslation.core.memo;
+
+
+import com.github.xtranslation.core.dto.UserDto4;
+import com.github.xtranslation.core.repository.LongTeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class TransMemoTest {
+
+    LongTeacherTransRepository repository;
+
+    TransService transService;
+
+    @BeforeEach
+    void init() {
+        repository = new LongTeacherTransRepository();
+        TransRepositoryFactory.register(repository);
+        transService = new TransService();
+        transService.init();
+    }
+
+    @Test
+    void onlyUnknownIdsAreFetchedInsideScope() {
+        try (TransMemo ignored = TransMemo.open()) {
+            transService.trans(new UserDto4(1));
+            UserDto4 second = new UserDto4(1);
+            transService.trans(second);
+            Assertions.assertEquals("老师1", second.getTeacherName());
+
+            transService.trans(new UserDto4(null, 1L, 2L));
+            UserDto4 fourth = new UserDto4(null, 2L, 3L, 9L);
+            transService.trans(fourth);
+            Assertions.assertEquals(Arrays.asList("老师2", "老师3"), fourth.getTeacherNames());
+            // 没有查到的ID不会被记住
+            transService.trans(new UserDto4(null, 9L));
+        }
+        // 不同的翻译注解分别记忆
+        Assertions.assertEquals(Arrays.asList("[1]", "[1, 2]", "[3, 9]", "[9]"), calls());
+
+        // 作用域结束后重新查询
+        transService.trans(new UserDto4(1));
+        Assertions.assertEquals("[1]", calls().get(4));
+        Assertions.assertNull(TransMemo.current());
+    }
+
+    @Test
+    void nestedScopesRestoreOuterMemo() {
+        try (TransMemo outer = TransMemo.open()) {
+            try (TransMemo inner = TransMemo.open()) {
+                Assertions.assertSame(inner, TransMemo.current());
+            }
+            Assertions.assertSame(outer, TransMemo.current());
+        }
+        Assertions.assertNull(TransMemo.current());
+        Assertions.assertEquals(Collections.emptyList(), calls());
+    }
+
+    private List<String> calls() {
+        return repository.calls.stream().filter(ids -> ids.length > 0).map(Arrays::toString).collect(Collectors.toList());
+    }
+
+}
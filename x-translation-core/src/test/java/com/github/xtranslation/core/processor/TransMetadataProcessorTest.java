@@ -0,0 +1,120 @@
+package com.github.xtranslation.core.processor;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class TransMetadataProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void generateIndexAndReflectConfig() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assumptions.assumeTrue(compiler != null);
+
+        source("Base", "public class Base { private Long teacherId; }");
+        source("Teacher", "public class Teacher { private String name; public String getName() { return name; } }");
+        source("TeacherRepo", "@TransResult(Teacher.class) public class TeacherRepo implements TransRepository { }");
+        source("TeacherTrans", "@Trans(repository = TeacherRepo.class) @Retention(RetentionPolicy.RUNTIME) @Target(ElementType.FIELD) "
+                + "public @interface TeacherTrans { String trans(); String key() default \"\"; }");
+        source("Order", "public class Order extends Base { @TeacherTrans(trans = \"teacherId\", key = \"name\") private String teacherName; "
+                + "private String sex; @DictTrans(trans = \"sex\", group = \"sexDict\") private String sexName; "
+                + "public static class Line { private Long teacherId; @Trans(transKey = \"teacherId\", repository = TeacherRepo.class) private String teacherName; } }");
+        source("Plain", "public class Plain { private String name; }");
+
+        Path out = Files.createDirectories(dir.resolve("out"));
+        compile(compiler, out, "Base", "Teacher", "TeacherRepo", "TeacherTrans", "Order", "Plain");
+
+        List<String> index = Files.readAllLines(out.resolve(TransClassMetaCacheManager.INDEX_LOCATION));
+        Assertions.assertEquals(Arrays.asList("demo.Order", "demo.Order$Line"), index);
+
+        String json = new String(Files.readAllBytes(out.resolve("META-INF/native-image/x-translation/demo/reflect-config.json")), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Base\", \"allDeclaredFields\": true}"));
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Order\", \"allDeclaredFields\": true}"));
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Order$Line\", \"allDeclaredFields\": true}"));
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.TeacherTrans\", \"allDeclaredMethods\": true, \"allPublicMethods\": true}"));
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.TeacherRepo\", \"allDeclaredConstructors\": true}"));
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Teacher\", \"allDeclaredConstructors\": true, \"allDeclaredFields\": true, \"allDeclaredMethods\": true, \"allPublicMethods\": true}"));
+        Assertions.assertTrue(json.contains("com.github.xtranslation.core.annotation.DictTrans"));
+        Assertions.assertFalse(json.contains("demo.Plain"));
+
+        // 按索引预先解析元数据
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{out.toUri().toURL()}, getClass().getClassLoader())) {
+            Assertions.assertEquals(2, TransClassMetaCacheManager.preload(classLoader));
+            Assertions.assertEquals(2, TransClassMetaCacheManager.getTransClassMeta(classLoader.loadClass("demo.Order")).getTransFieldList().size());
+        }
+    }
+
+    @Test
+    void mergeIncrementalCompilation() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assumptions.assumeTrue(compiler != null);
+
+        source("Teacher", "public class Teacher { private String name; }");
+        source("TeacherRepo", "@TransResult(Teacher.class) public class TeacherRepo implements TransRepository { }");
+        source("Order", "public class Order { private Long teacherId; @Trans(transKey = \"teacherId\", repository = TeacherRepo.class) private String teacherName; "
+                + "public static class Line { private Long teacherId; @Trans(transKey = \"teacherId\", repository = TeacherRepo.class) private String teacherName; } }");
+        source("Plain", "public class Plain { private String name; }");
+        Path out = Files.createDirectories(dir.resolve("out"));
+        compile(compiler, out, "Teacher", "TeacherRepo", "Order", "Plain");
+
+        // 只重新编译修改过的两个类：Order不再有翻译字段，Plain新增翻译字段
+        source("Order", "public class Order { private String teacherName; }");
+        source("Plain", "public class Plain { private Long teacherId; @Trans(transKey = \"teacherId\", repository = TeacherRepo.class) private String teacherName; }");
+        compile(compiler, out, "Order", "Plain");
+
+        List<String> index = Files.readAllLines(out.resolve(TransClassMetaCacheManager.INDEX_LOCATION));
+        Assertions.assertEquals(Collections.singletonList("demo.Plain"), index);
+        String json = new String(Files.readAllBytes(out.resolve("META-INF/native-image/x-translation/demo/reflect-config.json")), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Plain\", \"allDeclaredFields\": true}"));
+        // 未重新编译的TeacherRepo声明的结果类型仍然保留
+        Assertions.assertTrue(json.contains("{\"name\": \"demo.Teacher\", \"allDeclaredConstructors\": true, \"allDeclaredFields\": true, \"allDeclaredMethods\": true, \"allPublicMethods\": true}"));
+    }
+
+    private void compile(JavaCompiler compiler, Path out, String... names) throws Exception {
+        String classpath = Paths.get(Trans.class.getProtectionDomain().getCodeSource().getLocation().toURI()) + File.pathSeparator + out;
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<Path> sources = new ArrayList<>();
+            for (String name : names) {
+                sources.add(dir.resolve("demo").resolve(name + ".java"));
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", classpath, "-d", out.toString(), "-Axtranslation.nativeImageName=demo"),
+                    null, fileManager.getJavaFileObjectsFromPaths(sources));
+            task.setProcessors(Collections.singletonList(new TransMetadataProcessor()));
+            Assertions.assertTrue(task.call());
+        }
+    }
+
+    private void source(String name, String body) throws Exception {
+        Path file = dir.resolve("demo").resolve(name + ".java");
+        Files.createDirectories(file.getParent());
+        String imports = "package demo;\n"
+                + "import com.github.xtranslation.core.annotation.*;\n"
+                + "import com.github.xtranslation.core.repository.TransRepository;\n"
+                + "import java.lang.annotation.*;\n";
+        Files.write(file, (imports + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.xtranslation.core.record;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class TransRecorderTest {
+
+    @BeforeAll
+    public static void before() {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+    }
+
+    @Test
+    void recordSampledCalls() throws Exception {
+        Path file = Files.createTempFile("x-translation", ".rec");
+        TransService transService = new TransService();
+        transService.init();
+        TransIdHasher idHasher;
+        try (TransRecorder recorder = new TransRecorder(file, 1.0)) {
+            idHasher = recorder.getIdHasher();
+            transService.setRecorder(recorder);
+            List<UserDto> userDtoList = new ArrayList<>();
+            userDtoList.add(new UserDto(1L, "张三", 2L, "1", "2"));
+            userDtoList.add(new UserDto(2L, "李四", 1L, "2", "1"));
+            userDtoList.add(new UserDto(3L, "王五", 2L, "1", "3"));
+            Assertions.assertTrue(transService.trans(userDtoList));
+            Assertions.assertEquals("老师2", userDtoList.get(0).getTeacherName());
+            Assertions.assertFalse(transService.trans("not translatable"));
+        }
+
+        List<TransRecord> records = TransRecorder.read(file);
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.deleteIfExists(file);
+
+        Assertions.assertEquals(1, records.size());
+        TransRecord record = records.get(0);
+        Assertions.assertEquals(UserDto.class.getName(), record.getRootClass());
+        Assertions.assertEquals(3, record.getRowCount());
+        TransRecord.Stage teacherStage = record.getStages().stream()
+                .filter(s -> s.getRepository().equals(TeacherTransRepository.class.getName())).findFirst().orElseThrow(IllegalStateException::new);
+        Assertions.assertEquals(2, teacherStage.getIdCount());
+        Assertions.assertEquals(2, teacherStage.getIdHashes().length);
+        Assertions.assertEquals(idHasher.hash(2L), teacherStage.getIdHashes()[0]);
+        // 每次录制使用不同的密钥，文件以录制头开始
+        Assertions.assertNotEquals(idHasher.hash(2L), new TransIdHasher().hash(2L));
+        Assertions.assertTrue(content.startsWith("#"));
+        // 不记录任何字段值
+        Assertions.assertFalse(content.contains("老师"));
+        Assertions.assertFalse(content.contains("张三"));
+        // 序列化后可以原样解析
+        Assertions.assertEquals(record.format(), TransRecord.parse(record.format()).format());
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.github.xtranslation.core.repository;
+
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void largeBatchesAreComparedWithTheirOwnBaseline() throws Exception {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setInitialConcurrencyLimit(10);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config);
+        // 单个ID的耗时不变，只是批次大小不同
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertTrue(limiter.acquire());
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(1), 1, true);
+            Assertions.assertTrue(limiter.acquire());
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(500), 500, true);
+        }
+        Assertions.assertEquals(10, limiter.getLimit());
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(1), limiter.getMinRttNanos(1));
+        Assertions.assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.getMinRttNanos(500));
+    }
+
+    @Test
+    void slowerCallsInTheSameBucketShrinkTheLimit() throws Exception {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setInitialConcurrencyLimit(10);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config);
+        Assertions.assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(10), 100, true);
+        Assertions.assertTrue(limiter.acquire());
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(50), 120, true);
+        Assertions.assertEquals(9, limiter.getLimit());
+    }
+
+}
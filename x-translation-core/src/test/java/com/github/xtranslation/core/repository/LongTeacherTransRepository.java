@@ -0,0 +1,27 @@
+package com.github.xtranslation.core.repository;
+
+
+import com.github.xtranslation.core.dto.TeacherDto;
+import com.github.xtranslation.core.util.LongObjectMap;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LongTeacherTransRepository implements LongKeyTransRepository {
+
+    public final List<long[]> calls = new ArrayList<>();
+
+    @Override
+    public LongObjectMap<Object> getTransValueMap(long[] transIds, Annotation transAnno) {
+        calls.add(transIds);
+        LongObjectMap<Object> map = new LongObjectMap<>(transIds.length);
+        for (long id : transIds) {
+            if (id > 0 && id <= 4) {
+                map.put(id, new TeacherDto(id, "老师" + id, id));
+            }
+        }
+        return map;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.github.xtranslation.core.repository.shard;
+
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ShardedTransRepositoryTest {
+
+    @Test
+    void fanOutAndMerge() {
+        Map<Integer, List<Object>> calls = new ConcurrentHashMap<>();
+        ShardedTransRepository<Integer> repository = new ShardedTransRepository<>(id -> (int) ((Long) id % 3), (shard, ids, anno) -> {
+            calls.put(shard, ids);
+            Map<Object, Object> valueMap = new HashMap<>();
+            ids.forEach(id -> valueMap.put(id, Collections.singletonMap("name", "user" + id)));
+            return valueMap;
+        });
+        Map<Object, Object> valueMap = repository.getTransValueMap(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L), null);
+
+        Assertions.assertEquals(7, valueMap.size());
+        Assertions.assertEquals(Collections.singletonMap("name", "user5"), valueMap.get(5L));
+        // 每个分片只查询一次，且只携带属于自己的ID
+        Assertions.assertEquals(Arrays.asList(1L, 4L, 7L), calls.get(1));
+        Assertions.assertEquals(Arrays.asList(2L, 5L), calls.get(2));
+        Assertions.assertEquals(Arrays.asList(3L, 6L), calls.get(0));
+    }
+
+    @Test
+    void partialFailure() {
+        ShardedTransRepository<Integer> repository = new ShardedTransRepository<>(id -> (int) ((Long) id % 2), (shard, ids, anno) -> {
+            if (shard == 1) {
+                throw new IllegalStateException("shard 1 down");
+            }
+            Map<Object, Object> valueMap = new HashMap<>();
+            ids.forEach(id -> valueMap.put(id, Collections.singletonMap("name", "user" + id)));
+            return valueMap;
+        });
+        // 分片1失败只影响奇数ID
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(2L, 4L)), repository.getTransValueMap(Arrays.asList(1L, 2L, 3L, 4L), null).keySet());
+        // 全部分片失败时按仓库失败处理
+        Assertions.assertThrows(IllegalStateException.class, () -> repository.getTransValueMap(Arrays.asList(1L, 3L), null));
+    }
+
+    @Test
+    void perShardConcurrencyLimit() throws Exception {
+        Map<Integer, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        Map<Integer, AtomicInteger> peak = new ConcurrentHashMap<>();
+        ShardedTransRepository<Integer> repository = new ShardedTransRepository<>(id -> (int) ((Long) id % 2), (shard, ids, anno) -> {
+            int current = inFlight.computeIfAbsent(shard, s -> new AtomicInteger()).incrementAndGet();
+            peak.computeIfAbsent(shard, s -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.get(shard).decrementAndGet();
+            return Collections.singletonMap(ids.get(0), Collections.emptyMap());
+        });
+        repository.setMaxConcurrencyPerShard(1);
+        repository.setAcquireTimeoutMillis(5000);
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<Object, Object>>> futures = new ArrayList<>();
+            for (long i = 0; i < 4; i++) {
+                List<Object> ids = Arrays.asList(i * 2, i * 2 + 1);
+                futures.add(callers.submit(() -> repository.getTransValueMap(ids, null)));
+            }
+            for (Future<Map<Object, Object>> future : futures) {
+                Assertions.assertEquals(2, future.get().size());
+            }
+        } finally {
+            callers.shutdown();
+        }
+        Assertions.assertEquals(1, peak.get(0).get());
+        Assertions.assertEquals(1, peak.get(1).get());
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.github.xtranslation.core.resolver;
+
+
+import com.github.xtranslation.core.dto.Result;
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.service.TransPlan;
+import com.github.xtranslation.core.service.TransService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class TransObjResolverFactoryTest {
+
+    @BeforeAll
+    public static void before() {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransObjResolverFactory.register(new ResultResolver());
+        PageTransObjResolver.registerPageType(PageDto.class.getName(), "getRecords");
+    }
+
+    @Test
+    void registerReplacesSameResolverClass() {
+        int size = TransObjResolverFactory.getResolvers().size();
+        TransObjResolverFactory.register(new ResultResolver());
+        Assertions.assertEquals(size, TransObjResolverFactory.getResolvers().size());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> TransObjResolverFactory.getResolvers().add(new ResultResolver()));
+    }
+
+    @Test
+    void resolveByTypeAndCacheNone() {
+        Assertions.assertNull(TransObjResolverFactory.getResolver(new UserDto(1L, "张三", 2L, "1", "2")));
+        Assertions.assertNull(TransObjResolverFactory.getResolver("text"));
+        Assertions.assertTrue(TransObjResolverFactory.getResolver(new Result<>(null, "ok")) instanceof ResultResolver);
+        Assertions.assertTrue(TransObjResolverFactory.getResolver(new PageDto<>(null, 0)) instanceof PageTransObjResolver);
+    }
+
+    @Test
+    void supportTypesSkipsSupportCall() {
+        TransObjResolverFactory.register(new TypedResolver());
+        Assertions.assertTrue(TransObjResolverFactory.getResolver(new Wrapper(null)) instanceof TypedResolver);
+    }
+
+    @Test
+    void unwrapResultOfPage() {
+        TransService transService = new TransService();
+        transService.init();
+        List<UserDto> records = Arrays.asList(new UserDto(1L, "张三", 2L, "1", "2"), new UserDto(2L, "李四", 1L, "2", "1"));
+        Result<PageDto<UserDto>> result = new Result<>(new PageDto<>(records, 2), "success");
+
+        TransPlan plan = transService.explain(result);
+        Assertions.assertEquals(Arrays.asList(ResultResolver.class, PageTransObjResolver.class), plan.getResolverSteps());
+        Assertions.assertTrue(transService.trans(result));
+        Assertions.assertEquals("老师2", records.get(0).getTeacherName());
+        Assertions.assertEquals("数学", records.get(0).getSubjectName());
+    }
+
+    @Test
+    void registerPageTypeClearsAccessorCache() {
+        PageTransObjResolver resolver = new PageTransObjResolver();
+        LatePage page = new LatePage(Arrays.asList(new UserDto(1L, "张三", 2L, "1", "2")));
+        Assertions.assertFalse(resolver.support(page));
+        // 之前判定为"不是分页类型"的缓存在注册后失效
+        PageTransObjResolver.registerPageType(LatePage.class.getName(), "getItems");
+        Assertions.assertTrue(resolver.support(page));
+        Assertions.assertSame(page.getItems(), resolver.resolveTransObj(page));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LatePage {
+
+        private List<UserDto> items;
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PageDto<T> {
+
+        private List<T> records;
+
+        private long total;
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Wrapper {
+
+        private Object data;
+
+    }
+
+    static class TypedResolver implements TransObjResolver {
+
+        @Override
+        public boolean support(Object obj) {
+            throw new UnsupportedOperationException("support should not be called when supportTypes is declared");
+        }
+
+        @Override
+        public Class<?>[] supportTypes() {
+            return new Class<?>[]{Wrapper.class};
+        }
+
+        @Override
+        public Object resolveTransObj(Object obj) {
+            return ((Wrapper) obj).getData();
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.github.xtranslation.core.service;
+
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class LaneSchedulerTest {
+
+    @Test
+    void interactiveLaneIsServedBeforeBacklogOfBatchWork() throws Exception {
+        LaneScheduler scheduler = new LaneScheduler(1, Collections.emptyMap());
+        ExecutorService callers = Executors.newFixedThreadPool(20);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        // 占住唯一的工作线程，让后续任务全部排队
+        CompletableFuture<Object> blocking = CompletableFuture.supplyAsync(() -> scheduler.call(TransLane.BATCH, () -> {
+            try {
+                started.countDown();
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, 0), callers);
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<TransLane> order = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<?>> futures = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            futures.add(CompletableFuture.runAsync(() -> scheduler.call(TransLane.BATCH, () -> order.add(TransLane.BATCH), 0), callers));
+        }
+        awaitQueueDepth(scheduler, 9);
+        for (int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.runAsync(() -> scheduler.call(TransLane.INTERACTIVE, () -> order.add(TransLane.INTERACTIVE), 0), callers));
+        }
+        awaitQueueDepth(scheduler, 17);
+        blocker.countDown();
+        blocking.join();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        callers.shutdown();
+
+        Assertions.assertEquals(17, order.size());
+        // 按 8:1 的权重，前9个被调度的任务中最多只有2个批量任务
+        long batchInFirstNine = order.subList(0, 9).stream().filter(TransLane.BATCH::equals).count();
+        Assertions.assertTrue(batchInFirstNine <= 2, order.toString());
+    }
+
+    @Test
+    void shutdownStopsWorkersAfterQueuedTasks() throws Exception {
+        LaneScheduler scheduler = new LaneScheduler(2, Collections.emptyMap());
+        Assertions.assertEquals("a", scheduler.call(TransLane.INTERACTIVE, () -> "a", 0).get());
+        scheduler.shutdown();
+        Assertions.assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+        // 关闭后在调用线程中执行
+        Assertions.assertEquals(Thread.currentThread().getName(), scheduler.call(TransLane.BATCH, () -> Thread.currentThread().getName(), 0).get());
+    }
+
+    @Test
+    void queuedTaskIsDroppedAfterTimeout() throws Exception {
+        LaneScheduler scheduler = new LaneScheduler(1, Collections.emptyMap());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> scheduler.call(TransLane.BATCH, () -> {
+            try {
+                started.countDown();
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, 0));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        AtomicBoolean executed = new AtomicBoolean();
+        long start = System.nanoTime();
+        Assertions.assertTrue(scheduler.call(TransLane.INTERACTIVE, () -> executed.getAndSet(true), TimeUnit.MILLISECONDS.toNanos(50)).isEmpty());
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        // 放弃等待后排队中的任务不再执行
+        blocker.countDown();
+        scheduler.shutdown();
+        Assertions.assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(executed.get());
+    }
+
+    /**
+     * 等待指定个数的任务进入队列(调用线程的启动时间不确定，不能用固定的sleep)
+     */
+    private static void awaitQueueDepth(LaneScheduler scheduler, int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.queueDepth() < depth) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "queue depth " + scheduler.queueDepth() + " < " + depth);
+            Thread.sleep(5);
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.dto.UserDto2;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分配预算回归测试：统计每翻译一行分配的字节数，超过 allocation-budget.properties 中记录的预算时失败。
+ * 翻译线程池替换为在调用线程中直接执行的执行器，这样全部分配都记在当前线程上。
+ */
+class TransAllocationTest {
+
+    private static final int WARMUP_ITERATIONS = 300;
+
+    private static final int ROUNDS = 5;
+
+    private static final int ITERATIONS_PER_ROUND = 20;
+
+    private static final int ROWS = 100;
+
+    private static Properties budgets;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    TransService transService;
+
+    @BeforeAll
+    public static void before() throws IOException {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        Map<String, Map<String, String>> dict = new HashMap<>();
+        dict.put("sexDict", new HashMap<>());
+        dict.put("jobDict", new HashMap<>());
+        dict.get("sexDict").put("1", "男");
+        dict.get("sexDict").put("2", "女");
+        for (int i = 1; i <= 4; i++) {
+            dict.get("jobDict").put(String.valueOf(i), "职务" + i);
+        }
+        TransRepositoryFactory.register(new DictTransRepository(group -> dict.getOrDefault(group, Collections.emptyMap())));
+
+        budgets = new Properties();
+        try (InputStream in = TransAllocationTest.class.getResourceAsStream("/allocation-budget.properties")) {
+            budgets.load(in);
+        }
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    @BeforeEach
+    public void init() {
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        transService = new TransService();
+        transService.setExecutor(new CallerRunsExecutor());
+        transService.init();
+    }
+
+    @Test
+    void userDtoSingle() {
+        assertWithinBudget("userDto.single", new UserDto(1L, "张三", 2L, "1", "2"), 1);
+    }
+
+    @Test
+    void userDtoList() {
+        List<UserDto> rows = new ArrayList<>();
+        for (long i = 0; i < ROWS; i++) {
+            rows.add(new UserDto(i, "用户" + i, i % 4 + 1, String.valueOf(i % 2 + 1), String.valueOf(i % 4 + 1)));
+        }
+        assertWithinBudget("userDto.list", rows, ROWS);
+    }
+
+    @Test
+    void userDto2List() {
+        List<UserDto2> rows = new ArrayList<>();
+        for (long i = 0; i < ROWS; i++) {
+            rows.add(new UserDto2(i, "用户" + i, Arrays.asList(i % 4 + 1, (i + 1) % 4 + 1), Arrays.asList(String.valueOf(i % 4 + 1), String.valueOf((i + 2) % 4 + 1))));
+        }
+        assertWithinBudget("userDto2.list", rows, ROWS);
+    }
+
+    private void assertWithinBudget(String scenario, Object target, int rows) {
+        long bytesPerRow = measure(target, rows);
+        long budget = Long.parseLong(budgets.getProperty(scenario));
+        System.out.printf("allocation %s: %d bytes/row (budget %d)%n", scenario, bytesPerRow, budget);
+        Assertions.assertTrue(bytesPerRow <= budget, () -> String.format("%s allocated %d bytes/row, over the budget of %d", scenario, bytesPerRow, budget));
+    }
+
+    /**
+     * 预热后分多轮测量，取最小的一轮以排除JIT编译和偶发分配的干扰
+     */
+    private long measure(Object target, int rows) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            transService.trans(target);
+        }
+        long threadId = Thread.currentThread().getId();
+        long min = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS_PER_ROUND; i++) {
+                transService.trans(target);
+            }
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+            min = Math.min(min, allocated / ((long) ITERATIONS_PER_ROUND * rows));
+        }
+        return min;
+    }
+
+    /**
+     * 在提交线程中直接执行任务
+     */
+    private static class CallerRunsExecutor extends AbstractExecutorService {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.dto.TeacherDto;
+import com.github.xtranslation.core.repository.AdaptiveConcurrencyLimiter;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import lombok.Data;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class TransFetcherTest {
+
+    TransService transService;
+
+    @BeforeAll
+    public static void before() {
+        TransRepositoryFactory.register(new SlowTeacherRepository());
+    }
+
+    @BeforeEach
+    public void init() {
+        SlowTeacherRepository.CALLS.set(0);
+        SlowTeacherRepository.sleepMillis = 0;
+        SlowTeacherRepository.fail = false;
+        SlowTeacherRepository.failId = null;
+        SlowTeacherRepository.error = null;
+        transService = new TransService();
+        transService.init();
+    }
+
+    @Test
+    void timeoutLeavesFieldUntranslated() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setTimeoutMillis(50);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        SlowTeacherRepository.sleepMillis = 2000;
+
+        StudentDto studentDto = new StudentDto(1L);
+        long start = System.currentTimeMillis();
+        transService.trans(studentDto);
+        Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+        Assertions.assertNull(studentDto.getTeacherName());
+
+        SlowTeacherRepository.sleepMillis = 0;
+        transService.trans(studentDto);
+        Assertions.assertEquals("老师1", studentDto.getTeacherName());
+    }
+
+    @Test
+    void subBatchesShareOneDeadline() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setTimeoutMillis(150);
+        config.setMaxBatchSize(1);
+        config.setBatchConcurrency(1);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        SlowTeacherRepository.sleepMillis = 100;
+        TransFetcher fetcher = new TransFetcher(Executors.newCachedThreadPool());
+
+        long start = System.currentTimeMillis();
+        Map<Object, Object> valueMap = fetcher.fetch(SlowTeacherRepository.class, new SlowTeacherRepository(), Arrays.asList(1L, 2L, 3L, 4L), null);
+        // 第二个子批次只拿到剩余的时间，之后的子批次不再调用仓库
+        Assertions.assertTrue(System.currentTimeMillis() - start < 300);
+        Assertions.assertEquals(1, valueMap.size());
+        Assertions.assertEquals(2, SlowTeacherRepository.CALLS.get());
+    }
+
+    @Test
+    void queuedLaneFetchSharesRepositoryDeadline() throws Exception {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setTimeoutMillis(50);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        LaneScheduler scheduler = new LaneScheduler(1, Collections.emptyMap());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        // 占住唯一的工作线程
+        CompletableFuture.runAsync(() -> scheduler.call(TransLane.BATCH, () -> {
+            try {
+                started.countDown();
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }, 0));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        TransFetcher fetcher = new TransFetcher(Executors.newCachedThreadPool());
+
+        long start = System.currentTimeMillis();
+        Assertions.assertTrue(fetcher.fetch(scheduler, TransLane.INTERACTIVE, SlowTeacherRepository.class, new SlowTeacherRepository(), Collections.singletonList(1L), null).isEmpty());
+        Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+        blocker.countDown();
+        scheduler.shutdown();
+        Assertions.assertTrue(scheduler.awaitTermination(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, SlowTeacherRepository.CALLS.get());
+    }
+
+    @Test
+    void errorFromTimedCallIsNotWrapped() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setTimeoutMillis(5000);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        SlowTeacherRepository.error = new StackOverflowError();
+        TransFetcher fetcher = new TransFetcher(Executors.newCachedThreadPool());
+        Assertions.assertThrows(StackOverflowError.class,
+                () -> fetcher.fetch(SlowTeacherRepository.class, new SlowTeacherRepository(), Collections.singletonList(1L), null));
+    }
+
+    @Test
+    void circuitBreakerFailsFast() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setCircuitBreakerFailureThreshold(2);
+        config.setCircuitBreakerOpenMillis(60000);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        SlowTeacherRepository.fail = true;
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertThrows(RuntimeException.class, () -> transService.trans(new StudentDto(1L)));
+        }
+        StudentDto studentDto = new StudentDto(1L);
+        transService.trans(studentDto);
+        Assertions.assertNull(studentDto.getTeacherName());
+        Assertions.assertEquals(2, SlowTeacherRepository.CALLS.get());
+    }
+
+    @Test
+    void interruptedProbeReleasesCircuitBreaker() throws Exception {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setCircuitBreakerFailureThreshold(1);
+        config.setCircuitBreakerOpenMillis(1);
+        config.setTimeoutMillis(5000);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        TransFetcher fetcher = new TransFetcher(Executors.newCachedThreadPool());
+        SlowTeacherRepository repository = new SlowTeacherRepository();
+        List<Object> ids = Collections.singletonList(1L);
+
+        SlowTeacherRepository.fail = true;
+        Assertions.assertThrows(IllegalStateException.class, () -> fetcher.fetch(SlowTeacherRepository.class, repository, ids, null));
+        SlowTeacherRepository.fail = false;
+        Thread.sleep(5);
+        // 试探请求的调用线程被中断
+        SlowTeacherRepository.sleepMillis = 200;
+        Thread.currentThread().interrupt();
+        Assertions.assertTrue(fetcher.fetch(SlowTeacherRepository.class, repository, ids, null).isEmpty());
+        Assertions.assertTrue(Thread.interrupted());
+        // 试探名额已经归还，下一次调用可以继续试探
+        SlowTeacherRepository.sleepMillis = 0;
+        Assertions.assertEquals(1, fetcher.fetch(SlowTeacherRepository.class, repository, ids, null).size());
+    }
+
+    @Test
+    void subBatchFailureKeepsExceptionType() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setMaxBatchSize(1);
+        config.setBatchConcurrency(2);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+        // 第一组在调用线程中成功，第二组在线程池中失败
+        SlowTeacherRepository.failId = 2L;
+        TransFetcher fetcher = new TransFetcher(Executors.newCachedThreadPool());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> fetcher.fetch(SlowTeacherRepository.class, new SlowTeacherRepository(), Arrays.asList(1L, 2L), null));
+    }
+
+    @Test
+    void adaptiveConcurrencyLimitShrinksWhenLatencyGrows() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setAdaptiveConcurrency(true);
+        config.setInitialConcurrencyLimit(20);
+        TransRepositoryFactory.configure(SlowTeacherRepository.class, config);
+
+        StudentDto studentDto = new StudentDto(1L);
+        transService.trans(studentDto);
+        Assertions.assertEquals("老师1", studentDto.getTeacherName());
+
+        SlowTeacherRepository.sleepMillis = 20;
+        for (int i = 0; i < 5; i++) {
+            transService.trans(new StudentDto(1L));
+        }
+        AdaptiveConcurrencyLimiter limiter = TransRepositoryFactory.getLimiter(SlowTeacherRepository.class).get();
+        Assertions.assertTrue(limiter.getLimit() < 20);
+        Assertions.assertEquals(0, limiter.getInFlight());
+        Assertions.assertEquals(0, limiter.getQueueDepth());
+    }
+
+    @Data
+    public static class StudentDto {
+
+        private Long teacherId;
+
+        @Trans(transKey = "teacherId", transField = "name", repository = SlowTeacherRepository.class)
+        private String teacherName;
+
+        public StudentDto(Long teacherId) {
+            this.teacherId = teacherId;
+        }
+    }
+
+    public static class SlowTeacherRepository implements TransRepository {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        static volatile long sleepMillis;
+
+        static volatile boolean fail;
+
+        static volatile Object failId;
+
+        static volatile Error error;
+
+        @Override
+        public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+            CALLS.incrementAndGet();
+            if (error != null) {
+                throw error;
+            }
+            if (fail || transIdList.contains(failId)) {
+                throw new IllegalStateException("db down");
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return transIdList.stream().collect(Collectors.toMap(Function.identity(), id -> new TeacherDto((Long) id, "老师" + id, 1L)));
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TransFieldSelectorTest {
+
+    @Test
+    void cacheIsBoundedPerClass() {
+        List<TransFieldMeta> fields = TransClassMetaCacheManager.getTransClassMeta(UserDto.class).getTransFieldList();
+        List<TransFieldMeta> teacherName = TransFieldSelector.select(UserDto.class, fields, TransOptions.DEFAULT.include("teacherName"));
+        Assertions.assertEquals(1, teacherName.size());
+        Assertions.assertSame(teacherName, TransFieldSelector.select(UserDto.class, fields, TransOptions.DEFAULT.include("teacherName")));
+
+        // 选择条件来自请求参数时不会无限增长
+        for (int i = 0; i < TransFieldSelector.MAX_SELECTIONS_PER_CLASS * 3; i++) {
+            Assertions.assertTrue(TransFieldSelector.select(UserDto.class, fields, TransOptions.DEFAULT.include("unknown" + i)).isEmpty());
+            Assertions.assertTrue(TransFieldSelector.cachedSelections(UserDto.class) <= TransFieldSelector.MAX_SELECTIONS_PER_CLASS);
+        }
+    }
+
+}
@@ -4,21 +4,38 @@ package com.github.xtranslation.core.service;
 import com.github.xtranslation.core.dto.Result;
 import com.github.xtranslation.core.dto.UserDto;
 import com.github.xtranslation.core.dto.UserDto2;
+import com.github.xtranslation.core.dto.UserDto3;
+import com.github.xtranslation.core.dto.UserDto4;
+import com.github.xtranslation.core.dto.UserDto5;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.repository.LongTeacherTransRepository;
 import com.github.xtranslation.core.repository.SubjectTransRepository;
 import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
 import com.github.xtranslation.core.repository.TransRepositoryFactory;
 import com.github.xtranslation.core.repository.dict.DictLoader;
 import com.github.xtranslation.core.repository.dict.DictTransRepository;
 import com.github.xtranslation.core.resolver.ResultResolver;
 import com.github.xtranslation.core.resolver.TransObjResolverFactory;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 class TransServiceTest {
 
@@ -130,4 +147,278 @@ class TransServiceTest {
         System.out.println("翻译后：" + result3);
     }
 
+    @Test
+    void transStream() {
+        List<UserDto> translated = transService.transStream(IntStream.rangeClosed(1, 10)
+                        .mapToObj(i -> new UserDto((long) i, "用户" + i, (long) (i % 4 + 1), "1", "2")), 3)
+                .collect(Collectors.toList());
+        Assertions.assertEquals(10, translated.size());
+        translated.forEach(userDto -> Assertions.assertEquals("老师" + userDto.getTeacherId(), userDto.getTeacherName()));
+        System.out.println("翻译后：" + translated);
+    }
+
+    @Test
+    void transStreamCloseStopsPulling() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicBoolean sourceClosed = new AtomicBoolean();
+        Stream<UserDto> source = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> new UserDto((long) i, "用户" + i, (long) (i % 4 + 1), "1", "2"))
+                .peek(userDto -> pulled.incrementAndGet())
+                .onClose(() -> sourceClosed.set(true));
+        Stream<UserDto> translated = transService.transStream(source, 3);
+        Iterator<UserDto> iterator = translated.iterator();
+        Assertions.assertEquals("老师2", iterator.next().getTeacherName());
+        translated.close();
+        Assertions.assertTrue(sourceClosed.get());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(3, pulled.get());
+    }
+
+    @Test
+    void transIteratorPrefetch() {
+        List<UserDto> userDtoList = new ArrayList<>();
+        for (long i = 1; i <= 7; i++) {
+            userDtoList.add(new UserDto(i, "用户" + i, i % 4 + 1, "2", "1"));
+        }
+        Iterator<UserDto> iterator = transService.transIterator(userDtoList.iterator(), 2, true);
+        int count = 0;
+        while (iterator.hasNext()) {
+            UserDto userDto = iterator.next();
+            Assertions.assertEquals("老师" + userDto.getTeacherId(), userDto.getTeacherName());
+            Assertions.assertEquals("女", userDto.getSexName());
+            count++;
+        }
+        Assertions.assertEquals(7, count);
+    }
+
+    @Test
+    void transIteratorCloseCancelsPrefetch() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<UserDto> source = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> new UserDto((long) i, "用户" + i, (long) (i % 4 + 1), "1", "2"))
+                .peek(userDto -> pulled.incrementAndGet())
+                .iterator();
+        int pulledAtClose;
+        try (TransIterator<UserDto> iterator = transService.transIterator(source, 3, true)) {
+            Assertions.assertEquals("老师2", iterator.next().getTeacherName());
+            iterator.close();
+            Assertions.assertFalse(iterator.hasNext());
+            pulledAtClose = pulled.get();
+        }
+        // 最多拉取了当前块和正在预取的下一块，关闭后不再拉取
+        Assertions.assertTrue(pulledAtClose <= 6, String.valueOf(pulledAtClose));
+        Assertions.assertEquals(pulledAtClose, pulled.get());
+    }
+
+    @Test
+    void transBatchSplit() {
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setMaxBatchSize(1);
+        config.setBatchConcurrency(2);
+        TransRepositoryFactory.configure(TeacherTransRepository.class, config);
+        try {
+            List<UserDto> userDtoList = new ArrayList<>();
+            for (long i = 1; i <= 8; i++) {
+                userDtoList.add(new UserDto(i, "用户" + i, i % 4 + 1, "1", "1"));
+            }
+            transService.trans(userDtoList);
+            userDtoList.forEach(userDto -> {
+                Assertions.assertEquals("老师" + userDto.getTeacherId(), userDto.getTeacherName());
+                Assertions.assertNotNull(userDto.getSubjectName());
+            });
+        } finally {
+            TransRepositoryFactory.configure(TeacherTransRepository.class, new TransRepositoryConfig());
+        }
+    }
+
+    @Test
+    void transWithLane() {
+        TransService laneService = new TransService();
+        laneService.setLaneWorkers(2);
+        laneService.init();
+        UserDto interactive = new UserDto(1L, "张三", 2L, "1", "2");
+        UserDto batch = new UserDto(2L, "李四", 3L, "2", "1");
+        laneService.trans(interactive);
+        laneService.trans(batch, TransLane.BATCH);
+        Assertions.assertEquals("老师2", interactive.getTeacherName());
+        Assertions.assertEquals("老师3", batch.getTeacherName());
+        Assertions.assertEquals("男", interactive.getSexName());
+        Assertions.assertEquals("女", batch.getSexName());
+    }
+
+    @Test
+    void transListener() {
+        AtomicInteger fetches = new AtomicInteger();
+        AtomicInteger translated = new AtomicInteger();
+        TransListener listener = new TransListener() {
+            @Override
+            public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+                fetches.incrementAndGet();
+            }
+
+            @Override
+            public void onWriteBack(Class<? extends TransRepository> repository, int translatedCount, int untranslated) {
+                translated.addAndGet(translatedCount);
+            }
+        };
+        TransListenerFactory.register(listener);
+        try {
+            transService.trans(new UserDto(1L, "张三", 2L, "1", "2"));
+        } finally {
+            TransListenerFactory.unregister(listener);
+        }
+        // sexDict、jobDict、teacher、subject 各一次仓库调用
+        Assertions.assertEquals(4, fetches.get());
+        // sexName、jobName、teacherName、subjectId、subjectName
+        Assertions.assertEquals(5, translated.get());
+        Assertions.assertFalse(TransListenerFactory.isEnabled());
+    }
+
+    @Test
+    void explainAndProfile() {
+        List<UserDto> userDtoList = new ArrayList<>();
+        userDtoList.add(new UserDto(1L, "张三", 2L, "1", "2"));
+        userDtoList.add(new UserDto(2L, "李四", 1L, "2", "1"));
+        userDtoList.add(new UserDto(3L, "王五", 2L, "1", "3"));
+
+        TransPlan plan = transService.explain(new Result<>(userDtoList, "success"));
+        System.out.println(plan);
+        Assertions.assertEquals(UserDto.class, plan.getRootClass());
+        Assertions.assertEquals(3, plan.getRowCount());
+        Assertions.assertEquals(Collections.singletonList(ResultResolver.class), plan.getResolverSteps());
+        // sex、job、teacherId、subjectId 四个阶段
+        Assertions.assertEquals(4, plan.getStages().size());
+        TransStage teacherStage = plan.getStages().stream().filter(s -> s.getRepository() == TeacherTransRepository.class).findFirst().orElseThrow(IllegalStateException::new);
+        TransStage subjectStage = plan.getStages().stream().filter(s -> s.getRepository() == SubjectTransRepository.class).findFirst().orElseThrow(IllegalStateException::new);
+        Assertions.assertEquals(2, teacherStage.getExpectedIdCount());
+        Assertions.assertEquals(teacherStage.getId(), subjectStage.getDependsOn());
+        Assertions.assertEquals(1, subjectStage.getLevel());
+        Assertions.assertEquals(-1, subjectStage.getExpectedIdCount());
+        // explain 不会执行翻译
+        Assertions.assertNull(userDtoList.get(0).getTeacherName());
+        Assertions.assertTrue(transService.explain("not translatable").isEmpty());
+
+        TransPlan profiled = transService.profile(userDtoList);
+        System.out.println(profiled);
+        Assertions.assertTrue(profiled.isProfiled());
+        Assertions.assertTrue(profiled.getStages().stream().allMatch(TransStage::isExecuted));
+        TransStage profiledSubject = profiled.getStages().stream().filter(s -> s.getRepository() == SubjectTransRepository.class).findFirst().orElseThrow(IllegalStateException::new);
+        Assertions.assertEquals(2, profiledSubject.getActualIdCount());
+        Assertions.assertEquals(3, profiledSubject.getActualTranslatedCount());
+        Assertions.assertEquals("老师2", userDtoList.get(0).getTeacherName());
+    }
+
+
+    @Test
+    void transPrimitiveArrayKeys() {
+        UserDto3 userDto = new UserDto3(1L, 1L, 3L);
+        UserDto3 userDto2 = new UserDto3(2L);
+        transService.trans(Arrays.asList(userDto, userDto2));
+        Assertions.assertEquals(Arrays.asList("老师1", "老师3"), userDto.getTeacherName());
+        Assertions.assertArrayEquals(new String[]{"老师1", "老师3"}, userDto.getTeacherNameArray());
+        Assertions.assertEquals(Collections.emptyList(), userDto2.getTeacherName());
+    }
+
+    @Test
+    void transLongKeyRepository() {
+        LongTeacherTransRepository repository = new LongTeacherTransRepository();
+        TransRepositoryFactory.register(repository);
+        List<UserDto4> users = Arrays.asList(new UserDto4(1, 2L, 3L), new UserDto4(2, 3L, 9L), new UserDto4(null));
+        transService.trans(users);
+        Assertions.assertEquals("老师1", users.get(0).getTeacherName());
+        Assertions.assertEquals("老师2", users.get(1).getTeacherName());
+        Assertions.assertNull(users.get(2).getTeacherName());
+        Assertions.assertEquals(Arrays.asList("老师2", "老师3"), users.get(0).getTeacherNames());
+        Assertions.assertEquals(Collections.singletonList("老师3"), users.get(1).getTeacherNames());
+        Assertions.assertTrue(repository.calls.stream().anyMatch(ids -> Arrays.equals(ids, new long[]{2L, 3L, 9L})));
+
+        // 分批查询时合并后的结果仍然按数值查找
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setMaxBatchSize(1);
+        TransRepositoryFactory.configure(LongTeacherTransRepository.class, config);
+        try {
+            List<UserDto4> batched = Arrays.asList(new UserDto4(1), new UserDto4(4));
+            transService.trans(batched);
+            Assertions.assertEquals("老师1", batched.get(0).getTeacherName());
+            Assertions.assertEquals("老师4", batched.get(1).getTeacherName());
+        } finally {
+            TransRepositoryFactory.configure(LongTeacherTransRepository.class, new TransRepositoryConfig());
+        }
+    }
+
+    @Test
+    void transLongKeyRepositoryWithBoxedIds() {
+        LongTeacherTransRepository repository = new LongTeacherTransRepository();
+        TransRepositoryFactory.register(repository);
+        // 非整数ID交给boxed路径，默认只翻译其中的整数ID
+        Assertions.assertEquals(Collections.singleton(2L), repository.getTransValueMap(Arrays.asList("1", 2L), null).keySet());
+
+        TransRepositoryConfig config = new TransRepositoryConfig();
+        config.setMaxBatchSize(1);
+        TransRepositoryFactory.configure(LongTeacherTransRepository.class, config);
+        try {
+            List<UserDto5> users = Arrays.asList(new UserDto5("1"), new UserDto5(2L), new UserDto5(3));
+            Assertions.assertTrue(transService.trans(users));
+            Assertions.assertNull(users.get(0).getTeacherName());
+            Assertions.assertEquals("老师2", users.get(1).getTeacherName());
+            Assertions.assertEquals("老师3", users.get(2).getTeacherName());
+        } finally {
+            TransRepositoryFactory.configure(LongTeacherTransRepository.class, new TransRepositoryConfig());
+        }
+    }
+
+    @Test
+    void transSelectedFields() {
+        UserDto onlyTeacher = new UserDto(1L, "张三", 2L, "1", "2");
+        TransOptions teacherName = TransOptions.of(TransLane.INTERACTIVE).include("teacherName");
+        Assertions.assertEquals(Collections.singletonList(TeacherTransRepository.class),
+                transService.explain(onlyTeacher, teacherName).getStages().stream().map(TransStage::getRepository).collect(Collectors.toList()));
+        transService.trans(onlyTeacher, teacherName);
+        Assertions.assertEquals("老师2", onlyTeacher.getTeacherName());
+        Assertions.assertNull(onlyTeacher.getSubjectId());
+        Assertions.assertNull(onlyTeacher.getSubjectName());
+        Assertions.assertNull(onlyTeacher.getSexName());
+
+        // 链式字段会保留它依赖的上游字段
+        UserDto subject = new UserDto(1L, "张三", 2L, "1", "2");
+        transService.trans(subject, TransOptions.DEFAULT.include("subjectName", "sexDict"));
+        Assertions.assertEquals(2L, subject.getSubjectId());
+        Assertions.assertNotNull(subject.getSubjectName());
+        Assertions.assertEquals("男", subject.getSexName());
+        Assertions.assertNull(subject.getTeacherName());
+        Assertions.assertNull(subject.getJobName());
+
+        // 排除上游仓库时依赖它的链式字段也不会翻译
+        UserDto noTeacher = new UserDto(1L, "张三", 2L, "1", "2");
+        TransOptions excludeTeacher = TransOptions.DEFAULT.excludeRepositories(TeacherTransRepository.class);
+        Assertions.assertEquals(2, transService.explain(noTeacher, excludeTeacher).getStages().size());
+        transService.trans(noTeacher, excludeTeacher);
+        Assertions.assertNull(noTeacher.getTeacherName());
+        Assertions.assertNull(noTeacher.getSubjectName());
+        Assertions.assertEquals("男", noTeacher.getSexName());
+        Assertions.assertEquals("生活委员", noTeacher.getJobName());
+
+        // 裁剪不影响完整翻译
+        UserDto all = new UserDto(1L, "张三", 2L, "1", "2");
+        transService.trans(all);
+        Assertions.assertNotNull(all.getSubjectName());
+    }
+
+    @Test
+    void lookupWithoutMutation() {
+        UserDto user = new UserDto(1L, "张三", 2L, "1", "2");
+        TransValues values = transService.lookup(Collections.singletonList(user), TransOptions.DEFAULT.include("subjectName", "teacherName"));
+        Assertions.assertEquals("老师2", values.get(user, "teacherName"));
+        // 链式字段以上一级的翻译值作为源值
+        Assertions.assertEquals(2L, values.get(user, "subjectId"));
+        Assertions.assertNotNull(values.get(user, "subjectName"));
+        Assertions.assertNull(values.get(user, "sexName"));
+        // 对象本身保持不变
+        Assertions.assertNull(user.getTeacherName());
+        Assertions.assertNull(user.getSubjectId());
+        Assertions.assertNull(user.getSubjectName());
+
+        Assertions.assertTrue(transService.lookup("not a dto", TransOptions.DEFAULT).isEmpty());
+    }
+
 }
@@ -0,0 +1,151 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.dto.UserDto3;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+class TransTrackerTest {
+
+    private static final Set<Class<?>> TRACKED_REPOSITORIES = new HashSet<>(Arrays.asList(
+            TeacherTransRepository.class, SubjectTransRepository.class, DictTransRepository.class));
+
+    private final List<Class<?>> fetched = Collections.synchronizedList(new ArrayList<>());
+
+    private final TransListener listener = new TransListener() {
+        @Override
+        public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+            // 监听器是全局的，忽略其他测试遗留在线程池中的查询
+            if (TRACKED_REPOSITORIES.contains(repository)) {
+                fetched.add(repository);
+            }
+        }
+    };
+
+    private TransService transService;
+
+    @BeforeAll
+    static void before() {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransRepositoryFactory.register(new DictTransRepository(group -> Collections.singletonMap("1", group + "1")));
+    }
+
+    @BeforeEach
+    void init() {
+        transService = new TransService();
+        transService.init();
+        TransListenerFactory.register(listener);
+    }
+
+    @AfterEach
+    void after() {
+        TransListenerFactory.unregister(listener);
+    }
+
+    @Test
+    void onlyChangedFieldsRefetched() {
+        TransTracker tracker = new TransTracker();
+        TransOptions options = TransOptions.DEFAULT.tracker(tracker);
+        UserDto user = new UserDto(1L, "张三", 2L, "1", "1");
+
+        transService.trans(user, options);
+        Assertions.assertEquals("老师2", user.getTeacherName());
+        Assertions.assertEquals("数学", user.getSubjectName());
+        Assertions.assertEquals(1, tracker.size());
+
+        // 没有任何变化时不查询仓库
+        assertFetched(() -> transService.trans(user, options));
+
+        // 老师变化后链式的科目随之重新翻译，字典字段不受影响
+        user.setTeacherId(3L);
+        assertFetched(() -> transService.trans(user, options), TeacherTransRepository.class, SubjectTransRepository.class);
+        Assertions.assertEquals("老师3", user.getTeacherName());
+        Assertions.assertEquals("英语", user.getSubjectName());
+
+        // 仓库数据失效
+        tracker.invalidate(SubjectTransRepository.class);
+        assertFetched(() -> transService.trans(user, options), SubjectTransRepository.class);
+        tracker.invalidate(TeacherTransRepository.class, 2L);
+        assertFetched(() -> transService.trans(user, options));
+        tracker.invalidate(TeacherTransRepository.class, 3L);
+        // 老师重新查询后科目ID没有变化，科目不再查询
+        assertFetched(() -> transService.trans(user, options), TeacherTransRepository.class);
+
+        tracker.forget(user);
+        assertFetched(() -> transService.trans(user, options), DictTransRepository.class, DictTransRepository.class, SubjectTransRepository.class, TeacherTransRepository.class);
+
+        // 不带跟踪器时仍然翻译所有字段
+        assertFetched(() -> transService.trans(user), DictTransRepository.class, DictTransRepository.class, SubjectTransRepository.class, TeacherTransRepository.class);
+    }
+
+    @Test
+    void stateSharedAcrossPrunedFieldTrees() {
+        TransTracker tracker = new TransTracker();
+        TransOptions options = TransOptions.DEFAULT.tracker(tracker);
+        UserDto user = new UserDto(1L, "张三", 2L, "1", "1");
+
+        // 裁剪掉链式的下一级时，上一级字段使用的是元数据副本
+        transService.trans(user, options.exclude("subjectName"));
+        Assertions.assertEquals("老师2", user.getTeacherName());
+        Assertions.assertNull(user.getSubjectName());
+        // 副本记录的状态对完整字段树同样有效，只查询还没有翻译过的字段
+        assertFetched(() -> transService.trans(user, options), SubjectTransRepository.class);
+        Assertions.assertEquals("数学", user.getSubjectName());
+        assertFetched(() -> transService.trans(user, options.exclude("subjectName")));
+    }
+
+    @Test
+    void keyInvalidationsCollapseWhenBounded() {
+        TransTracker tracker = new TransTracker(1);
+        TransOptions options = TransOptions.DEFAULT.tracker(tracker);
+        UserDto user = new UserDto(1L, "张三", 2L, "1", "1");
+        transService.trans(user, options);
+
+        tracker.invalidate(TeacherTransRepository.class, 8L);
+        assertFetched(() -> transService.trans(user, options));
+        // 超过上限后合并为仓库整体失效
+        tracker.invalidate(TeacherTransRepository.class, 9L);
+        assertFetched(() -> transService.trans(user, options), TeacherTransRepository.class);
+        assertFetched(() -> transService.trans(user, options));
+    }
+
+    @Test
+    void multipleValuesReplaced() {
+        TransOptions options = TransOptions.DEFAULT.tracker(new TransTracker());
+        UserDto3 user = new UserDto3(1L, 1, 2);
+        transService.trans(user, options);
+        Assertions.assertEquals(Arrays.asList("老师1", "老师2"), user.getTeacherName());
+
+        user.setTeacherIds(new long[]{3});
+        transService.trans(user, options);
+        Assertions.assertEquals(Collections.singletonList("老师3"), user.getTeacherName());
+        Assertions.assertArrayEquals(new String[]{"老师3"}, user.getTeacherNameArray());
+    }
+
+    private void assertFetched(Runnable trans, Class<?>... repositories) {
+        fetched.clear();
+        trans.run();
+        List<String> names = new ArrayList<>();
+        for (Class<?> repository : fetched) {
+            names.add(repository.getSimpleName());
+        }
+        Collections.sort(names);
+        List<String> expected = new ArrayList<>();
+        for (Class<?> repository : repositories) {
+            expected.add(repository.getSimpleName());
+        }
+        Collections.sort(expected);
+        Assertions.assertEquals(expected, names);
+    }
+
+}
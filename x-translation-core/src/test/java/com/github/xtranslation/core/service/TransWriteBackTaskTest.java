@@ -0,0 +1,49 @@
+package com.github.xtranslation.core.service;
+
+
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.core.TransModel;
+import com.github.xtranslation.core.core.TransValueIndex;
+import com.github.xtranslation.core.dto.TeacherDto;
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class TransWriteBackTaskTest {
+
+    @Test
+    void forkJoinWriteBackMatchesSequential() {
+        TransFieldMeta teacherName = TransClassMetaCacheManager.getTransClassMeta(UserDto.class).getTransFieldList().stream()
+                .filter(meta -> "teacherName".equals(meta.getField().getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        List<UserDto> users = IntStream.range(0, 20_000)
+                .mapToObj(i -> new UserDto((long) i, "u" + i, (long) (i % 5), "1", "1"))
+                .collect(Collectors.toList());
+        List<TransModel> models = users.stream().map(user -> new TransModel(user, teacherName)).collect(Collectors.toList());
+        Map<Object, Object> valueMap = new HashMap<>();
+        for (long id = 1; id <= 4; id++) {
+            valueMap.put(id, new TeacherDto(id, "老师" + id, id));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int translated = pool.invoke(new TransWriteBackTask(models, TransValueIndex.of(valueMap), 0, models.size(), 64, null, null));
+            Assertions.assertEquals(16_000, translated);
+        } finally {
+            pool.shutdown();
+        }
+        for (UserDto user : users) {
+            Assertions.assertEquals(user.getTeacherId() == 0 ? null : "老师" + user.getTeacherId(), user.getTeacherName());
+        }
+    }
+
+}
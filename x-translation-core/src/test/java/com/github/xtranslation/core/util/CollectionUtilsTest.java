@@ -0,0 +1,40 @@
+package com.github.xtranslation.core.util;
+
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+class CollectionUtilsTest {
+
+    @Test
+    void randomAccessListIsNotCopied() {
+        List<Object> list = new ArrayList<>(Arrays.asList(1L, 2L));
+        Assertions.assertSame(list, CollectionUtils.objToList(list));
+    }
+
+    @Test
+    void otherCollectionsAreCopied() {
+        Assertions.assertEquals(Arrays.asList(1, 2), CollectionUtils.objToList(new LinkedList<>(Arrays.asList(1, 2))));
+        Assertions.assertEquals(Collections.singletonList("a"), CollectionUtils.objToList(new LinkedHashSet<>(Collections.singletonList("a"))));
+        Assertions.assertEquals(Collections.emptyList(), CollectionUtils.objToList(null));
+        Assertions.assertEquals(Collections.singletonList("a"), CollectionUtils.objToList("a"));
+    }
+
+    @Test
+    void arraysAreViewed() {
+        String[] strings = {"a", "b"};
+        List<Object> stringList = CollectionUtils.objToList(strings);
+        strings[1] = "c";
+        Assertions.assertEquals(Arrays.asList("a", "c"), stringList);
+
+        Assertions.assertEquals(Arrays.asList(1L, 2L), CollectionUtils.objToList(new long[]{1L, 2L}));
+        Assertions.assertEquals(Arrays.asList(1, 2), CollectionUtils.objToList(new int[]{1, 2}));
+        Assertions.assertEquals(Arrays.asList((short) 1, (short) 2), CollectionUtils.objToList(new short[]{1, 2}));
+        Assertions.assertEquals(Collections.singletonList('x'), CollectionUtils.objToList(new char[]{'x'}));
+        Assertions.assertTrue(CollectionUtils.objToList(new long[0]).isEmpty());
+        Assertions.assertTrue(CollectionUtils.objToList(new long[]{1L}) instanceof RandomAccess);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> CollectionUtils.objToList(new long[]{1L}).add(2L));
+    }
+}
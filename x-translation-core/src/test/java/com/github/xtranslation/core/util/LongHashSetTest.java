@@ -0,0 +1,50 @@
+package com.github.xtranslation.core.util;
+
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class LongHashSetTest {
+
+    @Test
+    void setKeepsInsertionOrderAndGrows() {
+        LongHashSet set = new LongHashSet(2);
+        long[] values = {5, 0, -3, 5, 1L << 40, 0, 7};
+        for (long value : values) {
+            set.add(value);
+        }
+        Assertions.assertArrayEquals(new long[]{5, 0, -3, 1L << 40, 7}, set.toArray());
+        Assertions.assertTrue(set.contains(0));
+        Assertions.assertFalse(set.contains(6));
+
+        LongHashSet large = new LongHashSet(1);
+        for (long i = 0; i < 10_000; i++) {
+            Assertions.assertTrue(large.add(i * 1024));
+        }
+        Assertions.assertEquals(10_000, large.size());
+        Assertions.assertTrue(large.contains(9_999 * 1024L));
+    }
+
+    @Test
+    void mapLooksUpByNumericValue() {
+        LongObjectMap<String> map = new LongObjectMap<>(1);
+        for (long i = 0; i < 1_000; i++) {
+            map.put(i, "v" + i);
+        }
+        Assertions.assertEquals(1_000, map.size());
+        Assertions.assertEquals("v0", map.get(0L));
+        Assertions.assertEquals("v7", map.get(Integer.valueOf(7)));
+        Assertions.assertEquals("v7", map.get((short) 7));
+        Assertions.assertNull(map.get("7"));
+        Assertions.assertTrue(map.containsKey(999));
+        Assertions.assertFalse(map.containsKey(1_000L));
+
+        Map<Object, String> copy = new HashMap<>(map);
+        Assertions.assertEquals(1_000, copy.size());
+        Assertions.assertEquals("v999", copy.get(999L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> map.put("x", "y"));
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.xtranslation.core.warmup;
+
+
+import com.github.xtranslation.core.dto.UserDto;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import com.github.xtranslation.core.service.TransService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TransWarmUpTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void warmUpWithoutRepositoryCalls() throws Exception {
+        Set<String> dictGroups = Collections.synchronizedSet(new TreeSet<>());
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransRepositoryFactory.register(new DictTransRepository(group -> {
+            dictGroups.add(group);
+            return Collections.emptyMap();
+        }));
+        writeIndex();
+
+        List<Class<?>> fetched = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger synthetic = new AtomicInteger();
+        TransListener listener = new TransListener() {
+            @Override
+            public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+                fetched.add(repository);
+            }
+
+            @Override
+            public void onKeysCollected(Class<? extends TransRepository> repository, int keyCount, int distinctCount) {
+                synthetic.incrementAndGet();
+            }
+
+            @Override
+            public void onWriteBack(Class<? extends TransRepository> repository, int translated, int untranslated) {
+                synthetic.incrementAndGet();
+            }
+        };
+        TransListenerFactory.register(listener);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+            TransService transService = new TransService();
+            transService.init();
+            TransWarmUp warmUp = new TransWarmUp(transService, null);
+            warmUp.setIterations(200);
+            warmUp.setRows(4);
+            Assertions.assertEquals(TransWarmUp.Phase.PENDING, warmUp.getPhase());
+            warmUp.run(classLoader);
+
+            Assertions.assertTrue(warmUp.isCompleted());
+            Assertions.assertFalse(warmUp.isBudgetExceeded());
+            Assertions.assertEquals(100, warmUp.getProgress());
+            // 字典分组全部预先加载，合成翻译不查询任何仓库
+            Assertions.assertEquals(new TreeSet<>(Arrays.asList("jobDict", "sexDict")), dictGroups);
+            Assertions.assertEquals(Arrays.asList(DictTransRepository.class, DictTransRepository.class), fetched);
+            // 合成翻译不通知监听器
+            Assertions.assertEquals(0, synthetic.get());
+        } finally {
+            TransListenerFactory.unregister(listener);
+        }
+    }
+
+    @Test
+    void stopWhenBudgetExceeded() throws Exception {
+        writeIndex();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+            TransService transService = new TransService();
+            transService.init();
+            TransWarmUp warmUp = new TransWarmUp(transService, null);
+            warmUp.setTimeBudgetMillis(200);
+            warmUp.setIterations(Integer.MAX_VALUE);
+            warmUp.run(classLoader);
+            Assertions.assertTrue(warmUp.isCompleted());
+            Assertions.assertTrue(warmUp.isBudgetExceeded());
+        }
+    }
+
+    private void writeIndex() throws Exception {
+        Path index = dir.resolve(TransClassMetaCacheManager.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Collections.singletonList(UserDto.class.getName()), StandardCharsets.UTF_8);
+    }
+
+}
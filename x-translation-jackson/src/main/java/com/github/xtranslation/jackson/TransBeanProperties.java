@@ -0,0 +1,165 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.core.service.TransService;
+import com.github.xtranslation.core.service.TransValues;
+import com.github.xtranslation.core.util.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TransBeanProperties: 同一个类的所有翻译属性写出器共享的查询逻辑
+ * <p>
+ * 写出一个对象的第一个翻译属性时，把它所在的列表(或数组)中同类型的对象一起交给
+ * {@link TransService#lookup(Object, TransOptions)} 批量查询，查询范围只包含当前视图中会被输出的翻译属性。
+ * 查询结果保存在本次序列化调用的属性(per-call attribute)中，同一次调用中的其他对象直接复用。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransBeanProperties {
+
+    /**
+     * 本次序列化调用的属性键，值为已经查询过的对象  key: 对象(同一性比较)  value: 翻译值
+     */
+    private static final Object ATTRIBUTE_KEY = TransBeanProperties.class;
+
+    /**
+     * 没有激活视图时的缓存键
+     */
+    private static final Class<?> NO_VIEW = Void.class;
+
+    private static final TransValues EMPTY = new TransValues();
+
+    private final TransService transService;
+
+    private final TransOptions options;
+
+    /**
+     * 翻译属性  key: 目标字段名  value: 属性所属的视图(为null表示没有声明视图)
+     */
+    private final Map<String, Class<?>[]> fieldViews = new LinkedHashMap<>();
+
+    /**
+     * 按视图裁剪后的翻译选项，没有需要输出的翻译属性时为null  key: 视图
+     */
+    private final Map<Class<?>, Object> viewOptions = new ConcurrentHashMap<>();
+
+    TransBeanProperties(TransService transService, TransOptions options) {
+        this.transService = transService;
+        this.options = options;
+    }
+
+    void add(String fieldName, Class<?>[] views) {
+        fieldViews.put(fieldName, views);
+    }
+
+    /**
+     * 获取对象的翻译值，对象还没有被查询过时连同它所在列表中的同类对象一起查询
+     *
+     * @param bean     正在写出的对象
+     * @param gen      JsonGenerator
+     * @param provider SerializerProvider
+     * @return 翻译值
+     */
+    @SuppressWarnings("unchecked")
+    TransValues lookup(Object bean, JsonGenerator gen, SerializerProvider provider) {
+        Map<Object, TransValues> looked = (Map<Object, TransValues>) provider.getAttribute(ATTRIBUTE_KEY);
+        if (looked == null) {
+            looked = new IdentityHashMap<>();
+            provider.setAttribute(ATTRIBUTE_KEY, looked);
+        }
+        TransValues values = looked.get(bean);
+        if (values != null) {
+            return values;
+        }
+        Object viewOption = viewOptions.computeIfAbsent(provider.getActiveView() == null ? NO_VIEW : provider.getActiveView(),
+                view -> options(view == NO_VIEW ? null : view, provider.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION)));
+        List<Object> rows = batchRows(bean, gen);
+        values = viewOption instanceof TransOptions ? transService.lookup(rows, (TransOptions) viewOption) : EMPTY;
+        for (Object row : rows) {
+            looked.put(row, values);
+        }
+        return values;
+    }
+
+    /**
+     * 按视图裁剪翻译选项
+     *
+     * @param activeView       当前视图，为null表示没有视图
+     * @param defaultInclusion 没有声明视图的属性是否输出
+     * @return 翻译选项，没有需要输出的翻译属性时返回 {@link Boolean#FALSE}
+     */
+    private Object options(Class<?> activeView, boolean defaultInclusion) {
+        List<String> visible = new ArrayList<>(fieldViews.size());
+        fieldViews.forEach((fieldName, views) -> {
+            if (isVisible(views, activeView, defaultInclusion)) {
+                visible.add(fieldName);
+            }
+        });
+        if (visible.isEmpty()) {
+            return Boolean.FALSE;
+        }
+        // 使用方已经指定了include时以使用方为准
+        return options.getInclude().isEmpty() ? options.include(visible.toArray(new String[0])) : options;
+    }
+
+    /**
+     * 属性在当前视图中是否会被输出(和Jackson按视图过滤属性的规则一致)
+     */
+    private static boolean isVisible(Class<?>[] views, Class<?> activeView, boolean defaultInclusion) {
+        if (activeView == null) {
+            return true;
+        }
+        if (views == null) {
+            return defaultInclusion;
+        }
+        for (Class<?> view : views) {
+            if (view.isAssignableFrom(activeView)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取和对象一起查询的对象：对象直接位于列表或数组中时为其中所有同类型的对象，否则只有对象本身
+     *
+     * @param bean 正在写出的对象
+     * @param gen  JsonGenerator
+     * @return 需要一起查询的对象
+     */
+    private static List<Object> batchRows(Object bean, JsonGenerator gen) {
+        JsonStreamContext context = gen.getOutputContext();
+        JsonStreamContext parent = context == null ? null : context.getParent();
+        Object container = parent != null && parent.inArray() ? parent.getCurrentValue() : null;
+        if (container instanceof Collection || container instanceof Object[]) {
+            List<Object> rows = new ArrayList<>();
+            boolean contains = false;
+            for (Object row : CollectionUtils.objToList(container)) {
+                if (row != null && row.getClass() == bean.getClass()) {
+                    rows.add(row);
+                    contains |= row == bean;
+                }
+            }
+            if (contains) {
+                return rows;
+            }
+        }
+        return Collections.singletonList(bean);
+    }
+
+}
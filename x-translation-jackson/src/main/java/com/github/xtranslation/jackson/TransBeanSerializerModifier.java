@@ -0,0 +1,90 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.github.xtranslation.core.core.TransClassMeta;
+import com.github.xtranslation.core.core.TransFieldMeta;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.core.service.TransService;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TransBeanSerializerModifier: 把翻译目标字段的属性写出器替换为 {@link TransPropertyWriter}
+ * <p>
+ * 目标字段直接复用 core 解析好的 {@link TransClassMeta}(包括链式翻译的子字段)，
+ * 没有翻译注解的类保持Jackson默认的序列化方式。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransBeanSerializerModifier extends BeanSerializerModifier {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TransService transService;
+
+    private final TransOptions options;
+
+    TransBeanSerializerModifier(TransService transService, TransOptions options) {
+        this.transService = transService;
+        this.options = options;
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        Class<?> beanClass = beanDesc.getBeanClass();
+        if (beanClass.getName().startsWith("java.")) {
+            return beanProperties;
+        }
+        TransClassMeta classMeta = TransClassMetaCacheManager.getTransClassMeta(beanClass);
+        if (!classMeta.needTrans()) {
+            return beanProperties;
+        }
+        Set<String> targetFields = new HashSet<>();
+        collectTargetFields(classMeta.getTransFieldList(), targetFields);
+
+        // 输出的属性名可能被重命名，按Java字段名匹配目标字段
+        Map<String, String> internalNames = new HashMap<>();
+        for (BeanPropertyDefinition property : beanDesc.findProperties()) {
+            internalNames.put(property.getName(), property.getInternalName());
+        }
+        TransBeanProperties transProperties = new TransBeanProperties(transService, options);
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            String fieldName = internalNames.getOrDefault(writer.getName(), writer.getName());
+            if (targetFields.contains(fieldName)) {
+                transProperties.add(fieldName, writer.getViews());
+                beanProperties.set(i, new TransPropertyWriter(writer, transProperties, fieldName));
+            }
+        }
+        return beanProperties;
+    }
+
+    /**
+     * 收集字段树中所有的目标字段名
+     *
+     * @param transFieldMetaList 翻译字段
+     * @param targetFields       目标字段名
+     */
+    private static void collectTargetFields(List<TransFieldMeta> transFieldMetaList, Set<String> targetFields) {
+        if (transFieldMetaList == null) {
+            return;
+        }
+        for (TransFieldMeta transFieldMeta : transFieldMetaList) {
+            targetFields.add(transFieldMeta.getField().getName());
+            collectTargetFields(transFieldMeta.getChildren(), targetFields);
+        }
+    }
+
+}
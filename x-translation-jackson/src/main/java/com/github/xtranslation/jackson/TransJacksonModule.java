@@ -0,0 +1,48 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.core.service.TransService;
+
+/**
+ * TransJacksonModule: 序列化时翻译的Jackson模块
+ * <p>
+ * 注册后，带有翻译注解的目标字段在序列化时才输出翻译值，不再需要先调用 trans 修改对象：
+ * 1. 只查询真正会被输出的字段：被 {@code @JsonIgnore} 忽略的字段、不在当前 {@code @JsonView} 中的字段不会触发仓库查询
+ * 2. 同一个列表(或数组)中的对象在写出第一个对象时一起批量查询，每个翻译仓库仍然只调用一次
+ * 3. 翻译值直接写入输出，对象本身保持不变，也省去了一次反射写字段
+ * </p>
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new TransJacksonModule(transService));
+ * String json = mapper.writerWithView(Views.Summary.class).writeValueAsString(users);
+ * </pre>
+ * <p>
+ * 注意：{@code @JsonFilter} 等运行时过滤无法提前预知，被过滤掉的字段仍然可能被查询。
+ * 对象中已经有值的目标字段(例如已经调用过 trans)，在查不到翻译值时按原值输出。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param transService 翻译服务
+     */
+    public TransJacksonModule(TransService transService) {
+        this(transService, TransOptions.DEFAULT);
+    }
+
+    /**
+     * @param transService 翻译服务
+     * @param options      翻译选项(调度通道、排除的字段或仓库等)，设置了 include 时不再按输出的字段裁剪
+     */
+    public TransJacksonModule(TransService transService, TransOptions options) {
+        super(TransJacksonModule.class.getSimpleName());
+        setSerializerModifier(new TransBeanSerializerModifier(transService, options));
+    }
+
+}
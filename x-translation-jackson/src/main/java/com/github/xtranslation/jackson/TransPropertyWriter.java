@@ -0,0 +1,72 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+/**
+ * TransPropertyWriter: 翻译目标字段的属性写出器
+ * <p>
+ * 输出翻译值而不是字段值；查不到翻译值时按字段原值输出。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+final class TransPropertyWriter extends BeanPropertyWriter {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient TransBeanProperties transProperties;
+
+    /**
+     * 目标字段名
+     */
+    private final String fieldName;
+
+    TransPropertyWriter(BeanPropertyWriter base, TransBeanProperties transProperties, String fieldName) {
+        super(base);
+        this.transProperties = transProperties;
+        this.fieldName = fieldName;
+    }
+
+    private TransPropertyWriter(TransPropertyWriter base, PropertyName name) {
+        super(base, name);
+        this.transProperties = base.transProperties;
+        this.fieldName = base.fieldName;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(PropertyName newName) {
+        return new TransPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+        Object value = transProperties.lookup(bean, gen, prov).get(bean, fieldName);
+        if (value == null) {
+            super.serializeAsField(bean, gen, prov);
+            return;
+        }
+        JsonSerializer<Object> serializer = _serializer;
+        if (serializer == null) {
+            serializer = prov.findValueSerializer(value.getClass(), this);
+        }
+        // 和默认写出器一样处理 @JsonInclude
+        if (_suppressableValue != null) {
+            if (MARKER_FOR_EMPTY == _suppressableValue ? serializer.isEmpty(prov, value) : _suppressableValue.equals(value)) {
+                return;
+            }
+        }
+        gen.writeFieldName(_name);
+        if (_typeSerializer == null) {
+            serializer.serialize(value, gen, prov);
+        } else {
+            serializer.serializeWithType(value, gen, prov, _typeSerializer);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.core.repository.dict.DictTransRepository;
+import com.github.xtranslation.core.service.TransService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TransJacksonModuleTest {
+
+    final Map<Class<? extends TransRepository>, AtomicInteger> fetches = new ConcurrentHashMap<>();
+
+    final TransListener listener = new TransListener() {
+        @Override
+        public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+            fetches.computeIfAbsent(repository, k -> new AtomicInteger()).incrementAndGet();
+        }
+    };
+
+    ObjectMapper mapper;
+
+    @BeforeAll
+    public static void before() {
+        TransRepositoryFactory.register(new TeacherTransRepository());
+        TransRepositoryFactory.register(new SubjectTransRepository());
+        TransRepositoryFactory.register(new DictTransRepository(dictGroup -> {
+            Map<String, String> dict = new HashMap<>();
+            dict.put("1", "男");
+            dict.put("2", "女");
+            return dict;
+        }));
+    }
+
+    @BeforeEach
+    public void init() {
+        TransService transService = new TransService();
+        transService.init();
+        mapper = JsonMapper.builder()
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .addModule(new TransJacksonModule(transService))
+                .build();
+        TransListenerFactory.register(listener);
+    }
+
+    @AfterEach
+    public void destroy() {
+        TransListenerFactory.unregister(listener);
+    }
+
+    @Test
+    void serializeTranslatedValues() throws Exception {
+        List<ViewUserDto> users = Arrays.asList(new ViewUserDto(1L, 1L, "1"), new ViewUserDto(2L, 2L, "2"), new ViewUserDto(3L, 2L, "1"));
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(users));
+
+        Assertions.assertEquals("老师1", json.get(0).get("teacher").asText());
+        Assertions.assertEquals("男", json.get(0).get("sexName").asText());
+        Assertions.assertEquals("女", json.get(1).get("sexName").asText());
+        // 被忽略的上游字段不输出，但依赖它的链式字段仍然翻译
+        Assertions.assertFalse(json.get(0).has("subjectId"));
+        Assertions.assertTrue(json.get(2).hasNonNull("subjectName"));
+        // 整个列表对每个仓库只查询一次
+        Assertions.assertEquals(1, fetches.get(TeacherTransRepository.class).get());
+        Assertions.assertEquals(1, fetches.get(SubjectTransRepository.class).get());
+        Assertions.assertEquals(1, fetches.get(DictTransRepository.class).get());
+        // 对象本身保持不变
+        Assertions.assertNull(users.get(0).getTeacherName());
+        Assertions.assertNull(users.get(0).getSubjectId());
+    }
+
+    @Test
+    void serializeOnlyViewFields() throws Exception {
+        ViewUserDto[] users = {new ViewUserDto(1L, 1L, "1"), new ViewUserDto(2L, 3L, "2")};
+        JsonNode json = mapper.readTree(mapper.writerWithView(ViewUserDto.Summary.class).writeValueAsString(users));
+
+        Assertions.assertEquals("老师3", json.get(1).get("teacher").asText());
+        Assertions.assertFalse(json.get(0).has("sexName"));
+        Assertions.assertFalse(json.get(0).has("subjectName"));
+        // 不在视图中的字段不会查询
+        Assertions.assertEquals(1, fetches.get(TeacherTransRepository.class).get());
+        Assertions.assertNull(fetches.get(SubjectTransRepository.class));
+        Assertions.assertNull(fetches.get(DictTransRepository.class));
+    }
+
+    @Test
+    void serializeSingleBean() throws Exception {
+        ViewUserDto user = new ViewUserDto(1L, 4L, "2");
+        user.setSexName("原值");
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(user));
+
+        Assertions.assertEquals("老师4", json.get("teacher").asText());
+        Assertions.assertEquals("女", json.get("sexName").asText());
+
+        // 查不到翻译值时按字段原值输出
+        ViewUserDto unknown = new ViewUserDto(2L, 9L, "9");
+        unknown.setSexName("原值");
+        json = mapper.readTree(mapper.writeValueAsString(unknown));
+        Assertions.assertFalse(json.hasNonNull("teacher"));
+        Assertions.assertEquals("原值", json.get("sexName").asText());
+    }
+
+}
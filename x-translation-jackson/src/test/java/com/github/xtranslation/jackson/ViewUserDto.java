@@ -0,0 +1,47 @@
+package com.github.xtranslation.jackson;
+
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.github.xtranslation.core.annotation.DictTrans;
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.repository.SubjectTransRepository;
+import com.github.xtranslation.core.repository.TeacherTransRepository;
+import lombok.Data;
+
+@Data
+public class ViewUserDto {
+
+    public interface Summary {
+    }
+
+    @JsonView(Summary.class)
+    private Long id;
+
+    private String sex;
+
+    @DictTrans(trans = "sex", group = "sexDict")
+    private String sexName;
+
+    @JsonView(Summary.class)
+    private Long teacherId;
+
+    @JsonView(Summary.class)
+    @JsonProperty("teacher")
+    @Trans(transKey = "teacherId", transField = "name", repository = TeacherTransRepository.class)
+    private String teacherName;
+
+    @JsonIgnore
+    @Trans(transKey = "teacherId", transField = "subjectId", repository = TeacherTransRepository.class)
+    private Long subjectId;
+
+    @Trans(transKey = "subjectId", repository = SubjectTransRepository.class, transField = "name")
+    private String subjectName;
+
+    public ViewUserDto(Long id, Long teacherId, String sex) {
+        this.id = id;
+        this.teacherId = teacherId;
+        this.sex = sex;
+    }
+}
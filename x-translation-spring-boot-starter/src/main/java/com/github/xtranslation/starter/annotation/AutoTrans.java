@@ -1,5 +1,8 @@
 package com.github.xtranslation.starter.annotation;
 
+import com.github.xtranslation.core.service.TransLane;
+import com.github.xtranslation.core.service.TransOptions;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -15,4 +18,21 @@ import java.lang.annotation.Target;
 @Target({ElementType.METHOD})
 public @interface AutoTrans {
 
+    /**
+     * @return 仓库查询使用的调度通道(导出、跑批等批量方法建议使用 {@link TransLane#BATCH})
+     */
+    TransLane lane() default TransLane.INTERACTIVE;
+
+    /**
+     * @return 只翻译这些字段(目标字段名、字典分组或翻译仓库类名)，为空表示翻译所有字段
+     * @see TransOptions
+     */
+    String[] include() default {};
+
+    /**
+     * @return 不翻译这些字段(目标字段名、字典分组或翻译仓库类名)，依赖它们的链式字段也不会翻译
+     * @see TransOptions
+     */
+    String[] exclude() default {};
+
 }
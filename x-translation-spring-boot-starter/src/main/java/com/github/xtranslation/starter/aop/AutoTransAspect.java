@@ -1,12 +1,18 @@
 package com.github.xtranslation.starter.aop;
 
 
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.starter.annotation.AutoTrans;
 import com.github.xtranslation.starter.util.TransUtil;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 
 /**
  * AutoTransAspect: 自动事务切面
+ * <p>
+ * 默认每个 {@code @AutoTrans} 方法返回后都翻译一次返回值；开启边界模式后改为按 {@link TransBoundary} 只在边界处翻译一次。
+ * </p>
  *
  * @author zhangxiaoxiang
  * @since 2025/7/27
@@ -15,18 +21,63 @@ import org.aspectj.lang.annotation.Aspect;
 public class AutoTransAspect {
 
     /**
-     * 后置返回通知方法，在目标方法成功执行并返回结果后调用
+     * 是否开启边界模式
+     */
+    private final boolean boundary;
+
+    public AutoTransAspect() {
+        this(false);
+    }
+
+    public AutoTransAspect(boolean boundary) {
+        this.boundary = boundary;
+    }
+
+    /**
+     * 环绕通知方法，在目标方法成功执行并返回结果后翻译返回值
      * 该方法通过AOP切面拦截带有@AutoTrans注解的方法，对返回结果进行自动转换处理
      *
-     * @param resultWrapper 目标方法的返回结果对象 例如包含UserVO的响应包装类
-     * @return 处理后的返回结果对象
+     * @param joinPoint 目标方法
+     * @param autoTrans 目标方法上的@AutoTrans注解
+     * @return 处理后的返回结果对象 例如包含UserVO的响应包装类
+     * @throws Throwable 目标方法抛出的异常
      */
-    @AfterReturning(pointcut = "@annotation(com.github.xtranslation.starter.annotation.AutoTrans)", returning = "resultWrapper")
-    public Object afterReturning(Object resultWrapper) {
-        // 对方法返回结果进行转换处理
-        TransUtil.trans(resultWrapper);
-        return resultWrapper;
+    @Around(value = "@annotation(autoTrans)", argNames = "joinPoint,autoTrans")
+    public Object around(ProceedingJoinPoint joinPoint, AutoTrans autoTrans) throws Throwable {
+        if (!boundary) {
+            Object resultWrapper = joinPoint.proceed();
+            // 对方法返回结果进行转换处理(按注解声明的通道调度，只翻译注解选择的字段)
+            TransUtil.trans(resultWrapper, options(autoTrans));
+            return resultWrapper;
+        }
+
+        // 边界模式：不在任何边界内时，由当前方法打开调用树边界
+        TransBoundary current = TransBoundary.current();
+        TransBoundary transBoundary = current != null ? current : TransBoundary.open();
+        boolean outermost = transBoundary.enter();
+        try {
+            Object resultWrapper = joinPoint.proceed();
+            // 只有调用树的最外层翻译；响应边界由ResponseBodyAdvice统一翻译
+            if (outermost && !transBoundary.isResponse()) {
+                transBoundary.trans(resultWrapper, options(autoTrans));
+            }
+            return resultWrapper;
+        } finally {
+            transBoundary.exit();
+            if (current == null) {
+                transBoundary.close();
+            }
+        }
     }
 
+    /**
+     * 根据注解生成翻译选项
+     *
+     * @param autoTrans {@code @AutoTrans}注解
+     * @return 翻译选项
+     */
+    public static TransOptions options(AutoTrans autoTrans) {
+        return TransOptions.of(autoTrans.lane()).include(autoTrans.include()).exclude(autoTrans.exclude());
+    }
 
 }
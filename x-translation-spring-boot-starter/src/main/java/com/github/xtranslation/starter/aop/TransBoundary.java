@@ -0,0 +1,135 @@
+package com.github.xtranslation.starter.aop;
+
+
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.starter.util.TransUtil;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * TransBoundary: 翻译边界
+ * <p>
+ * 边界模式(x-translation.boundary.enabled=true)下，一棵 {@code @AutoTrans} 调用树只在边界处翻译一次：
+ * 1. 没有Web请求时，最外层的 {@code @AutoTrans} 方法返回后翻译，内层方法不再翻译
+ * 2. Web请求的处理方法本身标注了 {@code @AutoTrans} 时，请求内所有 {@code @AutoTrans} 方法都不翻译，
+ * 由 ResponseBodyAdvice 在写出响应体之前翻译一次最终返回值
+ * </p>
+ * <p>
+ * 边界内已经翻译过的对象按引用记录，同一个对象再次经过边界(例如多次返回同一个缓存对象)时直接跳过。
+ * 边界绑定在当前线程上，非线程安全。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public final class TransBoundary implements AutoCloseable {
+
+    private static final ThreadLocal<TransBoundary> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 已经翻译过的对象(按引用比较)
+     */
+    private final Set<Object> translated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * 响应边界的翻译选项，不为null时表示翻译推迟到写出响应体之前
+     */
+    private final TransOptions responseOptions;
+
+    /**
+     * 当前所在的 {@code @AutoTrans} 方法嵌套深度
+     */
+    private int depth;
+
+    private TransBoundary(TransOptions responseOptions) {
+        this.responseOptions = responseOptions;
+    }
+
+    /**
+     * 在当前线程打开一个调用树边界(最外层的 {@code @AutoTrans} 方法负责翻译)
+     *
+     * @return 边界
+     */
+    public static TransBoundary open() {
+        return open(null);
+    }
+
+    /**
+     * 在当前线程打开一个响应边界(翻译推迟到写出响应体之前)
+     *
+     * @param responseOptions 翻译响应体使用的选项(调度通道、字段选择)
+     * @return 边界
+     */
+    public static TransBoundary openResponse(TransOptions responseOptions) {
+        return open(responseOptions);
+    }
+
+    private static TransBoundary open(TransOptions responseOptions) {
+        TransBoundary boundary = new TransBoundary(responseOptions);
+        CURRENT.set(boundary);
+        return boundary;
+    }
+
+    /**
+     * 当前线程所在的边界
+     *
+     * @return 边界，不在边界内时返回null
+     */
+    public static TransBoundary current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 是否为响应边界
+     *
+     * @return 翻译是否推迟到写出响应体之前
+     */
+    public boolean isResponse() {
+        return responseOptions != null;
+    }
+
+    public TransOptions getResponseOptions() {
+        return responseOptions;
+    }
+
+    /**
+     * 进入一个 {@code @AutoTrans} 方法
+     *
+     * @return 是否为最外层的方法
+     */
+    boolean enter() {
+        return depth++ == 0;
+    }
+
+    /**
+     * 退出一个 {@code @AutoTrans} 方法
+     */
+    void exit() {
+        depth--;
+    }
+
+    /**
+     * 翻译对象，边界内已经翻译过的对象直接跳过
+     *
+     * @param obj     需要翻译的对象
+     * @param options 翻译选项
+     */
+    public void trans(Object obj, TransOptions options) {
+        if (obj != null && translated.add(obj)) {
+            TransUtil.trans(obj, options);
+        }
+    }
+
+    /**
+     * 关闭边界
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.github.xtranslation.starter.cfg;
 
+import com.github.xtranslation.core.hotkey.TransHotKeys;
+import com.github.xtranslation.core.manager.TransClassMetaCacheManager;
+import com.github.xtranslation.core.record.TransRecorder;
 import com.github.xtranslation.core.repository.dict.DictLoader;
 import com.github.xtranslation.core.repository.dict.DictTransRepository;
 import com.github.xtranslation.core.service.TransService;
@@ -7,10 +10,19 @@ import com.github.xtranslation.starter.aop.AutoTransAspect;
 import com.github.xtranslation.starter.register.EasyTransRegister;
 import com.github.xtranslation.starter.util.TransUtil;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * EasyTransAutoConfiguration: 自动配置类
@@ -23,6 +35,7 @@ import org.springframework.context.annotation.Configuration;
  * @since 2025/7/27
  */
 @Configuration
+@EnableConfigurationProperties(EasyTransProperties.class)
 @Slf4j
 public class EasyTransAutoConfiguration {
 
@@ -34,18 +47,91 @@ public class EasyTransAutoConfiguration {
      * 如加载翻译规则、初始化缓存等。
      * </p>
      *
+     * @param properties x-translation 配置属性
+     * @param recorder   线上调用采样录制器(配置了录制文件时存在)
+     * @param hotKeys    热点ID统计(配置了快照文件时存在)
      * @return 初始化完成的 TransService 实例
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
-    public TransService transService() {
+    public TransService transService(EasyTransProperties properties, ObjectProvider<TransRecorder> recorder, ObjectProvider<TransHotKeys> hotKeys) {
         TransService transService = new TransService();
+        transService.setLaneWorkers(properties.getLane().getWorkers());
+        transService.setLaneWeights(properties.getLane().getWeights());
+        transService.setParallelThreshold(properties.getParallelThreshold());
+        transService.setParallelism(properties.getParallelism());
+        transService.setRecorder(recorder.getIfAvailable());
+        transService.setHotKeys(hotKeys.getIfAvailable());
         // 初始化翻译服务，加载必要的配置和数据
         transService.init();
+        if (properties.isPreloadMetadata()) {
+            int preloaded = TransClassMetaCacheManager.preload(ClassUtils.getDefaultClassLoader());
+            log.info("x-translation 预先解析了{}个翻译类的元数据", preloaded);
+        }
         log.warn("================== x-translation 启动啦3 ======================");
         return transService;
     }
 
+    /**
+     * 创建线上调用采样录制器 Bean
+     * <p>
+     * 只有配置了 x-translation.recorder.file 时才会创建，按采样率把调用形态(不含字段值，ID只保留哈希)写入该文件，
+     * 应用关闭时写完剩余记录并关闭文件。
+     * </p>
+     *
+     * @param properties x-translation 配置属性
+     * @return 录制器实例
+     * @throws IOException 录制文件无法打开
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "x-translation.recorder", name = "file")
+    public TransRecorder transRecorder(EasyTransProperties properties) throws IOException {
+        EasyTransProperties.Recorder recorder = properties.getRecorder();
+        log.info("x-translation 调用录制已开启, 文件: {}, 采样率: {}", recorder.getFile(), recorder.getSampleRate());
+        return new TransRecorder(Paths.get(recorder.getFile()), recorder.getSampleRate());
+    }
+
+    /**
+     * 创建热点ID统计 Bean
+     * <p>
+     * 只有配置了 x-translation.hot-keys.file 时才会创建，按仓库统计最常查询的ID，应用关闭时写入快照文件。
+     * </p>
+     *
+     * @param properties x-translation 配置属性
+     * @return 热点ID统计实例
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "x-translation.hot-keys", name = "file")
+    public TransHotKeys transHotKeys(EasyTransProperties properties) {
+        EasyTransProperties.HotKeys hotKeys = properties.getHotKeys();
+        log.info("x-translation 热点ID统计已开启, 快照文件: {}, 采样率: {}", hotKeys.getFile(), hotKeys.getSampleRate());
+        return new TransHotKeys(Paths.get(hotKeys.getFile()), hotKeys.getCapacity(), hotKeys.getSampleRate());
+    }
+
+    /**
+     * 启动时按热点ID快照预热翻译仓库
+     * <p>
+     * 在 ApplicationRunner 中执行，Spring Boot 在所有 Runner 执行完之后才把应用标记为可以接收流量(readiness)，
+     * 因此新实例的第一批请求面对的是已经预热的仓库。开启了启动预热(x-translation.warm-up.enabled)时由预热统一加载。
+     * </p>
+     *
+     * @param transService 翻译服务
+     * @param hotKeys      热点ID统计
+     * @param properties   x-translation 配置属性
+     * @return ApplicationRunner
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "x-translation.hot-keys", name = "file")
+    public ApplicationRunner transHotKeysPreloader(TransService transService, TransHotKeys hotKeys, EasyTransProperties properties) {
+        return args -> {
+            if (!properties.getWarmUp().isEnabled()) {
+                hotKeys.preload(transService);
+            }
+        };
+    }
+
     /**
      * 创建字典翻译仓库 Bean
      * <p>
@@ -68,11 +154,13 @@ public class EasyTransAutoConfiguration {
      * 负责注册和管理各种翻译处理器，维护翻译规则的注册表，是框架扩展性的基础组件。
      * </p>
      *
+     * @param properties  x-translation 配置属性
+     * @param environment 环境(按 Bean 名称绑定仓库配置)
      * @return 翻译注册器实例
      */
     @Bean
-    public EasyTransRegister easyTransRegister() {
-        return new EasyTransRegister();
+    public EasyTransRegister easyTransRegister(EasyTransProperties properties, Environment environment) {
+        return new EasyTransRegister(properties, environment);
     }
 
     /**
@@ -82,12 +170,13 @@ public class EasyTransAutoConfiguration {
      * 对方法返回值自动进行翻译处理。
      * </p>
      *
+     * @param properties x-translation 配置属性
      * @return 自动翻译切面实例
      */
     @Bean
-    public AutoTransAspect autoTransAspect() {
+    public AutoTransAspect autoTransAspect(EasyTransProperties properties) {
         // 切面类和普通类一样可以注入,只上告诉有@Aspect注解,水喷淋额外处理切面即可,本质还是一个普通类,正常注入即可
-        return new AutoTransAspect();
+        return new AutoTransAspect(properties.getBoundary().isEnabled());
     }
 
     /**
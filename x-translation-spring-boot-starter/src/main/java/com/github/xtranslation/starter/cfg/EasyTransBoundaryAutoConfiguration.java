@@ -0,0 +1,56 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.github.xtranslation.starter.web.TransBoundaryInterceptor;
+import com.github.xtranslation.starter.web.TransBoundaryResponseAdvice;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * EasyTransBoundaryAutoConfiguration: 响应边界翻译自动配置类
+ * <p>
+ * Spring MVC 应用中配置 x-translation.boundary.enabled=true 时生效，注册 {@link TransBoundaryInterceptor}
+ * 和 {@link TransBoundaryResponseAdvice}，标注了 {@code @AutoTrans} 的处理方法在写出响应体之前只翻译一次。
+ * 非 Web 场景的调用树边界由 AutoTransAspect 自己处理，不依赖该配置类。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(ResponseBodyAdvice.class)
+@ConditionalOnProperty(prefix = "x-translation.boundary", name = "enabled", havingValue = "true")
+public class EasyTransBoundaryAutoConfiguration {
+
+    /**
+     * 响应边界的翻译
+     *
+     * @return ResponseBodyAdvice
+     */
+    @Bean
+    public TransBoundaryResponseAdvice transBoundaryResponseAdvice() {
+        return new TransBoundaryResponseAdvice();
+    }
+
+    /**
+     * 注册响应边界拦截器
+     *
+     * @return WebMvcConfigurer
+     */
+    @Bean
+    public WebMvcConfigurer transBoundaryWebMvcConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new TransBoundaryInterceptor());
+            }
+        };
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.xtranslation.core.service.TransService;
+import com.github.xtranslation.jackson.TransJacksonModule;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * EasyTransJacksonAutoConfiguration: 序列化时翻译自动配置类
+ * <p>
+ * 引入 x-translation-jackson 并配置 x-translation.jackson.enabled=true 时生效，注册 {@link TransJacksonModule}，
+ * Spring Boot 会把它加入自动配置的 ObjectMapper。开启后返回值不需要再标注 {@code @AutoTrans}，
+ * 否则同一个对象会先被修改再在序列化时重复查询。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Configuration
+@ConditionalOnClass({ObjectMapper.class, TransJacksonModule.class})
+@ConditionalOnProperty(prefix = "x-translation.jackson", name = "enabled", havingValue = "true")
+@AutoConfigureAfter(EasyTransAutoConfiguration.class)
+public class EasyTransJacksonAutoConfiguration {
+
+    /**
+     * 序列化时翻译的Jackson模块
+     *
+     * @param transService 翻译服务
+     * @return TransJacksonModule
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(TransService.class)
+    public TransJacksonModule transJacksonModule(TransService transService) {
+        return new TransJacksonModule(transService);
+    }
+
+}
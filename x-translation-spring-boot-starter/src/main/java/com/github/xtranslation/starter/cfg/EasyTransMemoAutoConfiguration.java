@@ -0,0 +1,45 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.github.xtranslation.starter.web.TransMemoFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * EasyTransMemoAutoConfiguration: 请求级翻译备忘录自动配置类
+ * <p>
+ * Servlet Web 应用中配置 x-translation.memo.enabled=true 时生效，注册 {@link TransMemoFilter}，
+ * 让同一个请求内多次 {@code @AutoTrans} 调用共享已经查到的翻译数据。
+ * 非 Web 场景可以直接使用 {@link com.github.xtranslation.core.memo.TransMemo#open()} 打开作用域。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(OncePerRequestFilter.class)
+@ConditionalOnProperty(prefix = "x-translation.memo", name = "enabled", havingValue = "true")
+public class EasyTransMemoAutoConfiguration {
+
+    /**
+     * 注册请求级翻译备忘录过滤器
+     *
+     * @param properties x-translation 配置属性
+     * @return 过滤器注册 Bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "transMemoFilter")
+    public FilterRegistrationBean<TransMemoFilter> transMemoFilter(EasyTransProperties properties) {
+        FilterRegistrationBean<TransMemoFilter> registration = new FilterRegistrationBean<>(new TransMemoFilter());
+        registration.setName("transMemoFilter");
+        registration.setOrder(properties.getMemo().getFilterOrder());
+        return registration;
+    }
+
+}
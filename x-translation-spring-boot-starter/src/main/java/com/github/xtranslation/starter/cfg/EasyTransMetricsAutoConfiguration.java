@@ -0,0 +1,60 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.github.xtranslation.core.service.TransService;
+import com.github.xtranslation.starter.metrics.MicrometerTransListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * EasyTransMetricsAutoConfiguration: 翻译指标自动配置类
+ * <p>
+ * 当 classpath 中存在 Micrometer 且容器中有 MeterRegistry 时生效(可通过 x-translation.metrics.enabled=false 关闭)：
+ * 注册 {@link MicrometerTransListener}(由 EasyTransRegister 自动注册到 TransListenerFactory)，
+ * 并绑定翻译线程池的队列长度、活跃线程数等指标。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "x-translation.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureAfter(value = EasyTransAutoConfiguration.class,
+        name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class EasyTransMetricsAutoConfiguration {
+
+    /**
+     * 创建 Micrometer 翻译监听器 Bean
+     *
+     * @param registry 指标注册中心
+     * @return Micrometer 翻译监听器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MicrometerTransListener micrometerTransListener(MeterRegistry registry) {
+        return new MicrometerTransListener(registry);
+    }
+
+    /**
+     * 绑定翻译线程池指标(队列长度、活跃线程数等)
+     *
+     * @param transService 翻译服务
+     * @return 线程池指标绑定器
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "transExecutorMetrics")
+    public MeterBinder transExecutorMetrics(TransService transService) {
+        return registry -> new ExecutorServiceMetrics(transService.getExecutor(), "x-translation", Tags.empty()).bindTo(registry);
+    }
+
+}
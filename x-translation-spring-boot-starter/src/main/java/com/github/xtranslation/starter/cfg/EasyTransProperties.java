@@ -0,0 +1,238 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.service.TransLane;
+import com.github.xtranslation.core.service.TransService;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.core.Ordered;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EasyTransProperties: x-translation 配置属性
+ * <p>
+ * 配置前缀为 {@code x-translation}，例如为 Bean 名称为 teacherTransRepository 的翻译仓库设置批次大小：
+ * </p>
+ * <pre>
+ * x-translation.repositories.teacherTransRepository.max-batch-size=500
+ * x-translation.repositories.teacherTransRepository.batch-concurrency=4
+ * x-translation.lane.workers=16
+ * x-translation.lane.weights.batch=1
+ * x-translation.recorder.file=/data/logs/trans.rec
+ * x-translation.recorder.sample-rate=0.01
+ * x-translation.hot-keys.file=/data/trans/hot-keys.snapshot
+ * x-translation.parallel-threshold=5000
+ * x-translation.parallelism=8
+ * x-translation.preload-metadata=true
+ * x-translation.memo.enabled=true
+ * x-translation.boundary.enabled=true
+ * x-translation.jackson.enabled=true
+ * x-translation.warm-up.enabled=true
+ * </pre>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "x-translation")
+public class EasyTransProperties {
+
+    /**
+     * 翻译仓库配置  key: 翻译仓库的 Bean 名称  value: 翻译仓库配置(只有显式设置的属性覆盖仓库自身的声明)
+     */
+    private Map<String, TransRepositoryConfig> repositories = new LinkedHashMap<>();
+
+    /**
+     * 并行阈值：行数达到该值时提取翻译键和回写翻译值两个阶段并行执行，小于等于0表示始终顺序执行
+     */
+    private int parallelThreshold = TransService.DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * 并行执行使用的fork-join线程数，小于等于0表示使用JVM共享的公共线程池，大于0时使用独立的线程池
+     */
+    private int parallelism;
+
+    /**
+     * 启动时是否按编译期生成的翻译类索引预先解析元数据(首个请求不再有解析开销)
+     */
+    private boolean preloadMetadata = true;
+
+    /**
+     * 优先级通道调度配置
+     */
+    private Lane lane = new Lane();
+
+    /**
+     * 线上调用采样录制配置
+     */
+    private Recorder recorder = new Recorder();
+
+    /**
+     * 热点ID快照配置
+     */
+    private HotKeys hotKeys = new HotKeys();
+
+    /**
+     * 请求级翻译备忘录配置
+     */
+    private Memo memo = new Memo();
+
+    /**
+     * 边界翻译配置
+     */
+    private Boundary boundary = new Boundary();
+
+    /**
+     * 序列化时翻译配置
+     */
+    private Jackson jackson = new Jackson();
+
+    /**
+     * 启动预热配置
+     */
+    private WarmUp warmUp = new WarmUp();
+
+    /**
+     * Lane: 优先级通道调度配置
+     */
+    @Getter
+    @Setter
+    public static class Lane {
+
+        /**
+         * 通道调度的工作线程数，小于等于0表示不按通道调度
+         */
+        private int workers;
+
+        /**
+         * 各通道的调度权重，未设置的通道使用默认权重
+         */
+        private Map<TransLane, Integer> weights = new EnumMap<>(TransLane.class);
+
+    }
+
+    /**
+     * Recorder: 线上调用采样录制配置
+     */
+    @Getter
+    @Setter
+    public static class Recorder {
+
+        /**
+         * 录制文件路径，为空表示不录制
+         */
+        private String file;
+
+        /**
+         * 采样率 [0, 1]
+         */
+        private double sampleRate = 0.01;
+
+    }
+
+    /**
+     * HotKeys: 热点ID快照配置
+     */
+    @Getter
+    @Setter
+    public static class HotKeys {
+
+        /**
+         * 快照文件路径，为空表示不统计。应用优雅停机时写入，启动时据此预热翻译仓库
+         */
+        private String file;
+
+        /**
+         * 每个翻译仓库(+注解)最多跟踪的热点ID个数
+         */
+        private int capacity = 1000;
+
+        /**
+         * 统计的采样率 [0, 1]，按翻译调用采样
+         */
+        private double sampleRate = 0.1;
+
+    }
+
+    /**
+     * Memo: 请求级翻译备忘录配置
+     */
+    @Getter
+    @Setter
+    public static class Memo {
+
+        /**
+         * 是否为每个Servlet请求打开一个翻译备忘录作用域(同一请求内已经查到的翻译数据不再重复查询仓库)
+         */
+        private boolean enabled;
+
+        /**
+         * 备忘录过滤器的顺序，需要早于会调用翻译的过滤器
+         */
+        private int filterOrder = Ordered.HIGHEST_PRECEDENCE + 100;
+
+    }
+
+    /**
+     * Boundary: 边界翻译配置
+     */
+    @Getter
+    @Setter
+    public static class Boundary {
+
+        /**
+         * 是否开启边界模式：嵌套的 {@code @AutoTrans} 调用只在最外层(或写出响应体之前)翻译一次
+         */
+        private boolean enabled;
+
+    }
+
+    /**
+     * Jackson: 序列化时翻译配置
+     */
+    @Getter
+    @Setter
+    public static class Jackson {
+
+        /**
+         * 是否注册 TransJacksonModule：翻译目标字段在序列化时才输出翻译值，只查询真正会被输出的字段，不修改对象
+         */
+        private boolean enabled;
+
+    }
+
+    /**
+     * WarmUp: 启动预热配置
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /**
+         * 是否在启动时预热(解析元数据、加载字典、按热点ID快照预热仓库、合成翻译)，预热结束前就绪检查为 OUT_OF_SERVICE
+         */
+        private boolean enabled;
+
+        /**
+         * 预热的时间预算(毫秒)，超出后跳过剩余步骤，小于等于0表示不限制
+         */
+        private long timeBudgetMillis = 30000;
+
+        /**
+         * 合成翻译的迭代次数
+         */
+        private int iterations = 10000;
+
+        /**
+         * 每次迭代每个翻译类的合成对象个数
+         */
+        private int rows = 32;
+
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.github.xtranslation.starter.cfg;
+
+import com.github.xtranslation.core.hotkey.TransHotKeys;
+import com.github.xtranslation.core.service.TransService;
+import com.github.xtranslation.core.warmup.TransWarmUp;
+import com.github.xtranslation.starter.health.TransWarmUpHealthIndicator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * EasyTransWarmUpAutoConfiguration: 启动预热自动配置类
+ * <p>
+ * 配置 x-translation.warm-up.enabled=true 时生效：在 ApplicationRunner 中执行 {@link TransWarmUp}
+ * (Spring Boot 在所有 Runner 执行完之后才把应用标记为可以接收流量)，
+ * classpath 中存在 Actuator 时同时注册 transWarmUp 健康检查，预热结束前报告 OUT_OF_SERVICE 以及当前阶段和进度。
+ * 开启预热后热点ID快照由预热统一加载，不再单独执行。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "x-translation.warm-up", name = "enabled", havingValue = "true")
+@AutoConfigureAfter(EasyTransAutoConfiguration.class)
+public class EasyTransWarmUpAutoConfiguration {
+
+    /**
+     * 创建启动预热 Bean
+     *
+     * @param transService 翻译服务
+     * @param hotKeys      热点ID统计(配置了快照文件时存在)
+     * @param properties   x-translation 配置属性
+     * @return 启动预热实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TransWarmUp transWarmUp(TransService transService, ObjectProvider<TransHotKeys> hotKeys, EasyTransProperties properties) {
+        EasyTransProperties.WarmUp config = properties.getWarmUp();
+        TransWarmUp warmUp = new TransWarmUp(transService, hotKeys.getIfAvailable());
+        warmUp.setTimeBudgetMillis(config.getTimeBudgetMillis());
+        warmUp.setIterations(config.getIterations());
+        warmUp.setRows(config.getRows());
+        return warmUp;
+    }
+
+    /**
+     * 启动时执行预热
+     *
+     * @param warmUp 启动预热
+     * @return ApplicationRunner
+     */
+    @Bean
+    public ApplicationRunner transWarmUpRunner(TransWarmUp warmUp) {
+        return args -> warmUp.run(ClassUtils.getDefaultClassLoader());
+    }
+
+    /**
+     * Actuator 健康检查(classpath 中存在 Actuator 时生效)
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.health.HealthIndicator")
+    static class HealthConfiguration {
+
+        /**
+         * 创建预热健康检查 Bean，名称为 transWarmUp
+         *
+         * @param warmUp 启动预热
+         * @return 预热健康检查
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public TransWarmUpHealthIndicator transWarmUpHealthIndicator(TransWarmUp warmUp) {
+            return new TransWarmUpHealthIndicator(warmUp);
+        }
+
+    }
+
+}
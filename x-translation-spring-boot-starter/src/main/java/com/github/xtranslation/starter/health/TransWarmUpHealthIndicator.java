@@ -0,0 +1,39 @@
+package com.github.xtranslation.starter.health;
+
+import com.github.xtranslation.core.warmup.TransWarmUp;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * TransWarmUpHealthIndicator: 启动预热健康检查
+ * <p>
+ * 预热结束前返回 OUT_OF_SERVICE(带当前阶段和进度)，结束后返回 UP(超出时间预算提前结束同样视为就绪)。
+ * 加入就绪检查组后，预热完成之前实例不会接收流量：
+ * </p>
+ * <pre>
+ * management.endpoint.health.group.readiness.include=readinessState,transWarmUp
+ * </pre>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransWarmUpHealthIndicator extends AbstractHealthIndicator {
+
+    private final TransWarmUp warmUp;
+
+    public TransWarmUpHealthIndicator(TransWarmUp warmUp) {
+        super("x-translation 预热状态检查失败");
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        if (warmUp.isCompleted()) {
+            builder.up().withDetail("budgetExceeded", warmUp.isBudgetExceeded());
+        } else {
+            builder.outOfService();
+        }
+        builder.withDetail("phase", warmUp.getPhase()).withDetail("progress", warmUp.getProgress());
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.github.xtranslation.starter.metrics;
+
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.repository.AdaptiveConcurrencyLimiter;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import io.micrometer.core.instrument.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * MicrometerTransListener: 基于 Micrometer 的翻译指标监听器
+ * <p>
+ * 把 {@link TransListener} 的事件转换为 Micrometer 指标：
+ * 1. x.translation.repository.fetch：每个翻译仓库 getTransValueMap 的耗时(Timer，按 outcome 区分成功/失败)
+ * 2. x.translation.repository.ids：每次仓库调用携带的ID个数(DistributionSummary)
+ * 3. x.translation.repository.distinct.ratio：去重后ID个数 / 去重前ID个数(DistributionSummary)
+ * 4. x.translation.fields：已翻译/未翻译的字段个数(Counter，按 result 区分)
+ * 5. x.translation.meta.cache：类元数据缓存命中/解析次数(Counter，按 result 区分)，以及解析耗时 x.translation.meta.parse
+ * 6. x.translation.repository.concurrency.*：开启自适应并发限制的仓库的当前限制、在途调用数和排队数(Gauge)
+ * </p>
+ * <p>
+ * 每个翻译仓库的指标对象在第一次出现时创建并缓存，后续事件只做一次 Map 查找。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class MicrometerTransListener implements TransListener {
+
+    private final MeterRegistry registry;
+
+    private final Map<Class<? extends TransRepository>, RepositoryMeters> repositoryMeters = new ConcurrentHashMap<>();
+
+    private final Counter metaCacheHit;
+
+    private final Counter metaCacheParse;
+
+    private final Timer metaParse;
+
+    public MicrometerTransListener(MeterRegistry registry) {
+        this.registry = registry;
+        this.metaCacheHit = Counter.builder("x.translation.meta.cache").tag("result", "hit").description("类元数据缓存命中次数").register(registry);
+        this.metaCacheParse = Counter.builder("x.translation.meta.cache").tag("result", "parse").description("类元数据解析次数").register(registry);
+        this.metaParse = Timer.builder("x.translation.meta.parse").description("类元数据解析耗时").register(registry);
+    }
+
+    @Override
+    public void onFetch(Class<? extends TransRepository> repository, int idCount, long nanos, Throwable error) {
+        RepositoryMeters meters = meters(repository);
+        (error == null ? meters.fetchSuccess : meters.fetchError).record(nanos, TimeUnit.NANOSECONDS);
+        meters.ids.record(idCount);
+    }
+
+    @Override
+    public void onKeysCollected(Class<? extends TransRepository> repository, int keyCount, int distinctCount) {
+        if (keyCount > 0) {
+            meters(repository).distinctRatio.record((double) distinctCount / keyCount);
+        }
+    }
+
+    @Override
+    public void onWriteBack(Class<? extends TransRepository> repository, int translated, int untranslated) {
+        RepositoryMeters meters = meters(repository);
+        meters.translated.increment(translated);
+        meters.untranslated.increment(untranslated);
+    }
+
+    @Override
+    public void onMetaCacheHit(Class<?> clazz) {
+        metaCacheHit.increment();
+    }
+
+    @Override
+    public void onMetaParsed(Class<?> clazz, long nanos) {
+        metaCacheParse.increment();
+        metaParse.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private RepositoryMeters meters(Class<? extends TransRepository> repository) {
+        RepositoryMeters meters = repositoryMeters.get(repository);
+        return meters != null ? meters : repositoryMeters.computeIfAbsent(repository, RepositoryMeters::new);
+    }
+
+    /**
+     * RepositoryMeters: 单个翻译仓库的指标对象
+     */
+    private final class RepositoryMeters {
+
+        final Timer fetchSuccess;
+
+        final Timer fetchError;
+
+        final DistributionSummary ids;
+
+        final DistributionSummary distinctRatio;
+
+        final Counter translated;
+
+        final Counter untranslated;
+
+        RepositoryMeters(Class<? extends TransRepository> repository) {
+            Tags tags = Tags.of("repository", repository.getName());
+            this.fetchSuccess = Timer.builder("x.translation.repository.fetch").tags(tags).tag("outcome", "success")
+                    .description("翻译仓库getTransValueMap耗时").register(registry);
+            this.fetchError = Timer.builder("x.translation.repository.fetch").tags(tags).tag("outcome", "error")
+                    .description("翻译仓库getTransValueMap耗时").register(registry);
+            this.ids = DistributionSummary.builder("x.translation.repository.ids").tags(tags)
+                    .description("每次仓库调用携带的ID个数").register(registry);
+            this.distinctRatio = DistributionSummary.builder("x.translation.repository.distinct.ratio").tags(tags)
+                    .description("去重后ID个数/去重前ID个数").register(registry);
+            this.translated = Counter.builder("x.translation.fields").tags(tags).tag("result", "translated")
+                    .description("翻译字段个数").register(registry);
+            this.untranslated = Counter.builder("x.translation.fields").tags(tags).tag("result", "untranslated")
+                    .description("翻译字段个数").register(registry);
+            limiterGauge("x.translation.repository.concurrency.limit", repository, tags, AdaptiveConcurrencyLimiter::getLimit);
+            limiterGauge("x.translation.repository.concurrency.inflight", repository, tags, AdaptiveConcurrencyLimiter::getInFlight);
+            limiterGauge("x.translation.repository.concurrency.queue", repository, tags, AdaptiveConcurrencyLimiter::getQueueDepth);
+        }
+
+        private void limiterGauge(String name, Class<? extends TransRepository> repository, Tags tags, ToIntFunction<AdaptiveConcurrencyLimiter> value) {
+            Gauge.builder(name, repository, c -> TransRepositoryFactory.getLimiter(c).map(value::applyAsInt).getOrElse(0))
+                    .tags(tags).register(registry);
+        }
+    }
+
+}
@@ -1,12 +1,21 @@
 package com.github.xtranslation.starter.register;
 
+import com.github.xtranslation.core.listener.TransListener;
+import com.github.xtranslation.core.listener.TransListenerFactory;
 import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
 import com.github.xtranslation.core.repository.TransRepositoryFactory;
 import com.github.xtranslation.core.resolver.TransObjResolver;
 import com.github.xtranslation.core.resolver.TransObjResolverFactory;
+import com.github.xtranslation.starter.cfg.EasyTransProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.core.env.Environment;
 
 import static io.vavr.API.*;
 import static io.vavr.Predicates.instanceOf;
@@ -22,6 +31,7 @@ import static io.vavr.Predicates.instanceOf;
  * 自动注册机制：
  * 1. TransRepository 实现类：自动注册到 TransRepositoryFactory 工厂中，作为数据源提供者
  * 2. TransObjResolver 实现类：自动注册到 TransObjResolverFactory 工厂中，作为对象解析器
+ * 3. TransListener 实现类：自动注册到 TransListenerFactory 工厂中，作为翻译过程监听器
  * </p>
  *
  * @author zhangxiaoxiang
@@ -30,6 +40,20 @@ import static io.vavr.Predicates.instanceOf;
 @Slf4j
 public class EasyTransRegister implements BeanPostProcessor {
 
+    /**
+     * 仓库配置的属性前缀
+     */
+    private static final String REPOSITORIES_PREFIX = "x-translation.repositories.";
+
+    private final EasyTransProperties properties;
+
+    private final Environment environment;
+
+    public EasyTransRegister(EasyTransProperties properties, Environment environment) {
+        this.properties = properties;
+        this.environment = environment;
+    }
+
     /**
      * Bean 初始化后处理方法
      * <p>
@@ -47,12 +71,20 @@ public class EasyTransRegister implements BeanPostProcessor {
      * @throws BeansException 如果处理过程中发生错误
      */
     @Override
+    @SuppressWarnings("unchecked")
     public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
         // 检查是否为 TransRepository 实现类
         Match(bean).of(
                 Case($(instanceOf(TransRepository.class)), repo -> {
-                    // 注册到 TransRepositoryFactory 工厂中
-                    TransRepositoryFactory.register( repo);
+                    // 注册到 TransRepositoryFactory 工厂中(仓库被AOP代理时按目标class注册，和注解中引用的class一致)
+                    Class<? extends TransRepository> repository = (Class<? extends TransRepository>) AopUtils.getTargetClass(repo);
+                    TransRepositoryFactory.register(repository, repo);
+                    // 配置文件中按 Bean 名称声明的仓库配置：只把显式设置的属性覆盖到仓库自身的声明上
+                    if (properties.getRepositories().containsKey(beanName)) {
+                        TransRepositoryConfig config = TransRepositoryConfig.of(repo);
+                        Binder.get(environment).bind(ConfigurationPropertyName.adapt(REPOSITORIES_PREFIX + beanName, '.'), Bindable.ofInstance(config));
+                        TransRepositoryFactory.configure(repository, config);
+                    }
                     log.info("TransRepository: {} 数据仓库已注册", beanName);
                     return repo;
                 }),
@@ -62,6 +94,12 @@ public class EasyTransRegister implements BeanPostProcessor {
                     log.info("TransObjResolver: {} 包装器已注册", beanName);
                     return resolver;
                 }),
+                Case($(instanceOf(TransListener.class)), listener -> {
+                    // 注册到 TransListenerFactory 工厂中
+                    TransListenerFactory.register(listener);
+                    log.info("TransListener: {} 监听器已注册", beanName);
+                    return listener;
+                }),
                 // 默认情况，返回未修改的 Bean 实例
                 Case($(), b -> b)
         );
@@ -1,5 +1,7 @@
 package com.github.xtranslation.starter.util;
 
+import com.github.xtranslation.core.service.TransLane;
+import com.github.xtranslation.core.service.TransOptions;
 import com.github.xtranslation.core.service.TransService;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
@@ -46,6 +48,26 @@ public class TransUtil implements ApplicationContextAware {
         TransServiceHolder.get().trans(obj);
     }
 
+    /**
+     * 在指定的优先级通道中翻译
+     *
+     * @param obj  需要翻译的对象
+     * @param lane 调度通道
+     */
+    public static void trans(Object obj, TransLane lane) {
+        TransServiceHolder.get().trans(obj, lane);
+    }
+
+    /**
+     * 按选项翻译(调度通道、只翻译部分字段等)
+     *
+     * @param obj     需要翻译的对象
+     * @param options 翻译选项
+     */
+    public static void trans(Object obj, TransOptions options) {
+        TransServiceHolder.get().trans(obj, options);
+    }
+
     /**
      * 设置Spring应用程序上下文（依赖注入适配的体现）
      * <p>
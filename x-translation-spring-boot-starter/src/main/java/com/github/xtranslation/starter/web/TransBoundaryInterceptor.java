@@ -0,0 +1,63 @@
+package com.github.xtranslation.starter.web;
+
+
+import com.github.xtranslation.starter.annotation.AutoTrans;
+import com.github.xtranslation.starter.aop.AutoTransAspect;
+import com.github.xtranslation.starter.aop.TransBoundary;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * TransBoundaryInterceptor: 响应边界拦截器
+ * <p>
+ * 处理方法标注了 {@code @AutoTrans} 并且直接写出响应体(@ResponseBody/@RestController)时，在调用处理方法之前打开响应边界
+ * ({@link TransBoundary#openResponse})，请求内的 {@code @AutoTrans} 方法都不再翻译，由 {@link TransBoundaryResponseAdvice}
+ * 在写出响应体之前翻译一次，请求完成(或开始异步处理)后关闭边界。返回视图的处理方法仍然按调用树边界翻译。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransBoundaryInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            AutoTrans autoTrans = handlerMethod.getMethodAnnotation(AutoTrans.class);
+            if (autoTrans != null && writesResponseBody(handlerMethod)) {
+                TransBoundary.openResponse(AutoTransAspect.options(autoTrans));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        close();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 异步处理结束后的分派会再次经过preHandle，在那时重新打开边界
+        close();
+    }
+
+    private static boolean writesResponseBody(HandlerMethod handlerMethod) {
+        return handlerMethod.hasMethodAnnotation(ResponseBody.class)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class);
+    }
+
+    private static void close() {
+        TransBoundary boundary = TransBoundary.current();
+        if (boundary != null) {
+            boundary.close();
+        }
+    }
+
+}
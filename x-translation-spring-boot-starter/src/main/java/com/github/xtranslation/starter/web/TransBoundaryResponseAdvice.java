@@ -0,0 +1,41 @@
+package com.github.xtranslation.starter.web;
+
+
+import com.github.xtranslation.starter.aop.TransBoundary;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * TransBoundaryResponseAdvice: 响应边界的翻译
+ * <p>
+ * 在响应边界内(处理方法标注了 {@code @AutoTrans})，写出响应体之前翻译一次最终返回值，
+ * ResponseEntity 等包装已经由 Spring 拆开，这里拿到的是真正的响应体。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+@ControllerAdvice
+public class TransBoundaryResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        TransBoundary boundary = TransBoundary.current();
+        if (boundary != null && boundary.isResponse()) {
+            boundary.trans(body, boundary.getResponseOptions());
+        }
+        return body;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.github.xtranslation.starter.web;
+
+
+import com.github.xtranslation.core.memo.TransMemo;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * TransMemoFilter: 请求级翻译备忘录过滤器
+ * <p>
+ * 为每个请求打开一个 {@link TransMemo} 作用域，请求处理线程中发起的翻译共享该请求内已经查到的翻译数据，
+ * 请求结束时作用域关闭、数据丢弃。异步请求的异步分派不经过该过滤器，异步线程中的翻译不使用备忘录。
+ * </p>
+ *
+ * @author zhangxiaoxiang
+ * @since 2025/7/27
+ */
+public class TransMemoFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try (TransMemo ignored = TransMemo.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+}
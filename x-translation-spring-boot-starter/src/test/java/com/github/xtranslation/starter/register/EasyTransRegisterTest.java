@@ -0,0 +1,89 @@
+package com.github.xtranslation.starter.register;
+
+
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.repository.TransRepositoryConfig;
+import com.github.xtranslation.core.repository.TransRepositoryFactory;
+import com.github.xtranslation.starter.cfg.EasyTransAutoConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class EasyTransRegisterTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(EasyTransAutoConfiguration.class))
+            .withUserConfiguration(RepositoryConfiguration.class);
+
+    @Test
+    void propertiesOverrideOnlyExplicitSettings() {
+        runner.withPropertyValues("x-translation.repositories.declaredTransRepository.timeout-millis=300").run(context -> {
+            TransRepositoryConfig config = TransRepositoryFactory.getConfig(DeclaredTransRepository.class, context.getBean(DeclaredTransRepository.class));
+            Assertions.assertEquals(300, config.getTimeoutMillis());
+            // 仓库自身声明的批次配置仍然生效
+            Assertions.assertEquals(500, config.getMaxBatchSize());
+            Assertions.assertEquals(4, config.getBatchConcurrency());
+        });
+    }
+
+    @Test
+    void proxiedRepositoryIsRegisteredByTargetClass() {
+        runner.withPropertyValues("x-translation.repositories.proxiedTransRepository.max-batch-size=50").run(context -> {
+            TransRepository repository = TransRepositoryFactory.getTransRepository(ProxiedTransRepository.class);
+            Assertions.assertSame(context.getBean("proxiedTransRepository"), repository);
+            Assertions.assertEquals(50, TransRepositoryFactory.getConfig(ProxiedTransRepository.class, repository).getMaxBatchSize());
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class RepositoryConfiguration {
+
+        @Bean
+        public DeclaredTransRepository declaredTransRepository() {
+            return new DeclaredTransRepository();
+        }
+
+        @Bean
+        public TransRepository proxiedTransRepository() {
+            ProxyFactory proxyFactory = new ProxyFactory(new ProxiedTransRepository());
+            proxyFactory.setProxyTargetClass(true);
+            return (TransRepository) proxyFactory.getProxy();
+        }
+    }
+
+    static class DeclaredTransRepository implements TransRepository {
+
+        @Override
+        public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 500;
+        }
+
+        @Override
+        public int getBatchConcurrency() {
+            return 4;
+        }
+    }
+
+    public static class ProxiedTransRepository implements TransRepository {
+
+        @Override
+        public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+            return Collections.emptyMap();
+        }
+    }
+
+}
@@ -0,0 +1,248 @@
+package com.github.xtranslation.starter.web;
+
+
+import com.github.xtranslation.core.annotation.Trans;
+import com.github.xtranslation.core.repository.TransRepository;
+import com.github.xtranslation.core.service.TransOptions;
+import com.github.xtranslation.starter.annotation.AutoTrans;
+import com.github.xtranslation.starter.aop.TransBoundary;
+import com.github.xtranslation.starter.cfg.EasyTransAutoConfiguration;
+import com.github.xtranslation.starter.cfg.EasyTransBoundaryAutoConfiguration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 边界模式下 AutoTransAspect、TransBoundaryInterceptor 和 TransBoundaryResponseAdvice 的协作
+ */
+class TransBoundaryTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+                    WebMvcAutoConfiguration.class, EasyTransAutoConfiguration.class, EasyTransBoundaryAutoConfiguration.class))
+            .withUserConfiguration(BoundaryConfiguration.class)
+            .withPropertyValues("x-translation.boundary.enabled=true");
+
+    @Test
+    void callTreeTranslatesOnceAtOutermostMethod() {
+        runner.run(context -> {
+            UserTransRepository repository = context.getBean(UserTransRepository.class);
+            OuterService outerService = context.getBean(OuterService.class);
+
+            OrderDto order = outerService.find(1L);
+            Assertions.assertEquals("用户1", order.getUserName());
+            // 内层 @AutoTrans 方法返回时没有翻译
+            Assertions.assertNull(outerService.innerUserName);
+            Assertions.assertEquals(1, repository.calls.size());
+            Assertions.assertNull(TransBoundary.current());
+        });
+    }
+
+    @Test
+    void boundarySkipsObjectsAlreadyTranslated() {
+        runner.run(context -> {
+            UserTransRepository repository = context.getBean(UserTransRepository.class);
+            // 方法内已经在边界中翻译过的对象，最外层返回时按引用跳过
+            OrderDto order = context.getBean(OuterService.class).findTranslated(2L);
+            Assertions.assertEquals("用户2", order.getUserName());
+            Assertions.assertEquals(1, repository.calls.size());
+        });
+    }
+
+    @Test
+    void copiesOfSuppressedInnerResultsStayUntranslated() {
+        runner.run(context -> {
+            OrderDto copy = context.getBean(OuterService.class).copy(3L);
+            // 复制的是内层方法返回时(尚未翻译)的值，边界只翻译最终返回值中的翻译字段
+            Assertions.assertNull(copy.getRemark());
+            Assertions.assertEquals("用户3", copy.getUserName());
+        });
+    }
+
+    @Test
+    void responseBodyTranslatedOnceBeforeWrite() {
+        runner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            UserTransRepository repository = context.getBean(UserTransRepository.class);
+            OrderController controller = context.getBean(OrderController.class);
+
+            mockMvc.perform(get("/order")).andExpect(jsonPath("$.userName").value("用户1"));
+            // 处理方法和其中调用的 @AutoTrans 方法都没有翻译，响应体只翻译了一次
+            Assertions.assertNull(controller.userNameInHandler);
+            Assertions.assertNull(context.getBean(OuterService.class).innerUserName);
+            Assertions.assertEquals(Collections.singletonList(Collections.singletonList(1L)), repository.calls);
+            Assertions.assertNull(TransBoundary.current());
+        });
+    }
+
+    @Test
+    void boundaryReopenedAfterAsyncDispatch() {
+        runner.run(context -> {
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            UserTransRepository repository = context.getBean(UserTransRepository.class);
+
+            MvcResult result = mockMvc.perform(get("/order/async")).andExpect(request().asyncStarted()).andReturn();
+            // 开始异步处理后边界已经关闭，不会泄漏到请求线程的下一次使用
+            Assertions.assertNull(TransBoundary.current());
+            Assertions.assertNull(((OrderDto) result.getAsyncResult()).getUserName());
+            // 异步结果分派时重新打开响应边界，在写出响应体之前翻译
+            mockMvc.perform(asyncDispatch(result)).andExpect(jsonPath("$.userName").value("用户4"));
+            Assertions.assertEquals(1, repository.calls.size());
+            Assertions.assertNull(TransBoundary.current());
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class BoundaryConfiguration {
+
+        @Bean
+        public UserTransRepository userTransRepository() {
+            return new UserTransRepository();
+        }
+
+        @Bean
+        public InnerService innerService() {
+            return new InnerService();
+        }
+
+        @Bean
+        public OuterService outerService(InnerService innerService) {
+            return new OuterService(innerService);
+        }
+
+        @Bean
+        public OrderController orderController(OuterService outerService) {
+            return new OrderController(outerService);
+        }
+    }
+
+    public static class InnerService {
+
+        @AutoTrans
+        public OrderDto find(long userId) {
+            return new OrderDto(userId, null, null);
+        }
+    }
+
+    public static class OuterService {
+
+        private final InnerService innerService;
+
+        volatile String innerUserName = "not called";
+
+        OuterService(InnerService innerService) {
+            this.innerService = innerService;
+        }
+
+        @AutoTrans
+        public OrderDto find(long userId) {
+            OrderDto order = innerService.find(userId);
+            innerUserName = order.getUserName();
+            return order;
+        }
+
+        @AutoTrans
+        public OrderDto findTranslated(long userId) {
+            OrderDto order = innerService.find(userId);
+            TransBoundary.current().trans(order, TransOptions.DEFAULT);
+            return order;
+        }
+
+        @AutoTrans
+        public OrderDto copy(long userId) {
+            OrderDto order = innerService.find(userId);
+            return new OrderDto(order.getUserId(), null, order.getUserName());
+        }
+    }
+
+    @RestController
+    public static class OrderController {
+
+        private final OuterService outerService;
+
+        volatile String userNameInHandler = "not called";
+
+        OrderController(OuterService outerService) {
+            this.outerService = outerService;
+        }
+
+        @AutoTrans
+        @GetMapping("/order")
+        public OrderDto order() {
+            OrderDto order = outerService.find(1L);
+            userNameInHandler = order.getUserName();
+            return order;
+        }
+
+        @AutoTrans
+        @GetMapping("/order/async")
+        public Callable<OrderDto> asyncOrder() {
+            return () -> new OrderDto(4L, null, null);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderDto {
+
+        private Long userId;
+
+        @Trans(transKey = "userId", transField = "name", repository = UserTransRepository.class)
+        private String userName;
+
+        /**
+         * 从内层结果复制出来的值(不是翻译字段)
+         */
+        private String remark;
+
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class UserVo {
+
+        private Long id;
+
+        private String name;
+
+    }
+
+    public static class UserTransRepository implements TransRepository {
+
+        final List<List<Object>> calls = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Map<Object, Object> getTransValueMap(List<Object> transIdList, Annotation transAnno) {
+            calls.add(new ArrayList<>(transIdList));
+            return transIdList.stream().collect(Collectors.toMap(Function.identity(), id -> new UserVo((Long) id, "用户" + id)));
+        }
+    }
+
+}